@@ -0,0 +1,116 @@
+package software.amazon.glue.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate adapts AIMD-style: every successful call adds a fixed amount to the
+ * rate, every throttled call halves it, down to a floor and at most once per cooldown so that a burst
+ * of concurrent throttles counts as a single signal. The bucket holds at most one second of tokens.
+ *
+ * Callers reserve a token and then wait, outside the lock, for the time returned by
+ * {@link #reserve}. The bucket may go into debt, so concurrent callers queue up behind each other at
+ * the current rate instead of spinning.
+ */
+final class AdaptiveTokenBucket {
+
+    static final double ADDITIVE_INCREASE = 0.2;
+    static final double MULTIPLICATIVE_DECREASE = 0.5;
+    static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long decreasedAt;
+
+    private long requests;
+    private long throttles;
+    private long waitedNanos;
+
+    /**
+     * @param minRate The lowest rate in calls per second.
+     * @param maxRate The highest rate in calls per second, also the initial rate.
+     * @param nanoClock A monotonic clock in nanoseconds.
+     */
+    AdaptiveTokenBucket(final double minRate, final double maxRate, final LongSupplier nanoClock) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.nanoClock = nanoClock;
+        this.rate = maxRate;
+        this.tokens = capacity();
+        this.refilledAt = nanoClock.getAsLong();
+        this.decreasedAt = refilledAt - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * Takes a token.
+     *
+     * @return How long the caller must wait before calling, in nanoseconds, 0 to call right away.
+     */
+    synchronized long reserve() {
+        refill();
+        requests++;
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        final long wait = (long) Math.ceil(-tokens / rate * NANOS_PER_SECOND);
+        waitedNanos += wait;
+        return wait;
+    }
+
+    synchronized void onSuccess() {
+        refill();
+        rate = Math.min(maxRate, rate + ADDITIVE_INCREASE);
+    }
+
+    /**
+     * @return Whether the rate was decreased; false during the cooldown or at the floor.
+     */
+    synchronized boolean onThrottle() {
+        throttles++;
+        final long now = nanoClock.getAsLong();
+        if (now - decreasedAt < DECREASE_COOLDOWN_NANOS) {
+            return false;
+        }
+        refill();
+        decreasedAt = now;
+        final double decreased = Math.max(minRate, rate * MULTIPLICATIVE_DECREASE);
+        final boolean changed = decreased < rate;
+        rate = decreased;
+        tokens = Math.min(tokens, capacity());
+        return changed;
+    }
+
+    /**
+     * @param reset Whether to reset the request, throttle and wait counters.
+     * @return The current rate and tokens, and the counters since the last reset.
+     */
+    synchronized GlueRateLimiter.FamilyState state(final boolean reset) {
+        refill();
+        final GlueRateLimiter.FamilyState state = new GlueRateLimiter.FamilyState(rate, tokens, requests, throttles,
+                TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+        if (reset) {
+            requests = 0;
+            throttles = 0;
+            waitedNanos = 0;
+        }
+        return state;
+    }
+
+    private double capacity() {
+        return Math.max(1, rate);
+    }
+
+    private void refill() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity(), tokens + (now - refilledAt) * rate / NANOS_PER_SECOND);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.glue.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Joins calls issued through {@code ProxyClient.injectCredentialsAndInvokeV2Async}. A handler starts
+ * its independent calls first and joins them afterwards, so their latencies overlap instead of adding
+ * up, while failures surface exactly as they would from the synchronous
+ * {@code injectCredentialsAndInvokeV2}: the service exception itself, not a CompletionException.
+ * Handlers that fan out blocking calls run them on a pool from {@link #newDaemonPool}.
+ */
+public final class AsyncCalls {
+
+    private AsyncCalls() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Waits for a call and returns its response.
+     *
+     * @param call The call.
+     * @param <T> The response type.
+     * @return The response.
+     * @throws RuntimeException The exception the call failed with, unwrapped.
+     */
+    public static <T> T join(final CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for every call to finish, so that none is left running once the handler returns, then
+     * throws the failure of the first failed call in argument order, if any. The responses are read
+     * with {@link #join} afterwards.
+     *
+     * @param calls The calls.
+     * @throws RuntimeException The exception of the first failed call, unwrapped.
+     */
+    public static void joinAll(final CompletableFuture<?>... calls) {
+        try {
+            CompletableFuture.allOf(calls).join();
+        } catch (final CompletionException e) {
+            // reported below, in argument order
+        }
+        for (CompletableFuture<?> call : calls) {
+            join(call);
+        }
+    }
+
+    /**
+     * Creates a fixed pool for a handler's concurrent blocking calls. Its threads are daemons, so an
+     * idle pool held in a static field never keeps the JVM from exiting.
+     *
+     * @param threads The number of threads, and so of calls in flight at a time.
+     * @param name The name of the pool's threads.
+     * @return The pool.
+     */
+    public static ExecutorService newDaemonPool(final int threads, final String name) {
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
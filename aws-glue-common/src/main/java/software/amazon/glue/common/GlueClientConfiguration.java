@@ -0,0 +1,72 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import java.time.Duration;
+
+/**
+ * The client configurations used by the handlers. Each configuration gets its own GlueClient per
+ * region from {@link GlueClients}, and the synchronous clients of all of them share the container's
+ * {@link GlueRateLimiter}.
+ */
+public enum GlueClientConfiguration {
+
+    /**
+     * The SDK's default retry policy.
+     */
+    DEFAULT {
+        @Override
+        ClientOverrideConfiguration.Builder configure(final ClientOverrideConfiguration.Builder builder) {
+            return builder;
+        }
+    },
+
+    /**
+     * Four retries with a long, jittered backoff on throttling, for handlers that issue many calls
+     * against the catalog of one account.
+     */
+    THROTTLING_BACKOFF {
+        @Override
+        ClientOverrideConfiguration.Builder configure(final ClientOverrideConfiguration.Builder builder) {
+            final BackoffStrategy throttlingBackoffStrategy = EqualJitterBackoffStrategy.builder()
+                    .baseDelay(Duration.ofMillis(2000)) // 1st retry is ~2 sec
+                    .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF) // default is 20s
+                    .build();
+            return builder
+                    .retryPolicy(RetryPolicy.builder()
+                            .numRetries(4)
+                            .retryCondition(RetryCondition.defaultRetryCondition())
+                            .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                            .build());
+        }
+    };
+
+    abstract ClientOverrideConfiguration.Builder configure(ClientOverrideConfiguration.Builder builder);
+
+    /**
+     * @return The configuration of a synchronous client, limited by the shared {@link GlueRateLimiter}
+     *         unless it is disabled.
+     */
+    ClientOverrideConfiguration overrideConfiguration() {
+        return overrideConfiguration(GlueRateLimiter.ENABLED);
+    }
+
+    /**
+     * @param rateLimited Whether the calls take tokens from the shared {@link GlueRateLimiter}. The
+     *                    limiter waits on the thread running the attempt, so it is only for clients
+     *                    whose calls block their caller anyway.
+     * @return The configuration.
+     */
+    ClientOverrideConfiguration overrideConfiguration(final boolean rateLimited) {
+        final ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        if (rateLimited) {
+            builder.addExecutionInterceptor(GlueRateLimiter.shared().interceptor());
+        }
+        return configure(builder).build();
+    }
+}
@@ -0,0 +1,156 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.GlueAsyncClientBuilder;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.GlueClientBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one GlueClient per region and {@link GlueClientConfiguration} for the lifetime of the
+ * container. GlueClient is thread-safe and its construction (endpoint resolution, interceptor and
+ * credential provider set-up) is far more expensive than a call, so handlers share these clients
+ * instead of building one per handler instance or per proxy call. All clients share the HTTP client
+ * of {@link GlueHttpClients}. GlueAsyncClients, for handlers that issue independent calls
+ * concurrently, are held the same way and share its asynchronous HTTP client.
+ *
+ * Clients are created on first use. Handlers call {@link #preload} from a static initializer, so
+ * that on Lambda, where AWS_REGION is always set, the client of the container's region is built
+ * during class loading rather than by the first invocation.
+ */
+public final class GlueClients {
+
+    public static final String REGION_VARIABLE = "AWS_REGION";
+
+    private static final Map<Key, GlueClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<Key, GlueAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+
+    private GlueClients() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param configuration The client configuration.
+     * @return The shared client of the container's region. Without AWS_REGION, the region is
+     *         resolved by the SDK's default region provider chain.
+     */
+    public static GlueClient get(final GlueClientConfiguration configuration) {
+        return get(System.getenv(REGION_VARIABLE), configuration);
+    }
+
+    /**
+     * @param region The region of the client, null for the SDK's default region provider chain.
+     * @param configuration The client configuration.
+     * @return The shared client of the region and configuration.
+     */
+    public static GlueClient get(final String region, final GlueClientConfiguration configuration) {
+        return CLIENTS.computeIfAbsent(new Key(blankToNull(region), Objects.requireNonNull(configuration)),
+                GlueClients::build);
+    }
+
+    /**
+     * Builds the client of the container's region now when that region is known, and does nothing
+     * otherwise, so that loading a handler class never fails in an environment without a region.
+     * When HTTP warm-up is enabled, also opens the first connection to that region's endpoint, or on
+     * a SnapStart function once the snapshot is restored.
+     *
+     * @param configuration The client configuration.
+     */
+    public static void preload(final GlueClientConfiguration configuration) {
+        final String region = blankToNull(System.getenv(REGION_VARIABLE));
+        if (region != null) {
+            get(configuration);
+            GlueHttpClients.warmUp(region);
+        }
+    }
+
+    /**
+     * @param configuration The client configuration.
+     * @return The shared asynchronous client of the container's region, for handlers that issue
+     *         independent calls concurrently. Requires netty-nio-client on the handler's classpath.
+     */
+    public static GlueAsyncClient getAsync(final GlueClientConfiguration configuration) {
+        return getAsync(System.getenv(REGION_VARIABLE), configuration);
+    }
+
+    /**
+     * @param region The region of the client, null for the SDK's default region provider chain.
+     * @param configuration The client configuration.
+     * @return The shared asynchronous client of the region and configuration.
+     */
+    public static GlueAsyncClient getAsync(final String region, final GlueClientConfiguration configuration) {
+        return ASYNC_CLIENTS.computeIfAbsent(new Key(blankToNull(region), Objects.requireNonNull(configuration)),
+                GlueClients::buildAsync);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #preload}.
+     *
+     * @param configuration The client configuration.
+     */
+    public static void preloadAsync(final GlueClientConfiguration configuration) {
+        if (blankToNull(System.getenv(REGION_VARIABLE)) != null) {
+            getAsync(configuration);
+        }
+    }
+
+    static int size() {
+        return CLIENTS.size();
+    }
+
+    private static GlueClient build(final Key key) {
+        final GlueClientBuilder builder = GlueClient.builder()
+                .httpClient(GlueHttpClients.shared())
+                .overrideConfiguration(key.configuration.overrideConfiguration());
+        if (key.region != null) {
+            builder.region(Region.of(key.region));
+        }
+        return builder.build();
+    }
+
+    private static GlueAsyncClient buildAsync(final Key key) {
+        // not rate limited: the limiter's wait would block the SDK's event loop and retry threads
+        final GlueAsyncClientBuilder builder = GlueAsyncClient.builder()
+                .httpClient(GlueHttpClients.sharedAsync())
+                .overrideConfiguration(key.configuration.overrideConfiguration(false));
+        if (key.region != null) {
+            builder.region(Region.of(key.region));
+        }
+        return builder.build();
+    }
+
+    private static String blankToNull(final String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    private static final class Key {
+        private final String region;
+        private final GlueClientConfiguration configuration;
+
+        private Key(final String region, final GlueClientConfiguration configuration) {
+            this.region = region;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return Objects.equals(region, key.region) && configuration == key.configuration;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(region, configuration);
+        }
+    }
+}
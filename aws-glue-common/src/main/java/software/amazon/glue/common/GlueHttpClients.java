@@ -0,0 +1,380 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.crt.TcpKeepAliveConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.regions.RegionMetadata;
+import software.amazon.cloudformation.AbstractWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Builds the HTTP client shared by every GlueClient of the container. The implementation and its
+ * connection pool are chosen once per container from environment variables; without any of them the
+ * wrapper's static Apache client is used as before.
+ *
+ * With GLUE_HTTP_WARM_UP=true, {@link GlueClients#preload} also opens a connection to the Glue
+ * endpoint of the container's region during class loading, so the first Glue call of the first
+ * invocation reuses a pooled connection instead of paying for the TCP and TLS handshakes. On a
+ * SnapStart function the warm-up waits for {@link #afterRestore}, since a connection opened before
+ * the snapshot is dead once the snapshot is restored.
+ */
+public final class GlueHttpClients {
+
+    public static final String IMPLEMENTATION_VARIABLE = "GLUE_HTTP_CLIENT";
+    public static final String MAX_CONNECTIONS_VARIABLE = "GLUE_HTTP_MAX_CONNECTIONS";
+    public static final String CONNECTION_TTL_VARIABLE = "GLUE_HTTP_CONNECTION_TTL_SECONDS";
+    public static final String CONNECTION_MAX_IDLE_VARIABLE = "GLUE_HTTP_CONNECTION_MAX_IDLE_SECONDS";
+    public static final String TCP_KEEP_ALIVE_VARIABLE = "GLUE_HTTP_TCP_KEEP_ALIVE";
+    public static final String WARM_UP_VARIABLE = "GLUE_HTTP_WARM_UP";
+
+    // set by Lambda, "snap-start" while a SnapStart function initializes for its snapshot
+    static final String INITIALIZATION_TYPE_VARIABLE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+
+    static final int DEFAULT_MAX_CONNECTIONS = 50;
+    static final Duration DEFAULT_CONNECTION_MAX_IDLE = Duration.ofSeconds(60);
+    static final Duration TCP_KEEP_ALIVE_INTERVAL = Duration.ofSeconds(30);
+    static final Duration TCP_KEEP_ALIVE_TIMEOUT = Duration.ofSeconds(10);
+    static final String DEFAULT_DOMAIN = "amazonaws.com";
+
+    /**
+     * The HTTP client implementations a container can select with GLUE_HTTP_CLIENT.
+     */
+    public enum Implementation {
+        /**
+         * The wrapper's static Apache client with the SDK's default pool. Pool settings are ignored.
+         */
+        WRAPPER,
+        /**
+         * A dedicated Apache client with the configured pool.
+         */
+        APACHE,
+        /**
+         * The JDK's HttpURLConnection, the cheapest to start. Connections are kept alive by the JDK's
+         * own cache, so the pool settings are ignored.
+         */
+        URL_CONNECTION,
+        /**
+         * The AWS Common Runtime client. Requires software.amazon.awssdk:aws-crt-client on the
+         * handler's classpath; without it the wrapper's client is used. The connection TTL is ignored.
+         */
+        CRT;
+
+        static Implementation parse(final String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return WRAPPER;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (final IllegalArgumentException e) {
+                return WRAPPER;
+            }
+        }
+    }
+
+    /**
+     * The HTTP client settings of a container.
+     */
+    public static final class Settings {
+        private final Implementation implementation;
+        private final int maxConnections;
+        private final Duration connectionTimeToLive;
+        private final Duration connectionMaxIdleTime;
+        private final boolean tcpKeepAlive;
+        private final boolean warmUp;
+
+        /**
+         * @param implementation The HTTP client implementation.
+         * @param maxConnections The maximum number of pooled connections.
+         * @param connectionTimeToLive The maximum lifetime of a pooled connection, null for no limit.
+         * @param connectionMaxIdleTime How long an idle connection stays in the pool.
+         * @param tcpKeepAlive Whether to send TCP keep-alive probes on idle connections.
+         * @param warmUp Whether to open a connection to Glue when the client is preloaded.
+         */
+        public Settings(final Implementation implementation, final int maxConnections, final Duration connectionTimeToLive,
+                        final Duration connectionMaxIdleTime, final boolean tcpKeepAlive, final boolean warmUp) {
+            this.implementation = implementation;
+            this.maxConnections = maxConnections;
+            this.connectionTimeToLive = connectionTimeToLive;
+            this.connectionMaxIdleTime = connectionMaxIdleTime;
+            this.tcpKeepAlive = tcpKeepAlive;
+            this.warmUp = warmUp;
+        }
+
+        /**
+         * @param implementation The HTTP client implementation.
+         * @return The implementation with the default pool settings and no warm-up.
+         */
+        public static Settings defaults(final Implementation implementation) {
+            return new Settings(implementation, DEFAULT_MAX_CONNECTIONS, null, DEFAULT_CONNECTION_MAX_IDLE, false, false);
+        }
+
+        static Settings fromEnvironment(final Function<String, String> environment) {
+            final long timeToLive = parsePositive(environment.apply(CONNECTION_TTL_VARIABLE), -1);
+            return new Settings(
+                    Implementation.parse(environment.apply(IMPLEMENTATION_VARIABLE)),
+                    (int) parsePositive(environment.apply(MAX_CONNECTIONS_VARIABLE), DEFAULT_MAX_CONNECTIONS),
+                    timeToLive > 0 ? Duration.ofSeconds(timeToLive) : null,
+                    Duration.ofSeconds(parsePositive(environment.apply(CONNECTION_MAX_IDLE_VARIABLE),
+                            DEFAULT_CONNECTION_MAX_IDLE.getSeconds())),
+                    parseFlag(environment.apply(TCP_KEEP_ALIVE_VARIABLE)),
+                    parseFlag(environment.apply(WARM_UP_VARIABLE)));
+        }
+
+        public Implementation getImplementation() {
+            return implementation;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public Duration getConnectionTimeToLive() {
+            return connectionTimeToLive;
+        }
+
+        public Duration getConnectionMaxIdleTime() {
+            return connectionMaxIdleTime;
+        }
+
+        public boolean isTcpKeepAlive() {
+            return tcpKeepAlive;
+        }
+
+        public boolean isWarmUp() {
+            return warmUp;
+        }
+    }
+
+    private static final Settings SETTINGS = Settings.fromEnvironment(System::getenv);
+    private static final AtomicBoolean WARMED_UP = new AtomicBoolean();
+    private static final boolean SNAP_START = isSnapStart(System::getenv);
+    private static final AtomicBoolean RESTORED = new AtomicBoolean();
+    private static final AtomicReference<String> DEFERRED_WARM_UP_REGION = new AtomicReference<>();
+
+    private GlueHttpClients() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @return The settings of the container, read once from the environment.
+     */
+    public static Settings settings() {
+        return SETTINGS;
+    }
+
+    /**
+     * @return The HTTP client shared by the container's GlueClients, built on first use.
+     */
+    public static SdkHttpClient shared() {
+        return Shared.CLIENT;
+    }
+
+    /**
+     * @return The asynchronous HTTP client shared by the container's GlueAsyncClients, built on first
+     *         use. It is always the Netty client, with the configured pool.
+     */
+    public static SdkAsyncHttpClient sharedAsync() {
+        return SharedAsync.CLIENT;
+    }
+
+    /**
+     * Builds an asynchronous Netty HTTP client. The caller closes it.
+     *
+     * @param settings The client settings; the implementation is ignored.
+     * @return The HTTP client.
+     */
+    public static SdkAsyncHttpClient buildAsync(final Settings settings) {
+        return Netty.build(settings);
+    }
+
+    /**
+     * Builds an HTTP client. Clients other than the wrapper's must be closed by the caller.
+     *
+     * @param settings The client settings.
+     * @return The HTTP client.
+     */
+    public static SdkHttpClient build(final Settings settings) {
+        switch (settings.getImplementation()) {
+            case APACHE:
+                final ApacheHttpClient.Builder apache = ApacheHttpClient.builder()
+                        .maxConnections(settings.getMaxConnections())
+                        .connectionMaxIdleTime(settings.getConnectionMaxIdleTime())
+                        .tcpKeepAlive(settings.isTcpKeepAlive());
+                if (settings.getConnectionTimeToLive() != null) {
+                    apache.connectionTimeToLive(settings.getConnectionTimeToLive());
+                }
+                return apache.build();
+            case URL_CONNECTION:
+                return UrlConnectionHttpClient.builder().build();
+            case CRT:
+                try {
+                    return Crt.build(settings);
+                } catch (final NoClassDefFoundError e) {
+                    new HandlerLogger(System.out::println).warn("HttpClientUnavailable",
+                            "Implementation", settings.getImplementation(), "Error", e.toString());
+                    return AbstractWrapper.HTTP_CLIENT;
+                }
+            default:
+                return AbstractWrapper.HTTP_CLIENT;
+        }
+    }
+
+    /**
+     * Opens a connection to the Glue endpoint of the region through the shared client, once per
+     * container and only when warm-up is enabled. The request is unsigned and its response is
+     * discarded; only the pooled connection it leaves behind matters. Failures are ignored, since the
+     * first real call simply connects itself. While a SnapStart function initializes for its
+     * snapshot, the warm-up is deferred to {@link #afterRestore}.
+     *
+     * @param region The region of the endpoint.
+     * @return Whether a connection was opened.
+     */
+    public static boolean warmUp(final String region) {
+        if (!SETTINGS.isWarmUp() || region == null) {
+            return false;
+        }
+        if (SNAP_START && !RESTORED.get()) {
+            DEFERRED_WARM_UP_REGION.compareAndSet(null, region);
+            return false;
+        }
+        if (!WARMED_UP.compareAndSet(false, true)) {
+            return false;
+        }
+        final long start = System.nanoTime();
+        final boolean connected = warmUp(shared(), endpoint(region));
+        new HandlerLogger(System.out::println).info("HttpClientWarmedUp", "Implementation", SETTINGS.getImplementation(),
+                "Region", region, "Connected", connected, "Millis", (System.nanoTime() - start) / 1_000_000);
+        return connected;
+    }
+
+    /**
+     * Runs the warm-up deferred while a SnapStart function initialized for its snapshot, and lets later
+     * warm-ups run right away. Called by {@link HandlerPriming} once the snapshot is restored.
+     *
+     * @return Whether a connection was opened.
+     */
+    public static boolean afterRestore() {
+        RESTORED.set(true);
+        final String region = DEFERRED_WARM_UP_REGION.getAndSet(null);
+        return region != null && warmUp(region);
+    }
+
+    static boolean isSnapStart(final Function<String, String> environment) {
+        return "snap-start".equals(environment.apply(INITIALIZATION_TYPE_VARIABLE));
+    }
+
+    static boolean warmUp(final SdkHttpClient client, final URI endpoint) {
+        final SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                .method(SdkHttpMethod.GET)
+                .uri(endpoint)
+                .encodedPath("/")
+                .build();
+        try {
+            final HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                    .request(request)
+                    .build())
+                    .call();
+            final Optional<AbortableInputStream> body = response.responseBody();
+            if (body.isPresent()) {
+                // reading the body to its end hands the connection back to the pool
+                try (InputStream stream = body.get()) {
+                    final byte[] buffer = new byte[1024];
+                    while (stream.read(buffer) != -1) {
+                        // discard
+                    }
+                }
+            }
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param region The region id, for example "us-east-1".
+     * @return The Glue endpoint of the region, for example "https://glue.us-east-1.amazonaws.com".
+     */
+    static URI endpoint(final String region) {
+        final RegionMetadata metadata = Region.of(region).metadata();
+        final String domain = metadata != null ? metadata.domain() : DEFAULT_DOMAIN;
+        return URI.create("https://glue." + region + "." + domain);
+    }
+
+    private static long parsePositive(final String value, final long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final long parsed = Long.parseLong(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static boolean parseFlag(final String value) {
+        return value != null && "true".equals(value.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static final class Shared {
+        private static final SdkHttpClient CLIENT = build(SETTINGS);
+    }
+
+    private static final class SharedAsync {
+        private static final SdkAsyncHttpClient CLIENT = buildAsync(SETTINGS);
+    }
+
+    /**
+     * Kept apart so that the Netty classes are only resolved by modules that use GlueAsyncClient and
+     * ship netty-nio-client.
+     */
+    private static final class Netty {
+        private static SdkAsyncHttpClient build(final Settings settings) {
+            final NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder()
+                    .maxConcurrency(settings.getMaxConnections())
+                    .connectionMaxIdleTime(settings.getConnectionMaxIdleTime())
+                    .tcpKeepAlive(settings.isTcpKeepAlive());
+            if (settings.getConnectionTimeToLive() != null) {
+                builder.connectionTimeToLive(settings.getConnectionTimeToLive());
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Kept apart so that the CRT classes are only resolved when the CRT client is selected.
+     */
+    private static final class Crt {
+        private static SdkHttpClient build(final Settings settings) {
+            final AwsCrtHttpClient.Builder builder = AwsCrtHttpClient.builder()
+                    .maxConcurrency(settings.getMaxConnections())
+                    .connectionMaxIdleTime(settings.getConnectionMaxIdleTime());
+            if (settings.isTcpKeepAlive()) {
+                builder.tcpKeepAliveConfiguration(TcpKeepAliveConfiguration.builder()
+                        .keepAliveInterval(TCP_KEEP_ALIVE_INTERVAL)
+                        .keepAliveTimeout(TCP_KEEP_ALIVE_TIMEOUT)
+                        .build());
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side rate limiter shared by every Glue client of the container. Each API family, the
+ * resource an operation acts on and whether it reads or writes (for example "Table.Read" for
+ * GetTable and GetTables, "Partition.Write" for BatchCreatePartition), has its own
+ * {@link AdaptiveTokenBucket}. A family starts at the maximum rate and backs off multiplicatively
+ * when Glue answers with ThrottlingException or TooManyRequestsException, then recovers additively
+ * as calls succeed, so concurrent deployments converge on what the account's TPS limits allow
+ * instead of spending their retries on throttles.
+ *
+ * The limiter is attached to the synchronous clients of {@link GlueClients} through
+ * {@link GlueClientConfiguration} unless GLUE_RATE_LIMITER is "false". Asynchronous clients are not
+ * limited, since a wait would block the SDK threads completing their calls. Its state is available from {@link #snapshot} and is published
+ * as CloudWatch embedded metric format records on standard output, once a minute and whenever a
+ * family's rate is decreased.
+ */
+public final class GlueRateLimiter {
+
+    public static final String ENABLED_VARIABLE = "GLUE_RATE_LIMITER";
+    public static final String MAX_RATE_VARIABLE = "GLUE_RATE_LIMITER_MAX_TPS";
+    public static final String MIN_RATE_VARIABLE = "GLUE_RATE_LIMITER_MIN_TPS";
+
+    public static final String METRICS_NAMESPACE = "GlueResourceHandlers";
+
+    static final boolean ENABLED = !"false".equals(String.valueOf(System.getenv(ENABLED_VARIABLE)).trim().toLowerCase(Locale.ROOT));
+    static final double DEFAULT_MAX_RATE = 50;
+    static final double DEFAULT_MIN_RATE = 1;
+    static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    static final long METRICS_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final Set<String> THROTTLING_ERROR_CODES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("ThrottlingException", "TooManyRequestsException")));
+    private static final Set<String> READ_VERBS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("Get", "List", "Search", "Query")));
+    // longest first, so that "PartitionIndex" wins over "Partition"
+    private static final String[] RESOURCES = {
+        "ColumnStatistics", "PartitionIndex", "Partition", "TableVersion", "Table", "Database", "SchemaVersion",
+        "Schema", "Registry"
+    };
+
+    private static final GlueRateLimiter SHARED = new GlueRateLimiter(
+            parseRate(System.getenv(MIN_RATE_VARIABLE), DEFAULT_MIN_RATE),
+            parseRate(System.getenv(MAX_RATE_VARIABLE), DEFAULT_MAX_RATE),
+            System::nanoTime,
+            GlueRateLimiter::sleep,
+            System.out::println);
+
+    /**
+     * Waits before an attempt; stubbed in tests.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    /**
+     * The state of one API family.
+     */
+    public static final class FamilyState {
+        private final double rate;
+        private final double tokens;
+        private final long requests;
+        private final long throttles;
+        private final long waitedMillis;
+
+        FamilyState(final double rate, final double tokens, final long requests, final long throttles, final long waitedMillis) {
+            this.rate = rate;
+            this.tokens = tokens;
+            this.requests = requests;
+            this.throttles = throttles;
+            this.waitedMillis = waitedMillis;
+        }
+
+        /**
+         * @return The current rate in calls per second.
+         */
+        public double getRate() {
+            return rate;
+        }
+
+        /**
+         * @return The tokens available now, negative while callers are queued.
+         */
+        public double getTokens() {
+            return tokens;
+        }
+
+        /**
+         * @return The attempts made since metrics were last published.
+         */
+        public long getRequests() {
+            return requests;
+        }
+
+        /**
+         * @return The throttled attempts since metrics were last published.
+         */
+        public long getThrottles() {
+            return throttles;
+        }
+
+        /**
+         * @return The time attempts waited for a token since metrics were last published.
+         */
+        public long getWaitedMillis() {
+            return waitedMillis;
+        }
+    }
+
+    private final double minRate;
+    private final double maxRate;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    private final Consumer<String> metricsSink;
+    private final Map<String, AdaptiveTokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong publishedAt;
+    private final ExecutionInterceptor interceptor;
+
+    GlueRateLimiter(final double minRate, final double maxRate, final LongSupplier nanoClock, final Sleeper sleeper,
+                    final Consumer<String> metricsSink) {
+        this.minRate = Math.min(minRate, maxRate);
+        this.maxRate = maxRate;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.metricsSink = metricsSink;
+        this.publishedAt = new AtomicLong(nanoClock.getAsLong());
+        this.interceptor = new RateLimitingInterceptor(this);
+    }
+
+    /**
+     * @return The limiter of the container.
+     */
+    public static GlueRateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return The SDK interceptor applying this limiter to a client's calls.
+     */
+    public ExecutionInterceptor interceptor() {
+        return interceptor;
+    }
+
+    /**
+     * Takes a token of the family, waiting for it at the family's current rate, but never longer than
+     * ten seconds so that a queue built up during throttling cannot exhaust a handler's time.
+     *
+     * @param family The API family, see {@link #family}.
+     */
+    public void acquire(final String family) {
+        final long wait = Math.min(bucket(family).reserve(), MAX_WAIT_NANOS);
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(wait);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void onSuccess(final String family) {
+        bucket(family).onSuccess();
+    }
+
+    void onThrottle(final String family) {
+        if (bucket(family).onThrottle()) {
+            publishMetrics();
+        }
+    }
+
+    /**
+     * @return The state of every family seen so far, by family name.
+     */
+    public Map<String, FamilyState> snapshot() {
+        final Map<String, FamilyState> snapshot = new TreeMap<>();
+        buckets.forEach((family, bucket) -> snapshot.put(family, bucket.state(false)));
+        return snapshot;
+    }
+
+    /**
+     * Publishes one embedded metric format record per family, with the rate and the counters since
+     * the previous publication, and resets the counters.
+     */
+    public void publishMetrics() {
+        publishedAt.set(nanoClock.getAsLong());
+        final long timestamp = System.currentTimeMillis();
+        new TreeMap<>(buckets).forEach((family, bucket) -> metricsSink.accept(metricRecord(timestamp, family, bucket.state(true))));
+    }
+
+    void publishMetricsIfDue() {
+        final long last = publishedAt.get();
+        if (nanoClock.getAsLong() - last >= METRICS_INTERVAL_NANOS && publishedAt.compareAndSet(last, nanoClock.getAsLong())) {
+            publishMetrics();
+        }
+    }
+
+    /**
+     * @param operation The Glue operation name, for example "BatchGetPartition".
+     * @return The API family of the operation, for example "Partition.Read".
+     */
+    static String family(final String operation) {
+        if (operation == null) {
+            return "Other.Write";
+        }
+        final String unbatched = operation.startsWith("Batch") ? operation.substring("Batch".length()) : operation;
+        int verbEnd = 1;
+        while (verbEnd < unbatched.length() && Character.isLowerCase(unbatched.charAt(verbEnd))) {
+            verbEnd++;
+        }
+        final String access = READ_VERBS.contains(unbatched.substring(0, verbEnd)) ? "Read" : "Write";
+        final String subject = unbatched.substring(verbEnd);
+        for (String resource : RESOURCES) {
+            if (subject.startsWith(resource)) {
+                return resource + "." + access;
+            }
+        }
+        return "Other." + access;
+    }
+
+    static boolean isThrottlingErrorCode(final String errorCode) {
+        return errorCode != null && THROTTLING_ERROR_CODES.contains(errorCode.trim());
+    }
+
+    static String metricRecord(final long timestamp, final String family, final FamilyState state) {
+        return String.format(Locale.ROOT,
+                "{\"_aws\":{\"Timestamp\":%d,\"CloudWatchMetrics\":[{\"Namespace\":\"%s\",\"Dimensions\":[[\"ApiFamily\"]],"
+                        + "\"Metrics\":[{\"Name\":\"RateLimit\",\"Unit\":\"Count/Second\"},{\"Name\":\"Requests\",\"Unit\":\"Count\"},"
+                        + "{\"Name\":\"Throttles\",\"Unit\":\"Count\"},{\"Name\":\"RateLimitWait\",\"Unit\":\"Milliseconds\"}]}]},"
+                        + "\"ApiFamily\":\"%s\",\"RateLimit\":%.2f,\"Requests\":%d,\"Throttles\":%d,\"RateLimitWait\":%d}",
+                timestamp, METRICS_NAMESPACE, family, state.getRate(), state.getRequests(), state.getThrottles(),
+                state.getWaitedMillis());
+    }
+
+    private AdaptiveTokenBucket bucket(final String family) {
+        return buckets.computeIfAbsent(family, key -> new AdaptiveTokenBucket(minRate, maxRate, nanoClock));
+    }
+
+    private static double parseRate(final String value, final double defaultRate) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultRate;
+        }
+        try {
+            final double rate = Double.parseDouble(value.trim());
+            return rate > 0 ? rate : defaultRate;
+        } catch (final NumberFormatException e) {
+            return defaultRate;
+        }
+    }
+
+    private static void sleep(final long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+}
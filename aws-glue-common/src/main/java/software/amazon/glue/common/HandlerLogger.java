@@ -0,0 +1,173 @@
+package software.amazon.glue.common;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Structured, size-capped logging facade over the CloudFormation handler {@link Logger}.
+ *
+ * Every record is a single JSON line made of a level, an event name and key/value pairs. Nothing is
+ * formatted unless the record's level is enabled, and values passed as a {@link Supplier} are only
+ * evaluated then, so payload dumps cost nothing when debug logging is off. Values longer than the
+ * size cap are truncated.
+ *
+ * The level is read once from the GLUE_HANDLER_LOG_LEVEL environment variable and defaults to INFO.
+ * Since {@link #DEBUG_ENABLED} is a constant for the lifetime of the container, debug-only blocks
+ * guarded by it are removed by the JIT when debug logging is off.
+ */
+public class HandlerLogger {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    public static final String LEVEL_VARIABLE = "GLUE_HANDLER_LOG_LEVEL";
+    public static final String MAX_VALUE_LENGTH_VARIABLE = "GLUE_HANDLER_LOG_MAX_VALUE_LENGTH";
+
+    static final Level DEFAULT_LEVEL = Level.INFO;
+    static final int DEFAULT_MAX_VALUE_LENGTH = 2048;
+
+    public static final Level LEVEL = parseLevel(System.getenv(LEVEL_VARIABLE));
+    public static final boolean DEBUG_ENABLED = LEVEL == Level.DEBUG;
+
+    private static final int MAX_VALUE_LENGTH = parseMaxValueLength(System.getenv(MAX_VALUE_LENGTH_VARIABLE));
+
+    private final Logger logger;
+    private final Level level;
+    private final int maxValueLength;
+
+    public HandlerLogger(final Logger logger) {
+        this(logger, LEVEL, MAX_VALUE_LENGTH);
+    }
+
+    HandlerLogger(final Logger logger, final Level level, final int maxValueLength) {
+        this.logger = logger;
+        this.level = level;
+        this.maxValueLength = maxValueLength;
+    }
+
+    public boolean isEnabled(final Level recordLevel) {
+        return recordLevel.compareTo(level) >= 0;
+    }
+
+    public void debug(final String event, final Object... keyValues) {
+        log(Level.DEBUG, event, keyValues);
+    }
+
+    public void info(final String event, final Object... keyValues) {
+        log(Level.INFO, event, keyValues);
+    }
+
+    public void warn(final String event, final Object... keyValues) {
+        log(Level.WARN, event, keyValues);
+    }
+
+    public void error(final String event, final Object... keyValues) {
+        log(Level.ERROR, event, keyValues);
+    }
+
+    /**
+     * Emits one record if its level is enabled.
+     *
+     * @param recordLevel The level of the record.
+     * @param event A short, constant name of what happened.
+     * @param keyValues Alternating keys and values. A value may be a {@link Supplier}, which is only
+     *                  evaluated when the record is emitted.
+     */
+    public void log(final Level recordLevel, final String event, final Object... keyValues) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+
+        final StringBuilder record = new StringBuilder(64 + 32 * keyValues.length);
+        record.append('{');
+        appendField(record, "level", recordLevel.name());
+        record.append(',');
+        appendField(record, "event", event);
+        for (int i = 0; i < keyValues.length; i += 2) {
+            final Object value = i + 1 < keyValues.length ? keyValues[i + 1] : null;
+            record.append(',');
+            appendField(record, String.valueOf(keyValues[i]), render(value));
+        }
+        record.append('}');
+        logger.log(record.toString());
+    }
+
+    private String render(final Object value) {
+        final Object resolved = value instanceof Supplier ? ((Supplier<?>) value).get() : value;
+        if (resolved == null) {
+            return null;
+        }
+        final String text = resolved.toString();
+        if (text.length() <= maxValueLength) {
+            return text;
+        }
+        return text.substring(0, maxValueLength) + "...[truncated " + (text.length() - maxValueLength) + " chars]";
+    }
+
+    private static void appendField(final StringBuilder record, final String key, final String value) {
+        appendString(record, key);
+        record.append(':');
+        if (value == null) {
+            record.append("null");
+        } else {
+            appendString(record, value);
+        }
+    }
+
+    private static void appendString(final StringBuilder record, final String value) {
+        record.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    record.append("\\\"");
+                    break;
+                case '\\':
+                    record.append("\\\\");
+                    break;
+                case '\n':
+                    record.append("\\n");
+                    break;
+                case '\r':
+                    record.append("\\r");
+                    break;
+                case '\t':
+                    record.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        record.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        record.append(c);
+                    }
+            }
+        }
+        record.append('"');
+    }
+
+    static Level parseLevel(final String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_LEVEL;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return DEFAULT_LEVEL;
+        }
+    }
+
+    static int parseMaxValueLength(final String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_MAX_VALUE_LENGTH;
+        }
+        try {
+            final int length = Integer.parseInt(value.trim());
+            return length > 0 ? length : DEFAULT_MAX_VALUE_LENGTH;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_MAX_VALUE_LENGTH;
+        }
+    }
+}
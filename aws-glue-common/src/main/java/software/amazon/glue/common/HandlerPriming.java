@@ -0,0 +1,158 @@
+package software.amazon.glue.common;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checkpoint hook that warms a handler module before a SnapStart (CRaC) snapshot is taken, so that
+ * restored containers start with the SDK marshallers, the Jackson bindings of the resource model and
+ * the translator paths already loaded and compiled.
+ *
+ * Each module registers its steps once, from a static initializer. Before the checkpoint, every step
+ * runs against a GlueClient whose HTTP client answers with the module's canned responses, through an
+ * AmazonWebServicesClientProxy with synthetic credentials, so priming never makes a network call.
+ * Priming is best effort: a failing step is logged and the next one still runs. On a JVM without
+ * CRaC support the registration is a no-op. Setting GLUE_HANDLER_PRIMING to "false" skips priming.
+ */
+public final class HandlerPriming implements Resource {
+
+    public static final String ENABLED_VARIABLE = "GLUE_HANDLER_PRIMING";
+
+    public static final String PRIMING_REGION = "us-east-1";
+    public static final String PRIMING_ACCOUNT_ID = "123456789012";
+
+    static final boolean ENABLED = !"false".equals(String.valueOf(System.getenv(ENABLED_VARIABLE)).trim().toLowerCase(Locale.ROOT));
+
+    /**
+     * One priming step, typically a handler invocation against the canned responses.
+     */
+    @FunctionalInterface
+    public interface Step {
+        void prime(AmazonWebServicesClientProxy proxy, ProxyClient<GlueClient> proxyClient, Logger logger) throws Exception;
+    }
+
+    // CRaC only keeps weak references to registered resources
+    private static final Map<String, HandlerPriming> REGISTERED = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Map<String, String> responses;
+    private final List<Step> steps;
+
+    HandlerPriming(final String name, final Map<String, String> responses, final List<Step> steps) {
+        this.name = name;
+        this.responses = Collections.unmodifiableMap(new HashMap<>(responses));
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+    }
+
+    /**
+     * Registers the priming of a module with the global CRaC context. Registering the same name again
+     * returns the first registration.
+     *
+     * @param name The resource type name of the module.
+     * @param responses Canned JSON response bodies by Glue operation name, for example "GetTable". A
+     *                  body such as {"__type":"EntityNotFoundException"} is returned as that error.
+     * @param steps The priming steps, run in order.
+     * @return The registered priming.
+     */
+    public static HandlerPriming register(final String name, final Map<String, String> responses, final Step... steps) {
+        return REGISTERED.computeIfAbsent(name, key -> {
+            final HandlerPriming priming = new HandlerPriming(key, responses, Arrays.asList(steps));
+            Core.getGlobalContext().register(priming);
+            return priming;
+        });
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        if (ENABLED) {
+            prime();
+        }
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        // the priming client is closed; the HTTP warm-up skipped before the snapshot, whose
+        // connection would not have survived it, connects now
+        GlueHttpClients.afterRestore();
+    }
+
+    /**
+     * Runs every step once.
+     *
+     * @return The number of steps that completed without an exception.
+     */
+    public int prime() {
+        final HandlerLogger log = new HandlerLogger(System.out::println);
+        final long startedAt = System.nanoTime();
+        final LoggerProxy logger = new LoggerProxy();
+        int completed = 0;
+        try (GlueClient client = primingClient(responses)) {
+            final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+                    logger,
+                    new Credentials("priming", "priming", "priming"),
+                    () -> Duration.ofMinutes(15).toMillis());
+            final ProxyClient<GlueClient> proxyClient = proxy.newProxy(() -> client);
+            for (int i = 0; i < steps.size(); i++) {
+                try {
+                    steps.get(i).prime(proxy, proxyClient, logger);
+                    completed++;
+                } catch (final Exception e) {
+                    // the step still loaded and ran everything up to the failure
+                    log.warn("PrimingStepFailed", "Name", name, "Step", i, "Error", e.toString());
+                }
+            }
+        }
+        log.info("HandlerPrimed", "Name", name, "Steps", steps.size(), "Completed", completed,
+                "DurationMillis", Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return completed;
+    }
+
+    /**
+     * @param responses Canned JSON response bodies by Glue operation name.
+     * @return A GlueClient that answers with the canned responses and never calls the network. Its
+     *         calls do not take tokens from the shared {@link GlueRateLimiter}.
+     */
+    public static GlueClient primingClient(final Map<String, String> responses) {
+        return GlueClient.builder()
+                .httpClient(new PrimingHttpClient(responses))
+                .region(Region.of(PRIMING_REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .overrideConfiguration(GlueClientConfiguration.DEFAULT.overrideConfiguration(false))
+                .build();
+    }
+
+    /**
+     * @param responses Canned JSON response bodies by Glue operation name.
+     * @return A GlueAsyncClient that answers with the canned responses and never calls the network,
+     *         for steps priming a handler's asynchronous calls. The caller closes it.
+     */
+    public static GlueAsyncClient primingAsyncClient(final Map<String, String> responses) {
+        return GlueAsyncClient.builder()
+                .httpClient(new PrimingAsyncHttpClient(responses))
+                .region(Region.of(PRIMING_REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .overrideConfiguration(GlueClientConfiguration.DEFAULT.overrideConfiguration(false))
+                .build();
+    }
+}
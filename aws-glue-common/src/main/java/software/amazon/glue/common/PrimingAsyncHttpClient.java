@@ -0,0 +1,87 @@
+package software.amazon.glue.common;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link PrimingHttpClient}, for priming the handler paths that call
+ * Glue through a GlueAsyncClient. The request body is consumed, then the canned response is
+ * published as a single buffer on the calling thread.
+ */
+class PrimingAsyncHttpClient implements SdkAsyncHttpClient {
+
+    private final Map<String, String> responses;
+
+    PrimingAsyncHttpClient(final Map<String, String> responses) {
+        this.responses = responses;
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(final AsyncExecuteRequest request) {
+        final String response = PrimingHttpClient.response(responses, request.request());
+        final CompletableFuture<Void> executed = new CompletableFuture<>();
+        request.requestContentPublisher().subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final ByteBuffer buffer) {
+                // the SDK computes the payload checksum while the body is read
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                request.responseHandler().onError(error);
+                executed.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                respond(request.responseHandler(), response);
+                executed.complete(null);
+            }
+        });
+        return executed;
+    }
+
+    private static void respond(final SdkAsyncHttpResponseHandler handler, final String response) {
+        final byte[] body = response.getBytes(StandardCharsets.UTF_8);
+        handler.onHeaders(PrimingHttpClient.headers(response, body.length));
+        handler.onStream(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(final long count) {
+                if (!done && count > 0) {
+                    done = true;
+                    subscriber.onNext(ByteBuffer.wrap(body));
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        }));
+    }
+
+    @Override
+    public String clientName() {
+        return "Priming";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.util.Optional;
+
+/**
+ * Applies a {@link GlueRateLimiter} to every attempt of a Glue call. A token of the call's API family
+ * is taken before each attempt, retries included, and each attempt's response feeds the limiter: a
+ * throttling response (HTTP 429, or an x-amzn-ErrorType naming a throttling error) decreases the
+ * family's rate, a successful one increases it. When a throttled call fails without a throttling
+ * response having been seen, the final exception is used instead.
+ */
+final class RateLimitingInterceptor implements ExecutionInterceptor {
+
+    static final String ERROR_TYPE_HEADER = "x-amzn-ErrorType";
+
+    private static final ExecutionAttribute<Boolean> THROTTLED = new ExecutionAttribute<>("GlueRateLimiterThrottled");
+
+    private final GlueRateLimiter limiter;
+
+    RateLimitingInterceptor(final GlueRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        limiter.acquire(family(executionAttributes));
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context, final ExecutionAttributes executionAttributes) {
+        final SdkHttpResponse response = context.httpResponse();
+        if (isThrottled(response)) {
+            executionAttributes.putAttribute(THROTTLED, Boolean.TRUE);
+            limiter.onThrottle(family(executionAttributes));
+        } else if (response.isSuccessful()) {
+            limiter.onSuccess(family(executionAttributes));
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        limiter.publishMetricsIfDue();
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        if (!Boolean.TRUE.equals(executionAttributes.getAttribute(THROTTLED)) && isThrottling(context.exception())) {
+            limiter.onThrottle(family(executionAttributes));
+        }
+        limiter.publishMetricsIfDue();
+    }
+
+    static boolean isThrottled(final SdkHttpResponse response) {
+        if (response.statusCode() == 429) {
+            return true;
+        }
+        final Optional<String> errorType = response.firstMatchingHeader(ERROR_TYPE_HEADER);
+        if (!errorType.isPresent()) {
+            return false;
+        }
+        // the error code, optionally followed by a colon and the error's namespace
+        final int separator = errorType.get().indexOf(':');
+        return GlueRateLimiter.isThrottlingErrorCode(
+                separator < 0 ? errorType.get() : errorType.get().substring(0, separator));
+    }
+
+    static boolean isThrottling(final Throwable exception) {
+        if (!(exception instanceof AwsServiceException)) {
+            return false;
+        }
+        final AwsServiceException serviceException = (AwsServiceException) exception;
+        return serviceException.isThrottlingException()
+                || (serviceException.awsErrorDetails() != null
+                && GlueRateLimiter.isThrottlingErrorCode(serviceException.awsErrorDetails().errorCode()));
+    }
+
+    private static String family(final ExecutionAttributes executionAttributes) {
+        return GlueRateLimiter.family(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncCallsTest {
+
+    @Test
+    public void join_Completed_ReturnsResponse() {
+        assertThat(AsyncCalls.join(CompletableFuture.completedFuture("response"))).isEqualTo("response");
+    }
+
+    @Test
+    public void join_Failed_ThrowsUnwrappedException() {
+        final IllegalStateException failure = new IllegalStateException("denied");
+
+        assertThatThrownBy(() -> AsyncCalls.join(failed(failure))).isSameAs(failure);
+    }
+
+    @Test
+    public void join_FailedWithCheckedException_ThrowsCompletionException() {
+        assertThatThrownBy(() -> AsyncCalls.join(failed(new Exception("checked"))))
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("checked");
+    }
+
+    @Test
+    public void joinAll_WaitsForEveryCallAndThrowsFirstFailure() {
+        final IllegalStateException first = new IllegalStateException("first");
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        final AtomicBoolean slowCompleted = new AtomicBoolean();
+        new Thread(() -> {
+            sleep();
+            slowCompleted.set(true);
+            slow.complete("slow");
+        }).start();
+
+        assertThatThrownBy(() -> AsyncCalls.joinAll(slow, failed(first), failed(new IllegalArgumentException("second"))))
+                .isSameAs(first);
+        assertThat(slowCompleted.get()).isTrue();
+    }
+
+    @Test
+    public void joinAll_AllCompleted_Returns() {
+        final CompletableFuture<String> schema = CompletableFuture.completedFuture("schema");
+        final CompletableFuture<Integer> version = CompletableFuture.completedFuture(1);
+
+        AsyncCalls.joinAll(schema, version);
+
+        assertThat(AsyncCalls.join(schema)).isEqualTo("schema");
+        assertThat(AsyncCalls.join(version)).isEqualTo(1);
+    }
+
+    @Test
+    public void newDaemonPool_RunsCallsOnNamedDaemonThreads() {
+        final ExecutorService pool = AsyncCalls.newDaemonPool(2, "glue-test");
+        try {
+            final Thread thread = AsyncCalls.join(CompletableFuture.supplyAsync(Thread::currentThread, pool));
+
+            assertThat(thread.getName()).isEqualTo("glue-test");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(final Throwable failure) {
+        final CompletableFuture<T> call = new CompletableFuture<>();
+        call.completeExceptionally(failure);
+        return call;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
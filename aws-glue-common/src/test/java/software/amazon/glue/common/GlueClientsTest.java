@@ -0,0 +1,72 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.GlueClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlueClientsTest {
+
+    @Test
+    public void get_SameRegionAndConfiguration_ReturnsSameClient() {
+        final GlueClient client = GlueClients.get("us-east-1", GlueClientConfiguration.DEFAULT);
+
+        assertThat(GlueClients.get("us-east-1", GlueClientConfiguration.DEFAULT)).isSameAs(client);
+        assertThat(GlueClients.get(" us-east-1 ", GlueClientConfiguration.DEFAULT)).isSameAs(client);
+        assertThat(client.serviceClientConfiguration().region()).isEqualTo(Region.US_EAST_1);
+    }
+
+    @Test
+    public void get_OtherRegionOrConfiguration_ReturnsOtherClient() {
+        final GlueClient client = GlueClients.get("us-west-2", GlueClientConfiguration.DEFAULT);
+
+        assertThat(GlueClients.get("eu-west-1", GlueClientConfiguration.DEFAULT)).isNotSameAs(client);
+        assertThat(GlueClients.get("us-west-2", GlueClientConfiguration.THROTTLING_BACKOFF)).isNotSameAs(client);
+    }
+
+    @Test
+    public void getAsync_SameRegionAndConfiguration_ReturnsSameClient() {
+        final GlueAsyncClient client = GlueClients.getAsync("us-east-1", GlueClientConfiguration.DEFAULT);
+
+        assertThat(GlueClients.getAsync("us-east-1", GlueClientConfiguration.DEFAULT)).isSameAs(client);
+        assertThat(GlueClients.getAsync("eu-west-1", GlueClientConfiguration.DEFAULT)).isNotSameAs(client);
+        assertThat(client.serviceClientConfiguration().region()).isEqualTo(Region.US_EAST_1);
+    }
+
+    @Test
+    public void overrideConfiguration_RateLimited_AddsSharedLimiterOnly() {
+        for (GlueClientConfiguration configuration : GlueClientConfiguration.values()) {
+            assertThat(configuration.overrideConfiguration(true).executionInterceptors())
+                    .containsExactly(GlueRateLimiter.shared().interceptor());
+            assertThat(configuration.overrideConfiguration(false).executionInterceptors()).isEmpty();
+        }
+        assertThat(GlueClientConfiguration.THROTTLING_BACKOFF.overrideConfiguration(false).retryPolicy())
+                .hasValueSatisfying(retryPolicy -> assertThat(retryPolicy.numRetries()).isEqualTo(4));
+    }
+
+    @Test
+    public void get_ConcurrentCalls_BuildOneClient() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<GlueClient>> calls = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                calls.add(() -> GlueClients.get("ap-south-1", GlueClientConfiguration.THROTTLING_BACKOFF));
+            }
+            final List<Future<GlueClient>> clients = executor.invokeAll(calls);
+            for (Future<GlueClient> client : clients) {
+                assertThat(client.get()).isSameAs(clients.get(0).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package software.amazon.glue.common;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.cloudformation.AbstractWrapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlueHttpClientsTest {
+
+    @Test
+    public void settings_NoVariables_UseWrapperClientWithDefaults() {
+        final GlueHttpClients.Settings settings = GlueHttpClients.Settings.fromEnvironment(name -> null);
+
+        assertThat(settings.getImplementation()).isEqualTo(GlueHttpClients.Implementation.WRAPPER);
+        assertThat(settings.getMaxConnections()).isEqualTo(GlueHttpClients.DEFAULT_MAX_CONNECTIONS);
+        assertThat(settings.getConnectionTimeToLive()).isNull();
+        assertThat(settings.getConnectionMaxIdleTime()).isEqualTo(GlueHttpClients.DEFAULT_CONNECTION_MAX_IDLE);
+        assertThat(settings.isTcpKeepAlive()).isFalse();
+        assertThat(settings.isWarmUp()).isFalse();
+        assertThat(GlueHttpClients.build(settings)).isSameAs(AbstractWrapper.HTTP_CLIENT);
+    }
+
+    @Test
+    public void settings_Variables_AreParsed() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(GlueHttpClients.IMPLEMENTATION_VARIABLE, " url-connection ");
+        environment.put(GlueHttpClients.MAX_CONNECTIONS_VARIABLE, "8");
+        environment.put(GlueHttpClients.CONNECTION_TTL_VARIABLE, "300");
+        environment.put(GlueHttpClients.CONNECTION_MAX_IDLE_VARIABLE, "20");
+        environment.put(GlueHttpClients.TCP_KEEP_ALIVE_VARIABLE, "TRUE");
+        environment.put(GlueHttpClients.WARM_UP_VARIABLE, "true");
+
+        final GlueHttpClients.Settings settings = GlueHttpClients.Settings.fromEnvironment(environment::get);
+
+        assertThat(settings.getImplementation()).isEqualTo(GlueHttpClients.Implementation.URL_CONNECTION);
+        assertThat(settings.getMaxConnections()).isEqualTo(8);
+        assertThat(settings.getConnectionTimeToLive()).isEqualTo(Duration.ofSeconds(300));
+        assertThat(settings.getConnectionMaxIdleTime()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(settings.isTcpKeepAlive()).isTrue();
+        assertThat(settings.isWarmUp()).isTrue();
+    }
+
+    @Test
+    public void settings_InvalidVariables_FallBackToDefaults() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put(GlueHttpClients.IMPLEMENTATION_VARIABLE, "netty");
+        environment.put(GlueHttpClients.MAX_CONNECTIONS_VARIABLE, "-1");
+        environment.put(GlueHttpClients.CONNECTION_TTL_VARIABLE, "forever");
+
+        final GlueHttpClients.Settings settings = GlueHttpClients.Settings.fromEnvironment(environment::get);
+
+        assertThat(settings.getImplementation()).isEqualTo(GlueHttpClients.Implementation.WRAPPER);
+        assertThat(settings.getMaxConnections()).isEqualTo(GlueHttpClients.DEFAULT_MAX_CONNECTIONS);
+        assertThat(settings.getConnectionTimeToLive()).isNull();
+    }
+
+    @Test
+    public void build_EachImplementation_BuildsItsClient() {
+        assertClientName(new GlueHttpClients.Settings(GlueHttpClients.Implementation.APACHE, 4,
+                Duration.ofMinutes(5), Duration.ofSeconds(10), true, false), "Apache");
+        assertClientName(GlueHttpClients.Settings.defaults(GlueHttpClients.Implementation.URL_CONNECTION), "UrlConnection");
+        assertClientName(new GlueHttpClients.Settings(GlueHttpClients.Implementation.CRT, 4,
+                null, Duration.ofSeconds(10), true, false), "AwsCommonRuntime");
+    }
+
+    @Test
+    public void warmUp_ReachableEndpoint_OpensConnection() throws IOException {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            final byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try (SdkHttpClient client = GlueHttpClients.build(
+                GlueHttpClients.Settings.defaults(GlueHttpClients.Implementation.APACHE))) {
+            assertThat(GlueHttpClients.warmUp(client,
+                    URI.create("http://localhost:" + server.getAddress().getPort()))).isTrue();
+            assertThat(requests.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void warmUp_UnreachableEndpoint_IsIgnored() throws IOException {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        try (SdkHttpClient client = GlueHttpClients.build(
+                GlueHttpClients.Settings.defaults(GlueHttpClients.Implementation.URL_CONNECTION))) {
+            assertThat(GlueHttpClients.warmUp(client, URI.create("http://localhost:" + port))).isFalse();
+        }
+    }
+
+    @Test
+    public void warmUp_Disabled_DoesNothing() {
+        // the test environment does not set GLUE_HTTP_WARM_UP
+        assertThat(GlueHttpClients.warmUp("us-east-1")).isFalse();
+    }
+
+    @Test
+    public void isSnapStart_ReadsInitializationType() {
+        assertThat(GlueHttpClients.isSnapStart(name -> null)).isFalse();
+        assertThat(GlueHttpClients.isSnapStart(name -> "on-demand")).isFalse();
+        assertThat(GlueHttpClients.isSnapStart(
+                name -> GlueHttpClients.INITIALIZATION_TYPE_VARIABLE.equals(name) ? "snap-start" : null)).isTrue();
+    }
+
+    @Test
+    public void afterRestore_NoDeferredWarmUp_DoesNothing() {
+        assertThat(GlueHttpClients.afterRestore()).isFalse();
+    }
+
+    @Test
+    public void endpoint_UsesPartitionDomain() {
+        assertThat(GlueHttpClients.endpoint("us-east-1")).isEqualTo(URI.create("https://glue.us-east-1.amazonaws.com"));
+        assertThat(GlueHttpClients.endpoint("cn-north-1")).isEqualTo(URI.create("https://glue.cn-north-1.amazonaws.com.cn"));
+    }
+
+    private static void assertClientName(final GlueHttpClients.Settings settings, final String clientName) {
+        try (SdkHttpClient client = GlueHttpClients.build(settings)) {
+            assertThat(client.clientName()).isEqualTo(clientName);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GlueException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GlueRateLimiterTest {
+
+    private static final GetTableRequest GET_TABLE = GetTableRequest.builder()
+            .databaseName("database")
+            .name("table")
+            .build();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final List<String> metrics = new ArrayList<>();
+    private final GlueRateLimiter limiter = new GlueRateLimiter(1, 10, clock::get, sleeps::add, metrics::add);
+
+    @Test
+    public void family_GroupsOperationsByResourceAndAccess() {
+        assertThat(GlueRateLimiter.family("GetTable")).isEqualTo("Table.Read");
+        assertThat(GlueRateLimiter.family("GetTables")).isEqualTo("Table.Read");
+        assertThat(GlueRateLimiter.family("SearchTables")).isEqualTo("Table.Read");
+        assertThat(GlueRateLimiter.family("UpdateTable")).isEqualTo("Table.Write");
+        assertThat(GlueRateLimiter.family("BatchDeleteTable")).isEqualTo("Table.Write");
+        assertThat(GlueRateLimiter.family("GetTableVersions")).isEqualTo("TableVersion.Read");
+        assertThat(GlueRateLimiter.family("BatchGetPartition")).isEqualTo("Partition.Read");
+        assertThat(GlueRateLimiter.family("BatchCreatePartition")).isEqualTo("Partition.Write");
+        assertThat(GlueRateLimiter.family("CreatePartitionIndex")).isEqualTo("PartitionIndex.Write");
+        assertThat(GlueRateLimiter.family("GetColumnStatisticsForTable")).isEqualTo("ColumnStatistics.Read");
+        assertThat(GlueRateLimiter.family("RegisterSchemaVersion")).isEqualTo("SchemaVersion.Write");
+        assertThat(GlueRateLimiter.family("GetSchemaByDefinition")).isEqualTo("Schema.Read");
+        assertThat(GlueRateLimiter.family("StartCrawler")).isEqualTo("Other.Write");
+        assertThat(GlueRateLimiter.family(null)).isEqualTo("Other.Write");
+    }
+
+    @Test
+    public void acquire_WithinBurst_DoesNotWait() {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("Table.Read");
+        }
+
+        assertThat(sleeps).isEmpty();
+        assertThat(limiter.snapshot().get("Table.Read").getRequests()).isEqualTo(10);
+    }
+
+    @Test
+    public void acquire_BeyondBurst_WaitsAtFamilyRate() {
+        for (int i = 0; i < 12; i++) {
+            limiter.acquire("Table.Read");
+        }
+        limiter.acquire("Table.Write");
+
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(limiter.snapshot().get("Table.Write").getTokens()).isEqualTo(9);
+    }
+
+    @Test
+    public void acquire_LongQueue_WaitIsCapped() {
+        final GlueRateLimiter slow = new GlueRateLimiter(0.01, 0.01, clock::get, sleeps::add, metrics::add);
+        slow.acquire("Table.Read");
+        slow.acquire("Table.Read");
+
+        assertThat(sleeps).containsExactly(GlueRateLimiter.MAX_WAIT_NANOS);
+    }
+
+    @Test
+    public void onThrottle_HalvesRateOncePerCooldownAndSuccessRestoresIt() {
+        limiter.acquire("Partition.Write");
+        limiter.onThrottle("Partition.Write");
+        limiter.onThrottle("Partition.Write");
+        assertThat(limiter.snapshot().get("Partition.Write").getRate()).isEqualTo(5);
+
+        clock.addAndGet(AdaptiveTokenBucket.DECREASE_COOLDOWN_NANOS);
+        for (int i = 0; i < 10; i++) {
+            limiter.onThrottle("Partition.Write");
+            clock.addAndGet(AdaptiveTokenBucket.DECREASE_COOLDOWN_NANOS);
+        }
+        assertThat(limiter.snapshot().get("Partition.Write").getRate()).isEqualTo(1);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess("Partition.Write");
+        }
+        assertThat(limiter.snapshot().get("Partition.Write").getRate()).isEqualTo(10);
+    }
+
+    @Test
+    public void onThrottle_RateDecreased_PublishesMetrics() {
+        limiter.acquire("Partition.Write");
+        limiter.onThrottle("Partition.Write");
+
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.get(0))
+                .startsWith("{\"_aws\":{\"Timestamp\":")
+                .contains("\"Namespace\":\"GlueResourceHandlers\"")
+                .contains("\"ApiFamily\":\"Partition.Write\",\"RateLimit\":5.00,\"Requests\":1,\"Throttles\":1");
+        assertThat(limiter.snapshot().get("Partition.Write").getRequests()).isEqualTo(0);
+    }
+
+    @Test
+    public void publishMetricsIfDue_PublishesOncePerInterval() {
+        limiter.acquire("Table.Read");
+        limiter.publishMetricsIfDue();
+        assertThat(metrics).isEmpty();
+
+        clock.addAndGet(GlueRateLimiter.METRICS_INTERVAL_NANOS);
+        limiter.publishMetricsIfDue();
+        limiter.publishMetricsIfDue();
+        assertThat(metrics).hasSize(1);
+    }
+
+    @Test
+    public void interceptor_SuccessfulCall_TakesTokenOfOperationFamily() {
+        try (GlueClient client = client(Collections.singletonMap("GetTable", "{\"Table\":{\"Name\":\"table\"}}"))) {
+            client.getTable(GET_TABLE);
+        }
+
+        final Map<String, GlueRateLimiter.FamilyState> snapshot = limiter.snapshot();
+        assertThat(snapshot).containsOnlyKeys("Table.Read");
+        assertThat(snapshot.get("Table.Read").getRequests()).isEqualTo(1);
+        assertThat(snapshot.get("Table.Read").getThrottles()).isEqualTo(0);
+    }
+
+    @Test
+    public void interceptor_ThrottledCall_DecreasesRate() {
+        try (GlueClient client = client(Collections.singletonMap("GetTable",
+                "{\"__type\":\"ThrottlingException\",\"Message\":\"Rate exceeded\"}"))) {
+            assertThatThrownBy(() -> client.getTable(GET_TABLE)).isInstanceOf(GlueException.class);
+        }
+
+        assertThat(limiter.snapshot().get("Table.Read").getRate()).isEqualTo(5);
+        assertThat(metrics).hasSize(1);
+    }
+
+    @Test
+    public void isThrottled_ReadsStatusAndErrorType() {
+        assertThat(RateLimitingInterceptor.isThrottled(SdkHttpResponse.builder().statusCode(429).build())).isTrue();
+        assertThat(RateLimitingInterceptor.isThrottled(SdkHttpResponse.builder().statusCode(400)
+                .putHeader(RateLimitingInterceptor.ERROR_TYPE_HEADER, "ThrottlingException:http://example.com/")
+                .build())).isTrue();
+        assertThat(RateLimitingInterceptor.isThrottled(SdkHttpResponse.builder().statusCode(400)
+                .putHeader(RateLimitingInterceptor.ERROR_TYPE_HEADER, "EntityNotFoundException")
+                .build())).isFalse();
+        assertThat(RateLimitingInterceptor.isThrottled(SdkHttpResponse.builder().statusCode(200).build())).isFalse();
+    }
+
+    private GlueClient client(final Map<String, String> responses) {
+        return GlueClient.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .httpClient(new PrimingHttpClient(responses))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .addExecutionInterceptor(limiter.interceptor())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class HandlerLoggerTest {
+
+    @Mock
+    private Logger logger;
+
+    private ArgumentCaptor<String> records;
+
+    @BeforeEach
+    public void setup() {
+        records = ArgumentCaptor.forClass(String.class);
+    }
+
+    @Test
+    public void info_EmitsStructuredRecord() {
+        new HandlerLogger(logger, HandlerLogger.Level.INFO, 100)
+                .info("GetTable", "DatabaseName", "db", "TableName", "t\"1", "Count", 3, "Missing", null);
+
+        verify(logger).log(records.capture());
+        assertThat(records.getValue()).isEqualTo(
+                "{\"level\":\"INFO\",\"event\":\"GetTable\",\"DatabaseName\":\"db\",\"TableName\":\"t\\\"1\","
+                        + "\"Count\":\"3\",\"Missing\":null}");
+    }
+
+    @Test
+    public void debug_DisabledLevel_DoesNotEvaluatePayload() {
+        final Supplier<String> payload = () -> {
+            throw new AssertionError("payload must not be evaluated");
+        };
+
+        new HandlerLogger(logger, HandlerLogger.Level.INFO, 100).debug("GetTableResponse", "Response", payload);
+
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    public void debug_EnabledLevel_TruncatesPayload() {
+        final Supplier<String> payload = () -> "0123456789abcdef";
+
+        new HandlerLogger(logger, HandlerLogger.Level.DEBUG, 10).debug("GetTableResponse", "Response", payload);
+
+        verify(logger).log(records.capture());
+        assertThat(records.getValue()).isEqualTo(
+                "{\"level\":\"DEBUG\",\"event\":\"GetTableResponse\",\"Response\":\"0123456789...[truncated 6 chars]\"}");
+    }
+
+    @Test
+    public void log_EscapesControlCharactersAndPadsDanglingKey() {
+        new HandlerLogger(logger, HandlerLogger.Level.WARN, 100).error("Failed", "Message", "a\nb\u0001\\", "Dangling");
+
+        verify(logger).log(records.capture());
+        assertThat(records.getValue()).isEqualTo(
+                "{\"level\":\"ERROR\",\"event\":\"Failed\",\"Message\":\"a\\nb\\u0001\\\\\",\"Dangling\":null}");
+    }
+
+    @Test
+    public void parseLevel_FallsBackToDefault() {
+        assertThat(HandlerLogger.parseLevel(null)).isEqualTo(HandlerLogger.Level.INFO);
+        assertThat(HandlerLogger.parseLevel("debug")).isEqualTo(HandlerLogger.Level.DEBUG);
+        assertThat(HandlerLogger.parseLevel("verbose")).isEqualTo(HandlerLogger.Level.INFO);
+    }
+
+    @Test
+    public void parseMaxValueLength_FallsBackToDefault() {
+        assertThat(HandlerLogger.parseMaxValueLength(null)).isEqualTo(HandlerLogger.DEFAULT_MAX_VALUE_LENGTH);
+        assertThat(HandlerLogger.parseMaxValueLength("512")).isEqualTo(512);
+        assertThat(HandlerLogger.parseMaxValueLength("0")).isEqualTo(HandlerLogger.DEFAULT_MAX_VALUE_LENGTH);
+        assertThat(HandlerLogger.parseMaxValueLength("lots")).isEqualTo(HandlerLogger.DEFAULT_MAX_VALUE_LENGTH);
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetDatabaseRequest;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HandlerPrimingTest {
+
+    private static final GetTableRequest GET_TABLE = GetTableRequest.builder()
+            .databaseName("priming_database")
+            .name("priming_table")
+            .build();
+
+    @Test
+    public void prime_StepsCallCannedResponses() {
+        final AtomicReference<GetTableResponse> response = new AtomicReference<>();
+        final HandlerPriming priming = new HandlerPriming("AWS::Glue::Test",
+                Collections.singletonMap("GetTable",
+                        "{\"Table\":{\"Name\":\"priming_table\",\"DatabaseName\":\"priming_database\",\"CreateTime\":1.7E9}}"),
+                Collections.singletonList((proxy, proxyClient, logger) -> response.set(
+                        proxyClient.injectCredentialsAndInvokeV2(GET_TABLE, proxyClient.client()::getTable))));
+
+        assertThat(priming.prime()).isEqualTo(1);
+        assertThat(response.get().table().name()).isEqualTo("priming_table");
+        assertThat(response.get().table().createTime().getEpochSecond()).isEqualTo(1_700_000_000L);
+    }
+
+    @Test
+    public void prime_FailingStepDoesNotStopLaterSteps() {
+        final AtomicReference<Boolean> secondStepRan = new AtomicReference<>(false);
+        final HandlerPriming priming = new HandlerPriming("AWS::Glue::Test", Collections.emptyMap(), Arrays.asList(
+                (proxy, proxyClient, logger) -> {
+                    throw new IllegalStateException("priming step failed");
+                },
+                (proxy, proxyClient, logger) -> secondStepRan.set(true)));
+
+        assertThat(priming.prime()).isEqualTo(1);
+        assertThat(secondStepRan.get()).isTrue();
+    }
+
+    @Test
+    public void primingClient_ErrorBody_ThrowsServiceException() {
+        assertThatThrownBy(() -> HandlerPriming.primingClient(Collections.singletonMap("GetTable",
+                "{\"__type\":\"EntityNotFoundException\",\"Message\":\"Table not found\"}")).getTable(GET_TABLE))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void primingAsyncClient_AnswersWithCannedResponses() {
+        final Map<String, String> responses = new HashMap<>();
+        responses.put("GetTable", "{\"Table\":{\"Name\":\"priming_table\",\"DatabaseName\":\"priming_database\"}}");
+        responses.put("GetDatabase", "{\"__type\":\"EntityNotFoundException\",\"Message\":\"Database not found\"}");
+
+        try (GlueAsyncClient client = HandlerPriming.primingAsyncClient(responses)) {
+            assertThat(client.getTable(GET_TABLE).join().table().name()).isEqualTo("priming_table");
+            assertThatThrownBy(() -> AsyncCalls.join(client.getDatabase(GetDatabaseRequest.builder().name("priming_database").build())))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    @Test
+    public void primingClients_AreNotRateLimited() {
+        try (GlueClient client = HandlerPriming.primingClient(Collections.emptyMap());
+             GlueAsyncClient asyncClient = HandlerPriming.primingAsyncClient(Collections.emptyMap())) {
+            assertThat(client.serviceClientConfiguration().overrideConfiguration().executionInterceptors())
+                    .doesNotContain(GlueRateLimiter.shared().interceptor());
+            assertThat(asyncClient.serviceClientConfiguration().overrideConfiguration().executionInterceptors())
+                    .doesNotContain(GlueRateLimiter.shared().interceptor());
+        }
+    }
+
+    @Test
+    public void operation_ParsesTargetHeader() {
+        assertThat(PrimingHttpClient.operation(Optional.of("AWSGlue.GetTable"))).isEqualTo("GetTable");
+        assertThat(PrimingHttpClient.operation(Optional.of("GetTable"))).isEqualTo("GetTable");
+        assertThat(PrimingHttpClient.operation(Optional.empty())).isEmpty();
+    }
+
+    @Test
+    public void register_SameName_ReturnsFirstRegistration() {
+        final HandlerPriming first = HandlerPriming.register("AWS::Glue::RegisterTest", Collections.emptyMap());
+
+        assertThat(HandlerPriming.register("AWS::Glue::RegisterTest", Collections.emptyMap())).isSameAs(first);
+    }
+}
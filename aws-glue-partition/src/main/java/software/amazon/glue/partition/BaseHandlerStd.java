@@ -0,0 +1,327 @@
+package software.amazon.glue.partition;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
+import software.amazon.awssdk.services.glue.model.GetPartitionsResponse;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.PartitionError;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private final GlueClient glueClient;
+
+    static final int CALLBACK_DELAY = 1;
+    static final int LIMITED_RETRY_COUNT = 5;
+    static final int MAX_BATCH_RETRY_ATTEMPTS = 5;
+    static final int MAX_BATCH_RETRY_DELAY = 30;
+
+    static final String ENTITY_NOT_FOUND_EXCEPTION = "EntityNotFoundException";
+    static final String ALREADY_EXISTS_EXCEPTION = "AlreadyExistsException";
+    static final String ACCESS_DENIED_EXCEPTION = "AccessDeniedException";
+    static final String INVALID_INPUT_EXCEPTION = "InvalidInputException";
+    static final String OPERATION_TIMEOUT_EXCEPTION = "OperationTimeoutException";
+    static final String INTERNAL_SERVICE_EXCEPTION = "InternalServiceException";
+    static final String RESOURCE_NOT_READY_EXCEPTION = "ResourceNotReadyException";
+    static final String RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION = "ResourceNumberLimitExceededException";
+    static final String CONCURRENT_MODIFICATION_EXCEPTION = "ConcurrentModificationException";
+    static final String REQUEST_LIMIT_EXCEEDED = "RequestLimitExceeded";
+    static final String THROTTLING_EXCEPTION = "ThrottlingException";
+    static final String THROTTLING_ERROR_CODE = "Throttling";
+    static final String TOO_MANY_REQUESTS_EXCEPTION = "TooManyRequestsException";
+
+    /**
+     * Per-entry batch errors worth retrying; any other entry error fails the operation.
+     */
+    static final Set<String> RETRYABLE_ENTRY_ERRORS = ImmutableSet.of(
+            THROTTLING_EXCEPTION,
+            OPERATION_TIMEOUT_EXCEPTION,
+            INTERNAL_SERVICE_EXCEPTION,
+            RESOURCE_NOT_READY_EXCEPTION,
+            CONCURRENT_MODIFICATION_EXCEPTION);
+
+    static {
+        GlueClients.preload(GlueClientConfiguration.THROTTLING_BACKOFF);
+        Priming.register();
+    }
+
+    protected BaseHandlerStd() {
+        this(GlueClients.get(GlueClientConfiguration.THROTTLING_BACKOFF));
+    }
+
+    protected BaseHandlerStd(GlueClient glueClient) {
+        this.glueClient = requireNonNull(glueClient);
+    }
+
+    private GlueClient getGlueClient() {
+        return glueClient;
+    }
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        return handleRequest(
+                proxy,
+                request,
+                Optional.ofNullable(callbackContext).orElse(new CallbackContext()),
+                proxy.newProxy(this::getGlueClient),
+                logger
+        );
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger);
+
+    /**
+     * Sends the partitions of one write phase in batches and tracks per-entry failures in the
+     * CallbackContext. Entries that failed with a retryable error are kept as the pending partition
+     * values of the phase and retried on the next invocation with an increasing delay; any other
+     * entry error fails the operation. If a whole call fails, the entries not written yet are kept
+     * pending before the exception is handled, so a re-invocation never repeats a successful batch.
+     * Errors listed in retriedIgnoredErrors only count as success for an entry sent in a call that
+     * failed with a retryable error, either as an entry or as the whole batch, since that call may
+     * have been applied.
+     *
+     * @param phase The write phase, one pending list is kept per phase.
+     * @param partitionValues The partition values of every entry of the phase.
+     * @param batchSize The maximum number of entries per call.
+     * @param toRequest Builds the batch request for a list of partition values.
+     * @param invoke Sends the batch request and returns its per-entry errors.
+     * @param ignoredErrors Entry error codes that count as success for this phase.
+     * @param retriedIgnoredErrors Entry error codes that count as success for a retried entry.
+     * @return A progress event to continue with, or an in-progress or failed event.
+     */
+    protected <RequestT extends GlueRequest> ProgressEvent<ResourceModel, CallbackContext> writeInBatches(
+            final String phase,
+            final List<List<String>> partitionValues,
+            final int batchSize,
+            final Function<List<List<String>>, RequestT> toRequest,
+            final Function<RequestT, List<PartitionError>> invoke,
+            final Set<String> ignoredErrors,
+            final Set<String> retriedIgnoredErrors,
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final HandlerLogger log) {
+        final List<List<String>> pending = callbackContext.getPendingPartitionValues().getOrDefault(phase, partitionValues);
+        if (pending.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final Set<List<String>> retried = new HashSet<>(
+                callbackContext.getRetriedPartitionValues().getOrDefault(phase, Collections.emptyList()));
+        final List<List<String>> retry = new ArrayList<>();
+        final List<List<List<String>>> batches = Lists.partition(pending, batchSize);
+        for (int i = 0; i < batches.size(); i++) {
+            final RequestT batchRequest = toRequest.apply(batches.get(i));
+            final List<PartitionError> errors;
+            try {
+                errors = invoke.apply(batchRequest);
+            } catch (final Exception e) {
+                final List<List<String>> remaining = new ArrayList<>(retry);
+                for (List<List<String>> batch : batches.subList(i, batches.size())) {
+                    remaining.addAll(batch);
+                }
+                callbackContext.getPendingPartitionValues().put(phase, remaining);
+                // the failed batch may have been applied, the batches after it were never sent
+                final List<List<String>> sent = new ArrayList<>(retry);
+                sent.addAll(batches.get(i));
+                callbackContext.getRetriedPartitionValues().put(phase, sent);
+                return handleError(batchRequest, log, e, model, callbackContext);
+            }
+
+            for (PartitionError error : errors) {
+                final ErrorDetail detail = error.errorDetail();
+                final String errorCode = detail == null ? null : detail.errorCode();
+                if (ignoredErrors.contains(errorCode)
+                        || (retried.contains(error.partitionValues()) && retriedIgnoredErrors.contains(errorCode))) {
+                    continue;
+                }
+                if (RETRYABLE_ENTRY_ERRORS.contains(errorCode)) {
+                    retry.add(error.partitionValues());
+                    continue;
+                }
+                callbackContext.getPendingPartitionValues().put(phase, Collections.emptyList());
+                return ProgressEvent.failed(model, callbackContext, entryErrorCode(errorCode),
+                        String.format("Partition %s failed: %s", error.partitionValues(),
+                                detail == null ? null : detail.errorMessage()));
+            }
+        }
+
+        callbackContext.getPendingPartitionValues().put(phase, retry);
+        callbackContext.getRetriedPartitionValues().put(phase, retry);
+        if (retry.isEmpty()) {
+            callbackContext.setBatchRetryAttempts(0);
+            log.info("PartitionsWritten", "Phase", phase, "Partitions", pending.size());
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final int attempts = callbackContext.getBatchRetryAttempts() + 1;
+        if (attempts > MAX_BATCH_RETRY_ATTEMPTS) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.Throttling,
+                    String.format("%d partitions could not be written after %d attempts, for example %s",
+                            retry.size(), MAX_BATCH_RETRY_ATTEMPTS, retry.get(0)));
+        }
+        callbackContext.setBatchRetryAttempts(attempts);
+        log.warn("PartitionsRetrying", "Phase", phase, "Partitions", retry.size(), "Attempt", attempts);
+        return ProgressEvent.defaultInProgressHandler(callbackContext,
+                Math.min(CALLBACK_DELAY << attempts, MAX_BATCH_RETRY_DELAY), model);
+    }
+
+    /**
+     * Tells whether the table already has partitions, with GetPartitions pages of one partition.
+     * A table holds at most one partition set, so a table with partitions has one.
+     *
+     * @param proxyClient The proxy client used for every GetPartitions call.
+     * @param model The resource model identifying the table.
+     * @return Whether the table has at least one partition.
+     */
+    protected static boolean hasPartitions(final ProxyClient<GlueClient> proxyClient, final ResourceModel model) {
+        String nextToken = null;
+        do {
+            final GetPartitionsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToGetPartitionsRequest(model, nextToken), proxyClient.client()::getPartitions);
+            if (response.hasPartitions() && !response.partitions().isEmpty()) {
+                return true;
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return false;
+    }
+
+    private static HandlerErrorCode entryErrorCode(final String errorCode) {
+        if (ALREADY_EXISTS_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.AlreadyExists;
+        } else if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.NotFound;
+        } else if (INVALID_INPUT_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.InvalidRequest;
+        } else if (ACCESS_DENIED_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.AccessDenied;
+        } else if (RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.ServiceLimitExceeded;
+        }
+        return HandlerErrorCode.GeneralServiceException;
+    }
+
+    /**
+     * Base Function for handling errors from all the other handlers.
+     * @param request
+     * @param log
+     * @param e
+     * @param resourceModel
+     * @param callbackContext
+     * @return
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleError(
+            final GlueRequest request,
+            final HandlerLogger log,
+            final Exception e,
+            final ResourceModel resourceModel,
+            final CallbackContext callbackContext) {
+
+        String errorMessage = getErrorCode(e);
+
+        log.error("RequestFailed", "Request", request == null ? null : request.getClass().getSimpleName(),
+                "ErrorCode", errorMessage);
+
+        BaseHandlerException ex;
+
+        if (e instanceof ConcurrentModificationException && callbackContext.getLimitedRetryCount() < LIMITED_RETRY_COUNT) {
+            callbackContext.setLimitedRetryCount(callbackContext.getLimitedRetryCount() + 1);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, resourceModel);
+        }
+        if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnNotFoundException(e);
+        } else if (ACCESS_DENIED_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnAccessDeniedException(e);
+        } else if (OPERATION_TIMEOUT_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnThrottlingException(e);
+        } else if (INVALID_INPUT_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnInvalidRequestException(e);
+        } else if (ALREADY_EXISTS_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnAlreadyExistsException(e);
+        } else if (RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnServiceLimitExceededException(e);
+        } else {
+            ex = new CfnGeneralServiceException(e);
+        }
+
+        if (e instanceof AwsServiceException) {
+            final AwsErrorDetails error = ((AwsServiceException) e).awsErrorDetails();
+            final int errorStatus = ((AwsServiceException) e).statusCode();
+            final String errorCode = error != null ? error.errorCode() : "";
+
+            if (errorStatus >= 400 && errorStatus < 500) {
+                if (THROTTLING_EXCEPTION.equals(errorCode) ||
+                        THROTTLING_ERROR_CODE.equals(errorCode) ||
+                        REQUEST_LIMIT_EXCEEDED.equals(errorCode) ||
+                        TOO_MANY_REQUESTS_EXCEPTION.equals(errorCode)) {
+                    log.warn("RequestThrottled", "ErrorCode", errorCode);
+                    return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
+                }
+            } else if (errorStatus >= 500) {
+                return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
+            }
+        }
+
+        return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
+    }
+
+    protected static String getErrorCode(Exception e) {
+        if (e instanceof AwsServiceException && ((AwsServiceException) e).awsErrorDetails() != null) {
+            return ((AwsServiceException) e).awsErrorDetails().errorCode();
+        }
+        return e.getMessage();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> buildRetryProgressEvent(final ResourceModel resourceModel,
+                                                                                  final CallbackContext callbackContext,
+                                                                                  final HandlerErrorCode errorCode,
+                                                                                  int callbackDelay) {
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .callbackContext(callbackContext)
+                .resourceModel(resourceModel)
+                .errorCode(errorCode)
+                .status(OperationStatus.IN_PROGRESS)
+                .callbackDelaySeconds(callbackDelay)
+                .build();
+    }
+}
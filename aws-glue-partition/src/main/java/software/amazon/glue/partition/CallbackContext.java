@@ -0,0 +1,24 @@
+package software.amazon.glue.partition;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class CallbackContext extends StdCallbackContext {
+    private int limitedRetryCount = 0;
+    // partition values still to write per phase; a phase is absent until it starts and empty once done
+    private Map<String, List<List<String>>> pendingPartitionValues = new HashMap<>();
+    // partition values per phase whose last call failed with a retryable error and may have been applied anyway
+    private Map<String, List<List<String>>> retriedPartitionValues = new HashMap<>();
+    private int batchRetryAttempts = 0;
+}
@@ -0,0 +1,8 @@
+package software.amazon.glue.partition;
+
+class Configuration extends BaseConfiguration {
+
+    public Configuration() {
+        super("aws-glue-partition.json");
+    }
+}
@@ -0,0 +1,97 @@
+package software.amazon.glue.partition;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class CreateHandler extends BaseHandlerStd {
+
+    static final String CREATE_PHASE = "Create";
+
+    protected CreateHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected CreateHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getTableName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Table name are required.");
+        }
+
+        final Map<List<String>, PartitionInput> partitions = Translator.partitionsByValues(model.getPartitions());
+        if (model.getPartitions() != null && partitions.size() != model.getPartitions().size()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Partition values must be unique.");
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredCreateHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName(),
+                "TableName", model.getTableName(), "Partitions", partitions.size());
+
+        // the set is identified by its table, so a table that already has partitions already has a set
+        if (!callbackContext.getPendingPartitionValues().containsKey(CREATE_PHASE)) {
+            try {
+                if (hasPartitions(proxyClient, model)) {
+                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
+                            String.format("Table [ %s ] already has partitions, a partition set exists for it",
+                                    model.getTableName()));
+                }
+            } catch (final Exception e) {
+                return handleError(null, log, e, model, callbackContext);
+            }
+        }
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> writeInBatches(
+                        CREATE_PHASE,
+                        new ArrayList<>(partitions.keySet()),
+                        Translator.MAX_BATCH_CREATE_PARTITIONS,
+                        values -> Translator.translateToBatchCreatePartitionRequest(model, select(partitions, values)),
+                        createRequest -> proxyClient.injectCredentialsAndInvokeV2(createRequest,
+                                proxyClient.client()::batchCreatePartition).errors(),
+                        Collections.emptySet(),
+                        // a retried entry may have been written by the failed attempt
+                        ImmutableSet.of(ALREADY_EXISTS_EXCEPTION),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
+    }
+
+    static List<PartitionInput> select(final Map<List<String>, PartitionInput> partitions, final List<List<String>> values) {
+        final List<PartitionInput> selected = new ArrayList<>(values.size());
+        for (List<String> partitionValues : values) {
+            selected.add(partitions.get(partitionValues));
+        }
+        return selected;
+    }
+}
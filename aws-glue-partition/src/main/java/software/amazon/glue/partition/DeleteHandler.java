@@ -0,0 +1,67 @@
+package software.amazon.glue.partition;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class DeleteHandler extends BaseHandlerStd {
+
+    static final String DELETE_PHASE = "Delete";
+
+    protected DeleteHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected DeleteHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getTableName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Table name are required.");
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredDeleteHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName(),
+                "TableName", model.getTableName());
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> writeInBatches(
+                        DELETE_PHASE,
+                        new ArrayList<>(Translator.partitionsByValues(model.getPartitions()).keySet()),
+                        Translator.MAX_BATCH_DELETE_PARTITIONS,
+                        values -> Translator.translateToBatchDeletePartitionRequest(model, values),
+                        deleteRequest -> proxyClient.injectCredentialsAndInvokeV2(deleteRequest,
+                                proxyClient.client()::batchDeletePartition).errors(),
+                        ImmutableSet.of(ENTITY_NOT_FOUND_EXCEPTION),
+                        Collections.emptySet(),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.glue.partition;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ListHandler extends BaseHandlerStd {
+
+    protected ListHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected ListHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getTableName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Table name are required.");
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredListHandler", "StackId", request.getStackId(),
+                "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
+
+        final boolean hasPartitions;
+        try {
+            hasPartitions = hasPartitions(proxyClient, model);
+        } catch (final Exception e) {
+            return handleError(null, log, e, model, callbackContext);
+        }
+
+        // a table holds at most one partition set, listed by its identifier only once it has partitions
+        final List<ResourceModel> models = hasPartitions
+                ? Collections.singletonList(Translator.translateToIdentifierModel(model))
+                : Collections.emptyList();
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+}
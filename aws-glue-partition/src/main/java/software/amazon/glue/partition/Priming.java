@@ -0,0 +1,120 @@
+package software.amazon.glue.partition;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Primes the partition handlers before a SnapStart snapshot, see {@link HandlerPriming}. The steps
+ * read, create, update, list and delete two synthetic partitions, and round trip the resource model
+ * through the wrapper's serializer.
+ */
+final class Priming {
+
+    static final String DATABASE_NAME = "priming_database";
+    static final String TABLE_NAME = "priming_table";
+
+    private static final String STORAGE_DESCRIPTOR = "{"
+            + "\"Columns\":[{\"Name\":\"id\",\"Type\":\"bigint\"},"
+            + "{\"Name\":\"payload\",\"Type\":\"struct<name:string,attributes:map<string,string>>\"}],"
+            + "\"InputFormat\":\"org.apache.hadoop.hive.ql.io.parquet.MapredParquetInputFormat\","
+            + "\"OutputFormat\":\"org.apache.hadoop.hive.ql.io.parquet.MapredParquetOutputFormat\","
+            + "\"Compressed\":false,\"NumberOfBuckets\":-1,\"StoredAsSubDirectories\":false,"
+            + "\"SerdeInfo\":{\"SerializationLibrary\":\"org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe\","
+            + "\"Parameters\":{\"serialization.format\":\"1\"}},"
+            + "\"SortColumns\":[{\"Column\":\"id\",\"SortOrder\":1}],"
+            + "\"Location\":\"s3://priming-bucket/" + TABLE_NAME + "/dt=";
+
+    private static final String PARTITIONS = "["
+            + partition("2024-01-01") + "," + partition("2024-01-02") + "]";
+
+    static final Map<String, String> RESPONSES = ImmutableMap.<String, String>builder()
+            .put("BatchGetPartition", "{\"Partitions\":" + PARTITIONS + ",\"UnprocessedKeys\":[]}")
+            .put("GetPartitions", "{\"Partitions\":" + PARTITIONS + "}")
+            .put("BatchCreatePartition", "{\"Errors\":[]}")
+            .put("BatchUpdatePartition", "{\"Errors\":[]}")
+            .put("BatchDeletePartition", "{\"Errors\":[]}")
+            .build();
+
+    private Priming() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static String partition(final String value) {
+        return "{\"Values\":[\"" + value + "\"],\"DatabaseName\":\"" + DATABASE_NAME + "\","
+                + "\"TableName\":\"" + TABLE_NAME + "\",\"CatalogId\":\"" + HandlerPriming.PRIMING_ACCOUNT_ID + "\","
+                + "\"CreationTime\":1.7E9,\"LastAccessTime\":1.7E9,\"Parameters\":{\"numRows\":\"100\"},"
+                + "\"StorageDescriptor\":" + STORAGE_DESCRIPTOR + value + "/\"}}";
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(ResourceModel.TYPE_NAME, RESPONSES,
+                (proxy, proxyClient, logger) -> {
+                    final ResourceModel model = new ReadHandler(proxyClient.client())
+                            .handleRequest(proxy, request(model("2024-01-01", "2024-01-02"), null), new CallbackContext(),
+                                    proxyClient, logger)
+                            .getResourceModel();
+                    final Serializer serializer = new Serializer();
+                    serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                    serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+                },
+                (proxy, proxyClient, logger) -> {
+                    // the canned table has partitions, which a first Create attempt rejects, so the
+                    // step resumes a Create to prime the batch writes
+                    final ResourceModel model = model("2024-01-01", "2024-01-02");
+                    final CallbackContext callbackContext = new CallbackContext();
+                    callbackContext.getPendingPartitionValues().put(CreateHandler.CREATE_PHASE,
+                            new ArrayList<>(Translator.partitionsByValues(model.getPartitions()).keySet()));
+                    new CreateHandler(proxyClient.client())
+                            .handleRequest(proxy, request(model, null), callbackContext, proxyClient, logger);
+                },
+                (proxy, proxyClient, logger) -> new UpdateHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model("2024-01-02", "2024-01-03"), model("2024-01-01", "2024-01-02")),
+                                new CallbackContext(), proxyClient, logger),
+                (proxy, proxyClient, logger) -> new ListHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model(), null), new CallbackContext(), proxyClient, logger),
+                (proxy, proxyClient, logger) -> new DeleteHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model("2024-01-01", "2024-01-02"), null), new CallbackContext(),
+                                proxyClient, logger));
+    }
+
+    private static ResourceModel model(final String... values) {
+        final PartitionInput[] partitions = new PartitionInput[values.length];
+        for (int i = 0; i < values.length; i++) {
+            partitions[i] = PartitionInput.builder()
+                    .values(Collections.singletonList(values[i]))
+                    .parameters(ImmutableMap.<String, Object>of("numRows", "100"))
+                    .storageDescriptor(StorageDescriptor.builder()
+                            .columns(Arrays.asList(
+                                    Column.builder().name("id").type("bigint").build(),
+                                    Column.builder().name("payload").type("struct<name:string>").build()))
+                            .location("s3://priming-bucket/" + TABLE_NAME + "/dt=" + values[i] + "/")
+                            .build())
+                    .build();
+        }
+        return ResourceModel.builder()
+                .databaseName(DATABASE_NAME)
+                .tableName(TABLE_NAME)
+                .partitions(Arrays.asList(partitions))
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+                .region(HandlerPriming.PRIMING_REGION)
+                .clientRequestToken("priming")
+                .logicalResourceIdentifier("PrimingPartitions")
+                .stackId("priming")
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package software.amazon.glue.partition;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetPartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchGetPartitionResponse;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.Partition;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+public class ReadHandler extends BaseHandlerStd {
+
+    static final long UNPROCESSED_RETRY_BASE_DELAY_MILLIS = 100L;
+    static final long UNPROCESSED_RETRY_MAX_DELAY_MILLIS = 2_000L;
+
+    private final LongConsumer backoff;
+
+    protected ReadHandler() {
+        super();
+        this.backoff = ReadHandler::sleep;
+    }
+
+    @VisibleForTesting
+    protected ReadHandler(final GlueClient glueClient) {
+        this(glueClient, ReadHandler::sleep);
+    }
+
+    @VisibleForTesting
+    protected ReadHandler(final GlueClient glueClient, final LongConsumer backoff) {
+        super(glueClient);
+        this.backoff = backoff;
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getTableName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Table name are required.");
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredReadHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
+
+        // the set is only the partitions it knows of, never the other partitions of the table
+        final List<List<String>> partitionValues = new ArrayList<>(Translator.partitionsByValues(model.getPartitions()).keySet());
+        if (partitionValues.isEmpty()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound,
+                    String.format("No partitions known for table [ %s ]", model.getTableName()));
+        }
+
+        final List<Partition> partitions = new ArrayList<>(partitionValues.size());
+        GlueRequest lastRequest = null;
+        try {
+            for (List<List<String>> batch : Lists.partition(partitionValues, Translator.MAX_BATCH_GET_PARTITIONS)) {
+                BatchGetPartitionRequest getRequest = Translator.translateToBatchGetPartitionRequest(model, batch);
+                for (int attempt = 0; ; attempt++) {
+                    lastRequest = getRequest;
+                    final BatchGetPartitionResponse response =
+                            proxyClient.injectCredentialsAndInvokeV2(getRequest, proxyClient.client()::batchGetPartition);
+                    partitions.addAll(response.partitions());
+                    if (!response.hasUnprocessedKeys() || response.unprocessedKeys().isEmpty()) {
+                        break;
+                    }
+                    if (attempt >= MAX_BATCH_RETRY_ATTEMPTS) {
+                        return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.Throttling,
+                                String.format("%d partitions could not be read after %d attempts",
+                                        response.unprocessedKeys().size(), MAX_BATCH_RETRY_ATTEMPTS));
+                    }
+                    // Read cannot be re-invoked later, so unprocessed keys are retried in place with an increasing delay
+                    final long delayMillis = retryDelayMillis(attempt);
+                    log.warn("PartitionsUnprocessed", "Partitions", response.unprocessedKeys().size(), "Attempt", attempt + 1,
+                            "DelayMillis", delayMillis);
+                    backoff.accept(delayMillis);
+                    getRequest = getRequest.toBuilder().partitionsToGet(response.unprocessedKeys()).build();
+                }
+            }
+        } catch (final Exception e) {
+            return handleError(lastRequest, log, e, model, callbackContext);
+        }
+
+        if (partitions.isEmpty()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound,
+                    String.format("No partitions found in table [ %s ]", model.getTableName()));
+        }
+
+        log.info("PartitionsRead", "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName(),
+                "Partitions", partitions.size());
+        return ProgressEvent.defaultSuccessHandler(Translator.translateFromSDKPartitions(model, partitions));
+    }
+
+    static long retryDelayMillis(final int attempt) {
+        return Math.min(UNPROCESSED_RETRY_BASE_DELAY_MILLIS << attempt, UNPROCESSED_RETRY_MAX_DELAY_MILLIS);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package software.amazon.glue.partition;
+
+import software.amazon.awssdk.services.glue.model.BatchCreatePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchDeletePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchGetPartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionRequestEntry;
+import software.amazon.awssdk.services.glue.model.Column;
+import software.amazon.awssdk.services.glue.model.GetPartitionsRequest;
+import software.amazon.awssdk.services.glue.model.Order;
+import software.amazon.awssdk.services.glue.model.Partition;
+import software.amazon.awssdk.services.glue.model.PartitionValueList;
+import software.amazon.awssdk.services.glue.model.SerDeInfo;
+import software.amazon.awssdk.services.glue.model.StorageDescriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class Translator {
+
+    static final int MAX_BATCH_CREATE_PARTITIONS = 100;
+    static final int MAX_BATCH_UPDATE_PARTITIONS = 100;
+    static final int MAX_BATCH_DELETE_PARTITIONS = 25;
+    static final int MAX_BATCH_GET_PARTITIONS = 1000;
+
+    private Translator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Indexes the partitions of a resource model by their partition values, keeping their order.
+     *
+     * @param partitions The resource model partitions, may be null.
+     * @return The partitions keyed by their values.
+     */
+    static Map<List<String>, software.amazon.glue.partition.PartitionInput> partitionsByValues(
+            final List<software.amazon.glue.partition.PartitionInput> partitions) {
+        if (partitions == null) {
+            return Collections.emptyMap();
+        }
+        final Map<List<String>, software.amazon.glue.partition.PartitionInput> byValues = new LinkedHashMap<>();
+        for (software.amazon.glue.partition.PartitionInput partition : partitions) {
+            byValues.put(partition.getValues(), partition);
+        }
+        return byValues;
+    }
+
+    static BatchCreatePartitionRequest translateToBatchCreatePartitionRequest(
+            final ResourceModel model,
+            final List<software.amazon.glue.partition.PartitionInput> partitions) {
+        final List<software.amazon.awssdk.services.glue.model.PartitionInput> partitionInputs = new ArrayList<>(partitions.size());
+        for (software.amazon.glue.partition.PartitionInput partition : partitions) {
+            partitionInputs.add(translateToSDKPartitionInput(partition));
+        }
+        return BatchCreatePartitionRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .partitionInputList(partitionInputs)
+                .build();
+    }
+
+    static BatchUpdatePartitionRequest translateToBatchUpdatePartitionRequest(
+            final ResourceModel model,
+            final List<software.amazon.glue.partition.PartitionInput> partitions) {
+        final List<BatchUpdatePartitionRequestEntry> entries = new ArrayList<>(partitions.size());
+        for (software.amazon.glue.partition.PartitionInput partition : partitions) {
+            entries.add(BatchUpdatePartitionRequestEntry.builder()
+                    .partitionValueList(partition.getValues())
+                    .partitionInput(translateToSDKPartitionInput(partition))
+                    .build());
+        }
+        return BatchUpdatePartitionRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .entries(entries)
+                .build();
+    }
+
+    static BatchDeletePartitionRequest translateToBatchDeletePartitionRequest(
+            final ResourceModel model,
+            final List<List<String>> partitionValues) {
+        return BatchDeletePartitionRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .partitionsToDelete(toPartitionValueLists(partitionValues))
+                .build();
+    }
+
+    static BatchGetPartitionRequest translateToBatchGetPartitionRequest(
+            final ResourceModel model,
+            final List<List<String>> partitionValues) {
+        return BatchGetPartitionRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .partitionsToGet(toPartitionValueLists(partitionValues))
+                .build();
+    }
+
+    /**
+     * Builds a GetPartitions request asking for a single partition, enough to tell whether the table
+     * has any.
+     */
+    static GetPartitionsRequest translateToGetPartitionsRequest(final ResourceModel model, final String nextToken) {
+        return GetPartitionsRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .maxResults(1)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * @param model The resource model identifying the table.
+     * @return The resource model holding only the table's identifier.
+     */
+    static ResourceModel translateToIdentifierModel(final ResourceModel model) {
+        return ResourceModel.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .build();
+    }
+
+    /**
+     * Builds the resource model holding the given partitions, ordered by their partition values.
+     *
+     * @param model The resource model identifying the table.
+     * @param partitions The Glue SDK partitions.
+     * @return The resource model with its partitions.
+     */
+    static ResourceModel translateFromSDKPartitions(final ResourceModel model, final List<Partition> partitions) {
+        final List<software.amazon.glue.partition.PartitionInput> partitionInputs = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            partitionInputs.add(translateFromSDKPartition(partition));
+        }
+        partitionInputs.sort((left, right) -> compareValues(left.getValues(), right.getValues()));
+        return ResourceModel.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableName())
+                .partitions(partitionInputs)
+                .build();
+    }
+
+    private static int compareValues(final List<String> left, final List<String> right) {
+        for (int i = 0; i < Math.min(left.size(), right.size()); i++) {
+            final int compared = left.get(i).compareTo(right.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(left.size(), right.size());
+    }
+
+    private static List<PartitionValueList> toPartitionValueLists(final List<List<String>> partitionValues) {
+        final List<PartitionValueList> valueLists = new ArrayList<>(partitionValues.size());
+        for (List<String> values : partitionValues) {
+            valueLists.add(PartitionValueList.builder().values(values).build());
+        }
+        return valueLists;
+    }
+
+    static software.amazon.awssdk.services.glue.model.PartitionInput translateToSDKPartitionInput(
+            final software.amazon.glue.partition.PartitionInput model) {
+        return software.amazon.awssdk.services.glue.model.PartitionInput.builder()
+                .values(model.getValues())
+                .parameters(translateToSDKParameters(model.getParameters()))
+                .storageDescriptor(translateToSDKStorageDescriptor(model.getStorageDescriptor()))
+                .build();
+    }
+
+    static software.amazon.glue.partition.PartitionInput translateFromSDKPartition(final Partition sdkObject) {
+        return software.amazon.glue.partition.PartitionInput.builder()
+                .values(sdkObject.values())
+                .parameters(translateParametersFromSDK(sdkObject.parameters()))
+                .storageDescriptor(translateStorageDescriptorFromSDK(sdkObject.storageDescriptor()))
+                .build();
+    }
+
+    static StorageDescriptor translateToSDKStorageDescriptor(final software.amazon.glue.partition.StorageDescriptor model) {
+        if (model == null) {
+            return null;
+        }
+
+        return StorageDescriptor.builder()
+                .bucketColumns(model.getBucketColumns())
+                .columns(translateToSDKColumns(model.getColumns()))
+                .compressed(model.getCompressed())
+                .inputFormat(model.getInputFormat())
+                .location(model.getLocation())
+                .numberOfBuckets(model.getNumberOfBuckets())
+                .outputFormat(model.getOutputFormat())
+                .parameters(translateToSDKParameters(model.getParameters()))
+                .serdeInfo(translateToSDKSerDeInfo(model.getSerdeInfo()))
+                .sortColumns(translateToSDKOrder(model.getSortColumns()))
+                .storedAsSubDirectories(model.getStoredAsSubDirectories())
+                .build();
+    }
+
+    static software.amazon.glue.partition.StorageDescriptor translateStorageDescriptorFromSDK(final StorageDescriptor sdkObject) {
+        if (sdkObject == null) {
+            return null;
+        }
+
+        return software.amazon.glue.partition.StorageDescriptor.builder()
+                .bucketColumns(sdkObject.hasBucketColumns() ? sdkObject.bucketColumns() : null)
+                .columns(translateColumnsFromSDK(sdkObject))
+                .compressed(sdkObject.compressed())
+                .inputFormat(sdkObject.inputFormat())
+                .location(sdkObject.location())
+                .numberOfBuckets(sdkObject.numberOfBuckets())
+                .outputFormat(sdkObject.outputFormat())
+                .parameters(translateParametersFromSDK(sdkObject.parameters()))
+                .serdeInfo(translateSerDeInfoFromSDK(sdkObject.serdeInfo()))
+                .sortColumns(translateOrderFromSDK(sdkObject))
+                .storedAsSubDirectories(sdkObject.storedAsSubDirectories())
+                .build();
+    }
+
+    private static List<Column> translateToSDKColumns(final List<software.amazon.glue.partition.Column> model) {
+        if (model == null || model.isEmpty()) {
+            return null;
+        }
+        final List<Column> columns = new ArrayList<>(model.size());
+        for (software.amazon.glue.partition.Column column : model) {
+            columns.add(Column.builder()
+                    .name(column.getName())
+                    .type(column.getType())
+                    .comment(column.getComment())
+                    .build());
+        }
+        return columns;
+    }
+
+    private static List<software.amazon.glue.partition.Column> translateColumnsFromSDK(final StorageDescriptor sdkObject) {
+        if (!sdkObject.hasColumns()) {
+            return null;
+        }
+        final List<software.amazon.glue.partition.Column> columns = new ArrayList<>(sdkObject.columns().size());
+        for (Column column : sdkObject.columns()) {
+            columns.add(software.amazon.glue.partition.Column.builder()
+                    .name(column.name())
+                    .type(column.type())
+                    .comment(column.comment())
+                    .build());
+        }
+        return columns;
+    }
+
+    private static List<Order> translateToSDKOrder(final List<software.amazon.glue.partition.Order> model) {
+        if (model == null || model.isEmpty()) {
+            return null;
+        }
+        final List<Order> orders = new ArrayList<>(model.size());
+        for (software.amazon.glue.partition.Order order : model) {
+            orders.add(Order.builder()
+                    .column(order.getColumn())
+                    .sortOrder(order.getSortOrder())
+                    .build());
+        }
+        return orders;
+    }
+
+    private static List<software.amazon.glue.partition.Order> translateOrderFromSDK(final StorageDescriptor sdkObject) {
+        if (!sdkObject.hasSortColumns()) {
+            return null;
+        }
+        final List<software.amazon.glue.partition.Order> orders = new ArrayList<>(sdkObject.sortColumns().size());
+        for (Order order : sdkObject.sortColumns()) {
+            orders.add(software.amazon.glue.partition.Order.builder()
+                    .column(order.column())
+                    .sortOrder(order.sortOrder())
+                    .build());
+        }
+        return orders;
+    }
+
+    private static SerDeInfo translateToSDKSerDeInfo(final software.amazon.glue.partition.SerdeInfo model) {
+        if (model == null) {
+            return null;
+        }
+        return SerDeInfo.builder()
+                .name(model.getName())
+                .serializationLibrary(model.getSerializationLibrary())
+                .parameters(translateToSDKParameters(model.getParameters()))
+                .build();
+    }
+
+    private static software.amazon.glue.partition.SerdeInfo translateSerDeInfoFromSDK(final SerDeInfo sdkObject) {
+        if (sdkObject == null) {
+            return null;
+        }
+        return software.amazon.glue.partition.SerdeInfo.builder()
+                .name(sdkObject.name())
+                .serializationLibrary(sdkObject.serializationLibrary())
+                .parameters(translateParametersFromSDK(sdkObject.parameters()))
+                .build();
+    }
+
+    private static Map<String, String> translateToSDKParameters(final Map<String, Object> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        final Map<String, String> sdkParameters = new HashMap<>((int) (parameters.size() / 0.75f) + 1);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            sdkParameters.put(entry.getKey(), (String) Objects.requireNonNull(entry.getValue()));
+        }
+        return sdkParameters;
+    }
+
+    private static Map<String, Object> translateParametersFromSDK(final Map<String, String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return null;
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+}
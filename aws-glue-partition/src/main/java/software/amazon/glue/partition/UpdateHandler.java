@@ -0,0 +1,139 @@
+package software.amazon.glue.partition;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionFailureEntry;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionResponse;
+import software.amazon.awssdk.services.glue.model.PartitionError;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class UpdateHandler extends BaseHandlerStd {
+
+    static final String DELETE_PHASE = "Delete";
+    static final String UPDATE_PHASE = "Update";
+    static final String CREATE_PHASE = "Create";
+
+    protected UpdateHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected UpdateHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getTableName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Table name are required.");
+        }
+
+        final Map<List<String>, PartitionInput> desired = Translator.partitionsByValues(model.getPartitions());
+        if (model.getPartitions() != null && desired.size() != model.getPartitions().size()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Partition values must be unique.");
+        }
+        final Map<List<String>, PartitionInput> previous = Translator.partitionsByValues(
+                request.getPreviousResourceState() == null ? null : request.getPreviousResourceState().getPartitions());
+
+        // only partitions whose values are unchanged can be updated in place, the rest are replaced
+        final List<List<String>> toDelete = new ArrayList<>();
+        for (List<String> values : previous.keySet()) {
+            if (!desired.containsKey(values)) {
+                toDelete.add(values);
+            }
+        }
+        final List<List<String>> toUpdate = new ArrayList<>();
+        final List<List<String>> toCreate = new ArrayList<>();
+        for (Map.Entry<List<String>, PartitionInput> entry : desired.entrySet()) {
+            if (!previous.containsKey(entry.getKey())) {
+                toCreate.add(entry.getKey());
+            } else if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                toUpdate.add(entry.getKey());
+            }
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredUpdateHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName(),
+                "TableName", model.getTableName(), "PartitionsToDelete", toDelete.size(),
+                "PartitionsToUpdate", toUpdate.size(), "PartitionsToCreate", toCreate.size());
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> writeInBatches(
+                        DELETE_PHASE,
+                        toDelete,
+                        Translator.MAX_BATCH_DELETE_PARTITIONS,
+                        values -> Translator.translateToBatchDeletePartitionRequest(model, values),
+                        deleteRequest -> proxyClient.injectCredentialsAndInvokeV2(deleteRequest,
+                                proxyClient.client()::batchDeletePartition).errors(),
+                        ImmutableSet.of(ENTITY_NOT_FOUND_EXCEPTION),
+                        Collections.emptySet(),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> writeInBatches(
+                        UPDATE_PHASE,
+                        toUpdate,
+                        Translator.MAX_BATCH_UPDATE_PARTITIONS,
+                        values -> Translator.translateToBatchUpdatePartitionRequest(model, CreateHandler.select(desired, values)),
+                        updateRequest -> toPartitionErrors(proxyClient.injectCredentialsAndInvokeV2(updateRequest,
+                                proxyClient.client()::batchUpdatePartition)),
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> writeInBatches(
+                        CREATE_PHASE,
+                        toCreate,
+                        Translator.MAX_BATCH_CREATE_PARTITIONS,
+                        values -> Translator.translateToBatchCreatePartitionRequest(model, CreateHandler.select(desired, values)),
+                        createRequest -> proxyClient.injectCredentialsAndInvokeV2(createRequest,
+                                proxyClient.client()::batchCreatePartition).errors(),
+                        Collections.emptySet(),
+                        ImmutableSet.of(ALREADY_EXISTS_EXCEPTION),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
+    }
+
+    private static List<PartitionError> toPartitionErrors(final BatchUpdatePartitionResponse response) {
+        if (!response.hasErrors()) {
+            return Collections.emptyList();
+        }
+        final List<PartitionError> errors = new ArrayList<>(response.errors().size());
+        for (BatchUpdatePartitionFailureEntry entry : response.errors()) {
+            errors.add(PartitionError.builder()
+                    .partitionValues(entry.partitionValueList())
+                    .errorDetail(entry.errorDetail())
+                    .build());
+        }
+        return errors;
+    }
+}
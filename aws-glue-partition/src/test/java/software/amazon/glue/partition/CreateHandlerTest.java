@@ -0,0 +1,258 @@
+package software.amazon.glue.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchCreatePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchCreatePartitionResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
+import software.amazon.awssdk.services.glue.model.GetPartitionsRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionsResponse;
+import software.amazon.awssdk.services.glue.model.Partition;
+import software.amazon.awssdk.services.glue.model.PartitionError;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private CreateHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new CreateHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    static ResourceModel model(final int partitionCount) {
+        final List<PartitionInput> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(PartitionInput.builder()
+                    .values(Arrays.asList("2024", String.valueOf(i)))
+                    .storageDescriptor(StorageDescriptor.builder()
+                            .location("s3://bucket/table/year=2024/id=" + i)
+                            .build())
+                    .build());
+        }
+        return ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .partitions(partitions)
+                .build();
+    }
+
+    @Test
+    public void handleRequest_WritesInBatches() {
+        final ResourceModel model = model(250);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(BatchCreatePartitionResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+
+        final ArgumentCaptor<BatchCreatePartitionRequest> requests = ArgumentCaptor.forClass(BatchCreatePartitionRequest.class);
+        verify(proxyClient.client(), times(3)).batchCreatePartition(requests.capture());
+        assertThat(requests.getAllValues()).extracting(r -> r.partitionInputList().size()).containsExactly(100, 100, 50);
+    }
+
+    @Test
+    public void handleRequest_RetryableEntryErrors_RetriesOnlyFailedEntries() {
+        final ResourceModel model = model(3);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+        final List<String> failedValues = model.getPartitions().get(1).getValues();
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(BatchCreatePartitionResponse.builder()
+                        .errors(PartitionError.builder()
+                                .partitionValues(failedValues)
+                                .errorDetail(ErrorDetail.builder().errorCode("ThrottlingException").build())
+                                .build())
+                        .build())
+                .thenReturn(BatchCreatePartitionResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(callbackContext.getPendingPartitionValues())
+                .containsEntry(CreateHandler.CREATE_PHASE, Collections.singletonList(failedValues));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<BatchCreatePartitionRequest> requests = ArgumentCaptor.forClass(BatchCreatePartitionRequest.class);
+        verify(proxyClient.client(), times(2)).batchCreatePartition(requests.capture());
+        assertThat(requests.getAllValues().get(1).partitionInputList())
+                .extracting(software.amazon.awssdk.services.glue.model.PartitionInput::values)
+                .containsExactly(failedValues);
+    }
+
+    @Test
+    public void handleRequest_RetriedEntryAlreadyExists_Succeeds() {
+        final ResourceModel model = model(3);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+        final List<String> failedValues = model.getPartitions().get(1).getValues();
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(entryError(failedValues, "ThrottlingException"))
+                // the throttled entry was applied after all
+                .thenReturn(entryError(failedValues, BaseHandlerStd.ALREADY_EXISTS_EXCEPTION));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        assertThat(callbackContext.getRetriedPartitionValues())
+                .containsEntry(CreateHandler.CREATE_PHASE, Collections.singletonList(failedValues));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_ThrottledBatch_IgnoresAlreadyExistsOnlyForSentEntries() {
+        final ResourceModel model = model(250);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(BatchCreatePartitionResponse.builder().build())
+                .thenThrow(AwsServiceException.builder()
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build())
+                // an entry of the throttled batch was applied, an entry of the batch never sent existed already
+                .thenReturn(entryError(model.getPartitions().get(150).getValues(), BaseHandlerStd.ALREADY_EXISTS_EXCEPTION))
+                .thenReturn(entryError(model.getPartitions().get(200).getValues(), BaseHandlerStd.ALREADY_EXISTS_EXCEPTION));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getPendingPartitionValues().get(CreateHandler.CREATE_PHASE)).hasSize(150);
+        assertThat(callbackContext.getRetriedPartitionValues().get(CreateHandler.CREATE_PHASE)).hasSize(100);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getMessage()).contains(model.getPartitions().get(200).getValues().toString());
+        verify(proxyClient.client(), times(1)).getPartitions(any(GetPartitionsRequest.class));
+    }
+
+    private static BatchCreatePartitionResponse entryError(final List<String> values, final String errorCode) {
+        return BatchCreatePartitionResponse.builder()
+                .errors(PartitionError.builder()
+                        .partitionValues(values)
+                        .errorDetail(ErrorDetail.builder().errorCode(errorCode).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void handleRequest_AlreadyExistsEntry_Fails() {
+        final ResourceModel model = model(1);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(BatchCreatePartitionResponse.builder()
+                        .errors(PartitionError.builder()
+                                .partitionValues(model.getPartitions().get(0).getValues())
+                                .errorDetail(ErrorDetail.builder().errorCode("AlreadyExistsException").build())
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+    }
+
+    @Test
+    public void handleRequest_DuplicateValues_Fails() {
+        final ResourceModel model = model(1);
+        model.getPartitions().add(model.getPartitions().get(0));
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    }
+
+    @Test
+    public void handleRequest_TableHasPartitions_AlreadyExists() {
+        final ResourceModel model = model(1);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder()
+                        .partitions(Partition.builder().values("2023", "0").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        verify(proxyClient.client(), never()).batchCreatePartition(any(BatchCreatePartitionRequest.class));
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.glue.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchDeletePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchDeletePartitionResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
+import software.amazon.awssdk.services.glue.model.PartitionError;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private DeleteHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new DeleteHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_DeletesInBatches_IgnoringMissingPartitions() {
+        final ResourceModel model = CreateHandlerTest.model(30);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().batchDeletePartition(any(BatchDeletePartitionRequest.class)))
+                .thenReturn(BatchDeletePartitionResponse.builder()
+                        .errors(PartitionError.builder()
+                                .partitionValues(model.getPartitions().get(0).getValues())
+                                .errorDetail(ErrorDetail.builder().errorCode("EntityNotFoundException").build())
+                                .build())
+                        .build())
+                .thenReturn(BatchDeletePartitionResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        verify(proxyClient.client(), times(2)).batchDeletePartition(any(BatchDeletePartitionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoPartitions_Success() {
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).batchDeletePartition(any(BatchDeletePartitionRequest.class));
+    }
+}
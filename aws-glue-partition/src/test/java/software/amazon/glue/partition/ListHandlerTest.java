@@ -0,0 +1,117 @@
+package software.amazon.glue.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetPartitionsRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionsResponse;
+import software.amazon.awssdk.services.glue.model.Partition;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ListHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private ListHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new ListHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_TableWithPartitions_ReturnsIdentifierOnly() {
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder()
+                        .partitions(Partition.builder().values("2024", "0").build())
+                        .nextToken("page-2")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build());
+        verify(proxyClient.client(), times(1)).getPartitions(argThat((GetPartitionsRequest r) -> r != null && r.maxResults() == 1));
+    }
+
+    @Test
+    public void handleRequest_EmptyFirstPage_FollowsToken() {
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().nextToken("page-2").build())
+                .thenReturn(GetPartitionsResponse.builder()
+                        .partitions(Partition.builder().values("2024", "0").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        verify(proxyClient.client(), times(2)).getPartitions(any(GetPartitionsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_EmptyTable_NoModels() {
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().getPartitions(any(GetPartitionsRequest.class)))
+                .thenReturn(GetPartitionsResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package software.amazon.glue.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchGetPartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchGetPartitionResponse;
+import software.amazon.awssdk.services.glue.model.GetPartitionsRequest;
+import software.amazon.awssdk.services.glue.model.Partition;
+import software.amazon.awssdk.services.glue.model.PartitionValueList;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private ReadHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new ReadHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_KnownPartitions_RetriesUnprocessedKeys() {
+        final List<Long> delays = new ArrayList<>();
+        handler = new ReadHandler(glueClient, delays::add);
+        final ResourceModel model = CreateHandlerTest.model(2);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().batchGetPartition(any(BatchGetPartitionRequest.class)))
+                .thenReturn(BatchGetPartitionResponse.builder()
+                        .partitions(Partition.builder().values("2024", "1").build())
+                        .unprocessedKeys(PartitionValueList.builder().values("2024", "0").build())
+                        .build())
+                .thenReturn(BatchGetPartitionResponse.builder()
+                        .partitions(Partition.builder().values("2024", "0").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getPartitions()).extracting(PartitionInput::getValues)
+                .containsExactly(Arrays.asList("2024", "0"), Arrays.asList("2024", "1"));
+        verify(proxyClient.client(), times(2)).batchGetPartition(any(BatchGetPartitionRequest.class));
+        assertThat(delays).containsExactly(ReadHandler.UNPROCESSED_RETRY_BASE_DELAY_MILLIS);
+    }
+
+    @Test
+    public void handleRequest_UnprocessedKeysRemain_BacksOffThenFails() {
+        final List<Long> delays = new ArrayList<>();
+        handler = new ReadHandler(glueClient, delays::add);
+        final ResourceModel model = CreateHandlerTest.model(1);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().batchGetPartition(any(BatchGetPartitionRequest.class)))
+                .thenReturn(BatchGetPartitionResponse.builder()
+                        .unprocessedKeys(PartitionValueList.builder().values("2024", "0").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(delays).containsExactly(100L, 200L, 400L, 800L, 1_600L);
+        verify(proxyClient.client(), times(BaseHandlerStd.MAX_BATCH_RETRY_ATTEMPTS + 1))
+                .batchGetPartition(any(BatchGetPartitionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_KnownPartitionsMissing_NotFound() {
+        final ResourceModel model = CreateHandlerTest.model(1);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().batchGetPartition(any(BatchGetPartitionRequest.class)))
+                .thenReturn(BatchGetPartitionResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_NoKnownPartitions_NotFound() {
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(proxyClient.client(), never()).batchGetPartition(any(BatchGetPartitionRequest.class));
+        verify(proxyClient.client(), never()).getPartitions(any(GetPartitionsRequest.class));
+    }
+}
@@ -0,0 +1,145 @@
+package software.amazon.glue.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchCreatePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchCreatePartitionResponse;
+import software.amazon.awssdk.services.glue.model.BatchDeletePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchDeletePartitionResponse;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionFailureEntry;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionRequest;
+import software.amazon.awssdk.services.glue.model.BatchUpdatePartitionResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
+import software.amazon.awssdk.services.glue.model.PartitionValueList;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private UpdateHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new UpdateHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    private static PartitionInput partition(final String value, final String location) {
+        return PartitionInput.builder()
+                .values(Arrays.asList(value))
+                .storageDescriptor(StorageDescriptor.builder().location(location).build())
+                .build();
+    }
+
+    private static ResourceModel model(final PartitionInput... partitions) {
+        return ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .partitions(Arrays.asList(partitions))
+                .build();
+    }
+
+    @Test
+    public void handleRequest_DeletesUpdatesAndCreates() {
+        final ResourceModel previous = model(partition("a", "s3://a"), partition("b", "s3://b"), partition("c", "s3://c"));
+        final ResourceModel desired = model(partition("b", "s3://b"), partition("c", "s3://c2"), partition("d", "s3://d"));
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(desired, previous);
+
+        when(proxyClient.client().batchDeletePartition(any(BatchDeletePartitionRequest.class)))
+                .thenReturn(BatchDeletePartitionResponse.builder().build());
+        when(proxyClient.client().batchUpdatePartition(any(BatchUpdatePartitionRequest.class)))
+                .thenReturn(BatchUpdatePartitionResponse.builder().build());
+        when(proxyClient.client().batchCreatePartition(any(BatchCreatePartitionRequest.class)))
+                .thenReturn(BatchCreatePartitionResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(desired);
+
+        final ArgumentCaptor<BatchDeletePartitionRequest> deleteRequest = ArgumentCaptor.forClass(BatchDeletePartitionRequest.class);
+        verify(proxyClient.client()).batchDeletePartition(deleteRequest.capture());
+        assertThat(deleteRequest.getValue().partitionsToDelete()).extracting(PartitionValueList::values)
+                .containsExactly(Arrays.asList("a"));
+
+        final ArgumentCaptor<BatchUpdatePartitionRequest> updateRequest = ArgumentCaptor.forClass(BatchUpdatePartitionRequest.class);
+        verify(proxyClient.client()).batchUpdatePartition(updateRequest.capture());
+        assertThat(updateRequest.getValue().entries()).hasSize(1);
+        assertThat(updateRequest.getValue().entries().get(0).partitionInput().storageDescriptor().location())
+                .isEqualTo("s3://c2");
+
+        final ArgumentCaptor<BatchCreatePartitionRequest> createRequest = ArgumentCaptor.forClass(BatchCreatePartitionRequest.class);
+        verify(proxyClient.client()).batchCreatePartition(createRequest.capture());
+        assertThat(createRequest.getValue().partitionInputList()).hasSize(1);
+        assertThat(createRequest.getValue().partitionInputList().get(0).values()).containsExactly("d");
+    }
+
+    @Test
+    public void handleRequest_UnchangedPartitions_NoCalls() {
+        final ResourceModel model = model(partition("a", "s3://a"));
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, model);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).batchDeletePartition(any(BatchDeletePartitionRequest.class));
+        verify(proxyClient.client(), never()).batchUpdatePartition(any(BatchUpdatePartitionRequest.class));
+        verify(proxyClient.client(), never()).batchCreatePartition(any(BatchCreatePartitionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateEntryNotFound_Fails() {
+        final ResourceModel previous = model(partition("a", "s3://a"));
+        final ResourceModel desired = model(partition("a", "s3://a2"));
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(desired, previous);
+
+        when(proxyClient.client().batchUpdatePartition(any(BatchUpdatePartitionRequest.class)))
+                .thenReturn(BatchUpdatePartitionResponse.builder()
+                        .errors(BatchUpdatePartitionFailureEntry.builder()
+                                .partitionValueList("a")
+                                .errorDetail(ErrorDetail.builder().errorCode("EntityNotFoundException").build())
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+}
@@ -6,8 +6,15 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    static {
+        GlueClients.preload(GlueClientConfiguration.DEFAULT);
+        Priming.register();
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -18,7 +25,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 proxy,
                 request,
                 callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
+                proxy.newProxy(() -> GlueClients.get(GlueClientConfiguration.DEFAULT)),
                 logger
         );
     }
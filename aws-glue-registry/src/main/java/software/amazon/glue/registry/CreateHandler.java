@@ -9,6 +9,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,7 +19,7 @@ import static java.util.stream.Collectors.toMap;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -26,7 +27,7 @@ public class CreateHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -58,11 +59,10 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, createRegistryRequest.registryName());
         }
 
-        logger.log(
-            String.format("%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                createRegistryRequest.registryName()
-            )
+        log.info(
+            "RegistryCreated",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "RegistryName", createRegistryRequest.registryName()
         );
         return createRegistryResponse;
     }
@@ -16,6 +16,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.time.Duration;
 
@@ -28,7 +29,7 @@ public class DeleteHandler extends BaseHandlerStd {
             .delay(Duration.ofSeconds(2L))
             .build();
 
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -37,7 +38,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -85,12 +86,10 @@ public class DeleteHandler extends BaseHandlerStd {
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format(
-                    "%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    registryName
-                )
+            log.info(
+                "RegistryDeleted",
+                "TypeName", ResourceModel.TYPE_NAME,
+                "RegistryName", registryName
             );
             return true;
         } catch (AwsServiceException e) {
@@ -122,12 +121,10 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (final AwsServiceException e) {
             translateToCfnException(e, registryName);
         }
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                registryName
-            )
+        log.info(
+            "RegistryDeleteRequested",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "RegistryName", registryName
         );
         return deleteRegistryResponse;
     }
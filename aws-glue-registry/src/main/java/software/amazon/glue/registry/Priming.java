@@ -0,0 +1,77 @@
+package software.amazon.glue.registry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primes the registry handlers before a SnapStart snapshot, see {@link HandlerPriming}.
+ */
+final class Priming {
+    static final String REGISTRY_NAME = "priming-registry";
+    static final String REGISTRY_ARN =
+        "arn:aws:glue:" + HandlerPriming.PRIMING_REGION + ":" + HandlerPriming.PRIMING_ACCOUNT_ID
+            + ":registry/" + REGISTRY_NAME;
+
+    private static final String REGISTRY =
+        "\"RegistryName\":\"" + REGISTRY_NAME + "\",\"RegistryArn\":\"" + REGISTRY_ARN + "\","
+            + "\"Description\":\"priming\",\"Status\":\"AVAILABLE\","
+            + "\"CreatedTime\":\"2024-01-01T00:00:00.000Z\",\"UpdatedTime\":\"2024-01-01T00:00:00.000Z\"";
+
+    private Priming() {
+    }
+
+    static Map<String, String> responses() {
+        final Map<String, String> responses = new HashMap<>();
+        responses.put("GetRegistry", "{" + REGISTRY + "}");
+        responses.put("CreateRegistry", "{" + REGISTRY + ",\"Tags\":{\"team\":\"priming\"}}");
+        responses.put("ListRegistries", "{\"Registries\":[{" + REGISTRY + "}]}");
+        return responses;
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(
+            ResourceModel.TYPE_NAME,
+            responses(),
+            (proxy, proxyClient, logger) -> {
+                final ResourceModel model =
+                    new ReadHandler()
+                        .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger)
+                        .getResourceModel();
+                final Serializer serializer = new Serializer();
+                serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+            },
+            (proxy, proxyClient, logger) ->
+                new CreateHandler()
+                    .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger),
+            (proxy, proxyClient, logger) ->
+                new ListHandler()
+                    .handleRequest(proxy, request(ResourceModel.builder().build()), new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel
+            .builder()
+            .name(REGISTRY_NAME)
+            .arn(REGISTRY_ARN)
+            .description("priming")
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+            .region(HandlerPriming.PRIMING_REGION)
+            .clientRequestToken("priming")
+            .logicalResourceIdentifier("PrimingRegistry")
+            .desiredResourceState(model)
+            .build();
+    }
+}
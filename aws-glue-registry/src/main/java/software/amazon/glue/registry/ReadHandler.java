@@ -10,11 +10,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,7 +24,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return proxy.initiate(
             "AWS-Glue-Registry::Read",
@@ -50,12 +51,10 @@ public class ReadHandler extends BaseHandlerStd {
             translateToCfnException(e, registryName);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] has successfully been read. ",
-                ResourceModel.TYPE_NAME,
-                registryName
-            )
+        log.info(
+            "RegistryRead",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "RegistryName", registryName
         );
         return getRegistryResponse;
     }
@@ -10,11 +10,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,7 +24,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -52,7 +53,10 @@ public class UpdateHandler extends BaseHandlerStd {
             translateToCfnException(e, awsRequest.registryId().registryName());
         }
 
-        logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
+        log.info(
+            "RegistryUpdated",
+            "TypeName", ResourceModel.TYPE_NAME
+        );
         return updateRegistryResponse;
     }
 
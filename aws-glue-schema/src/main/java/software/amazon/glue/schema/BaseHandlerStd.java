@@ -6,12 +6,20 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
 import software.amazon.glue.schema.BaseHandler;
 import software.amazon.glue.schema.ResourceModel;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends software.amazon.glue.schema.BaseHandler<CallbackContext> {
+    static {
+        GlueClients.preload(GlueClientConfiguration.DEFAULT);
+        GlueClients.preloadAsync(GlueClientConfiguration.DEFAULT);
+        Priming.register();
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -22,7 +30,7 @@ public abstract class BaseHandlerStd extends software.amazon.glue.schema.BaseHan
             proxy,
             request,
             callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
+            proxy.newProxy(() -> GlueClients.get(GlueClientConfiguration.DEFAULT)),
             logger
         );
     }
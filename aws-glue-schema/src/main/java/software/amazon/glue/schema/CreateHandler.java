@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 import software.amazon.glue.schema.Tag;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.Registry;
@@ -22,7 +23,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -31,7 +32,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -65,11 +66,10 @@ public class CreateHandler extends BaseHandlerStd {
             ExceptionTranslator.translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                createSchemaRequest.schemaName())
+        log.info(
+            "SchemaCreated",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "SchemaName", createSchemaRequest.schemaName()
         );
         return createSchemaResponse;
     }
@@ -17,6 +17,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.time.Duration;
 
@@ -29,7 +30,7 @@ public class DeleteHandler extends BaseHandlerStd {
             .delay(Duration.ofSeconds(2L))
             .build();
 
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -38,7 +39,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -81,12 +82,10 @@ public class DeleteHandler extends BaseHandlerStd {
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format(
-                    "%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    schemaArn
-                )
+            log.info(
+                "SchemaDeleted",
+                "TypeName", ResourceModel.TYPE_NAME,
+                "SchemaArn", schemaArn
             );
             return true;
         } catch (AwsServiceException e) {
@@ -115,12 +114,10 @@ public class DeleteHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
+        log.info(
+            "SchemaDeleteRequested",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
         );
         return deleteSchemaResponse;
     }
@@ -0,0 +1,106 @@
+package software.amazon.glue.schema;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primes the schema handlers before a SnapStart snapshot, see {@link HandlerPriming}.
+ */
+final class Priming {
+    static final String SCHEMA_NAME = "priming-schema";
+    static final String REGISTRY_ARN =
+        "arn:aws:glue:" + HandlerPriming.PRIMING_REGION + ":" + HandlerPriming.PRIMING_ACCOUNT_ID
+            + ":registry/priming-registry";
+    static final String SCHEMA_ARN =
+        "arn:aws:glue:" + HandlerPriming.PRIMING_REGION + ":" + HandlerPriming.PRIMING_ACCOUNT_ID
+            + ":schema/priming-registry/" + SCHEMA_NAME;
+    static final String SCHEMA_VERSION_ID = "00000000-0000-0000-0000-000000000001";
+    static final String SCHEMA_DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Priming\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}";
+
+    private static final String SCHEMA =
+        "\"SchemaName\":\"" + SCHEMA_NAME + "\",\"SchemaArn\":\"" + SCHEMA_ARN + "\","
+            + "\"RegistryName\":\"priming-registry\",\"RegistryArn\":\"" + REGISTRY_ARN + "\","
+            + "\"Description\":\"priming\",\"DataFormat\":\"AVRO\",\"Compatibility\":\"BACKWARD\","
+            + "\"SchemaCheckpoint\":1,\"LatestSchemaVersion\":1,\"NextSchemaVersion\":2,"
+            + "\"SchemaStatus\":\"AVAILABLE\",\"CreatedTime\":\"2024-01-01T00:00:00.000Z\"";
+
+    private Priming() {
+    }
+
+    static Map<String, String> responses() {
+        final Map<String, String> responses = new HashMap<>();
+        responses.put("GetSchema", "{" + SCHEMA + "}");
+        responses.put("CreateSchema", "{" + SCHEMA + ",\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\","
+            + "\"SchemaVersionStatus\":\"AVAILABLE\",\"Tags\":{\"team\":\"priming\"}}");
+        responses.put("GetSchemaVersion", "{\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\","
+            + "\"SchemaArn\":\"" + SCHEMA_ARN + "\",\"DataFormat\":\"AVRO\",\"VersionNumber\":1,"
+            + "\"Status\":\"AVAILABLE\",\"SchemaDefinition\":" + quote(SCHEMA_DEFINITION) + "}");
+        responses.put("ListSchemas", "{\"Schemas\":[{\"SchemaName\":\"" + SCHEMA_NAME + "\","
+            + "\"SchemaArn\":\"" + SCHEMA_ARN + "\",\"RegistryName\":\"priming-registry\","
+            + "\"SchemaStatus\":\"AVAILABLE\"}]}");
+        return responses;
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(
+            ResourceModel.TYPE_NAME,
+            responses(),
+            (proxy, proxyClient, logger) -> {
+                final ResourceModel model;
+                try (GlueAsyncClient asyncClient = HandlerPriming.primingAsyncClient(responses())) {
+                    model = new ReadHandler(() -> asyncClient)
+                        .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger)
+                        .getResourceModel();
+                }
+                final Serializer serializer = new Serializer();
+                serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+            },
+            (proxy, proxyClient, logger) ->
+                new CreateHandler()
+                    .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger),
+            (proxy, proxyClient, logger) ->
+                new ListHandler()
+                    .handleRequest(proxy, request(ResourceModel.builder().build()), new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value.replace("\"", "\\\"") + "\"";
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel
+            .builder()
+            .arn(SCHEMA_ARN)
+            .name(SCHEMA_NAME)
+            .registry(
+                Registry
+                    .builder()
+                    .arn(REGISTRY_ARN)
+                    .build()
+            )
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .schemaDefinition(SCHEMA_DEFINITION)
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+            .region(HandlerPriming.PRIMING_REGION)
+            .clientRequestToken("priming")
+            .logicalResourceIdentifier("PrimingSchema")
+            .desiredResourceState(model)
+            .build();
+    }
+}
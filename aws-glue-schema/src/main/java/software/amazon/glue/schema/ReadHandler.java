@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -14,11 +15,27 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.AsyncCalls;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final Supplier<GlueAsyncClient> asyncClient;
+    private HandlerLogger log;
+
+    public ReadHandler() {
+        this(() -> GlueClients.getAsync(GlueClientConfiguration.DEFAULT));
+    }
+
+    ReadHandler(final Supplier<GlueAsyncClient> asyncClient) {
+        this.asyncClient = asyncClient;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,7 +44,8 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
+        final ProxyClient<GlueAsyncClient> asyncProxyClient = proxy.newProxy(asyncClient);
 
         return proxy.initiate(
             "AWS-Glue-Schema::Read",
@@ -36,38 +54,44 @@ public class ReadHandler extends BaseHandlerStd {
             callbackContext)
             .translateToServiceRequest(this::fromResourceModel)
 
-            .makeServiceCall(this::getSchemaResponseModel)
+            .makeServiceCall((getSchemaRequest, client) -> getSchemaResponseModel(getSchemaRequest, asyncProxyClient))
             .done(responseModel -> ProgressEvent.defaultSuccessHandler(responseModel));
     }
 
+    /**
+     * GetSchema and GetSchemaVersion of version 1 only need the schema ARN, so both are issued
+     * before either is joined and the read costs one round trip instead of two.
+     */
     private ResourceModel getSchemaResponseModel(
         final GetSchemaRequest getSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueAsyncClient> asyncProxyClient) {
 
         GetSchemaResponse getSchemaResponse = null;
         GetSchemaVersionResponse getSchemaVersionResponse = null;
         final String identifier = getSchemaRequest.schemaId().toString();
 
         try {
-            final GlueClient glueClient = proxyClient.client();
+            final GlueAsyncClient glueAsyncClient = asyncProxyClient.client();
 
-            getSchemaResponse = proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
-            GetSchemaVersionRequest getSchemaVersionRequest = getInitialSchemaVersionRequest(getSchemaResponse.schemaArn());
+            final CompletableFuture<GetSchemaResponse> getSchema =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(getSchemaRequest, glueAsyncClient::getSchema);
+            final CompletableFuture<GetSchemaVersionResponse> getSchemaVersion =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(
+                    getInitialSchemaVersionRequest(getSchemaRequest.schemaId().schemaArn()),
+                    glueAsyncClient::getSchemaVersion);
 
-            getSchemaVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getSchemaVersionRequest,
-                glueClient::getSchemaVersion);
+            AsyncCalls.joinAll(getSchema, getSchemaVersion);
+            getSchemaResponse = AsyncCalls.join(getSchema);
+            getSchemaVersionResponse = AsyncCalls.join(getSchemaVersion);
 
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
+        log.info(
+            "SchemaRead",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
         );
         return toResourceModel(getSchemaResponse, getSchemaVersionResponse.schemaVersionId());
     }
@@ -11,13 +11,23 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.SchemaVersion;
 
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ReadHandler readHandler;
+    private HandlerLogger log;
+
+    public UpdateHandler() {
+        this(new ReadHandler());
+    }
+
+    UpdateHandler(final ReadHandler readHandler) {
+        this.readHandler = readHandler;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -26,7 +36,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -41,7 +51,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     //Stabilization is not required for Schema Update.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private UpdateSchemaResponse updateSchema(
@@ -58,12 +68,11 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
-        logger.log(
-            String.format(
-                "%s [%s] successfully updated.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            ));
+        log.info(
+            "SchemaUpdated",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
+        );
         return updateSchemaResponse;
 
     }
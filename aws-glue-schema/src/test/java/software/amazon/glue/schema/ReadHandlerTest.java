@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
@@ -23,6 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -37,25 +41,26 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private GlueClient glueClient;
 
+    @Mock
+    private GlueAsyncClient glueAsyncClient;
+
     private ReadHandler handler;
 
     @BeforeEach
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new ReadHandler();
+        handler = new ReadHandler(() -> glueAsyncClient);
     }
 
     @Test
     public void handleRequest_WhenValidSchemaArnIsProvided_ReturnsSchema() {
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
-            .thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_RESPONSE));
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
-            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
@@ -70,11 +75,46 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IssuesGetSchemaVersionWithoutWaitingForGetSchema() {
+        final CompletableFuture<GetSchemaResponse> getSchema = CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TestData.GET_SCHEMA_RESPONSE;
+        });
+        final AtomicBoolean issuedConcurrently = new AtomicBoolean();
+
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(getSchema);
+
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenAnswer(invocation -> {
+                issuedConcurrently.set(!getSchema.isDone());
+                return CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE);
+            });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
+                logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESPONSE_RESOURCE_MODEL);
+        assertThat(issuedConcurrently.get()).isTrue();
+    }
+
     @Test
     public void handleRequest_WhenGetSchemaFails_ThrowsException() {
+        final CompletableFuture<GetSchemaResponse> getSchema = new CompletableFuture<>();
+        getSchema.completeExceptionally(EntityNotFoundException.builder().message("Schema not found").build());
+
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(getSchema);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
-            .thenThrow(EntityNotFoundException.class);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final Exception exception =
             assertThrows(CfnNotFoundException.class, () ->
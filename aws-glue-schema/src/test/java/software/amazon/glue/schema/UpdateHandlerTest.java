@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
@@ -28,6 +29,8 @@ import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.SchemaVersion;
 import software.amazon.glue.schema.Registry;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -45,12 +48,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Mock
     private GlueClient glueClient;
 
+    @Mock
+    private GlueAsyncClient glueAsyncClient;
+
     @BeforeEach
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         glueClient = mock(GlueClient.class);
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new UpdateHandler();
+        handler = new UpdateHandler(new ReadHandler(() -> glueAsyncClient));
     }
 
     @Test
@@ -61,14 +67,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             glueClient::updateSchema)
         ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(
-            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
-            glueClient::getSchema)
-        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_RESPONSE));
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
-            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
@@ -95,14 +98,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             glueClient::updateSchema)
         ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(
-            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
-            glueClient::getSchema)
-        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_RESPONSE));
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
-            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
@@ -129,14 +129,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             glueClient::updateSchema)
         ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(
-            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
-            glueClient::getSchema)
-        ).thenReturn(TestData.GET_SCHEMA_RESPONSE_WITH_DESC_UPDATED);
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_ARN))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_RESPONSE_WITH_DESC_UPDATED));
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
-            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
@@ -163,14 +160,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
             glueClient::updateSchema)
         ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(
-            TestData.GET_SCHEMA_REQUEST_WITH_REGISTRY,
-            glueClient::getSchema)
-        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueAsyncClient.getSchema(TestData.GET_SCHEMA_REQUEST_WITH_REGISTRY))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_RESPONSE));
 
-        when(proxyClient
-            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
-            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
             proxy,
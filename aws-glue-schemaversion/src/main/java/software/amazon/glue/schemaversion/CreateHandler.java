@@ -22,6 +22,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -38,7 +39,7 @@ public class CreateHandler extends BaseHandlerStd {
             .delay(Duration.ofSeconds(3L))
             .build();
 
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -47,7 +48,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> createSchemaVersion(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::Create"))
             .then(progress -> stabilize(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::PostCreateStabilize"))
@@ -87,11 +88,9 @@ public class CreateHandler extends BaseHandlerStd {
         if (versionId.isPresent()) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, versionId.get());
         }
-        logger.log(
-            String.format(
-                "SchemaDefinition is not present in schemaId: %s. Proceeding to create",
-                registerSchemaVersionRequest.schemaId()
-            )
+        log.info(
+            "SchemaDefinitionNotRegistered",
+            "SchemaId", registerSchemaVersionRequest.schemaId()
         );
 
         try {
@@ -106,12 +105,10 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Registered %s with ID %s.",
-                ResourceModel.TYPE_NAME,
-                registerSchemaVersionResponse.schemaVersionId()
-            )
+        log.info(
+            "SchemaVersionRegistered",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "SchemaVersionId", registerSchemaVersionResponse.schemaVersionId()
         );
         return registerSchemaVersionResponse;
     }
@@ -205,13 +202,12 @@ public class CreateHandler extends BaseHandlerStd {
                 e);
         }
 
-        logger.log(
-            String.format(
-                "Creation status of resource %s with ID %s is %s",
-                ResourceModel.TYPE_NAME,
-                request.schemaVersionId(),
-                schemaVersionStatus
-            ));
+        log.info(
+            "SchemaVersionStatus",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "SchemaVersionId", request.schemaVersionId(),
+            "Status", schemaVersionStatus
+        );
 
         return schemaVersionStatus;
     }
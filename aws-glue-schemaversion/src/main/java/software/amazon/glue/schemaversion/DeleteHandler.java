@@ -17,13 +17,14 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.time.Duration;
 
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
     private static final Delay DELAY =
         Constant.of()
             .timeout(Duration.ofSeconds(120L))
@@ -36,7 +37,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -70,20 +71,19 @@ public class DeleteHandler extends BaseHandlerStd {
                     glueClient::getSchemaVersion
                 );
 
-            logger.log(
-                String.format("%s [%s] is not deleted yet",
-                    ResourceModel.TYPE_NAME,
-                    versionId
-                )
+            log.info(
+                "SchemaVersionNotDeletedYet",
+                "TypeName", ResourceModel.TYPE_NAME,
+                "VersionId", versionId
             );
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format("%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    versionId
-                ));
+            log.info(
+                "SchemaVersionDeleted",
+                "TypeName", ResourceModel.TYPE_NAME,
+                "VersionId", versionId
+            );
             return true;
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
@@ -119,13 +119,11 @@ public class DeleteHandler extends BaseHandlerStd {
 
             final Long versionNumber = getSchemaVersionResponse.versionNumber();
 
-            logger.log(
-                String.format(
-                    "Fetched version number %s for %s [%s]",
-                    versionNumber,
-                    ResourceModel.TYPE_NAME,
-                    identifier
-                )
+            log.info(
+                "SchemaVersionNumberFetched",
+                "TypeName", ResourceModel.TYPE_NAME,
+                "Identifier", identifier,
+                "VersionNumber", versionNumber
             );
 
             final DeleteSchemaVersionsRequest deleteSchemaVersionsRequest =
@@ -144,12 +142,10 @@ public class DeleteHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
+        log.info(
+            "SchemaVersionDeleteRequested",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
         );
         return deleteSchemaVersionsResponse;
     }
@@ -0,0 +1,91 @@
+package software.amazon.glue.schemaversion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primes the schema version handlers before a SnapStart snapshot, see {@link HandlerPriming}.
+ */
+final class Priming {
+    static final String SCHEMA_ARN =
+        "arn:aws:glue:" + HandlerPriming.PRIMING_REGION + ":" + HandlerPriming.PRIMING_ACCOUNT_ID
+            + ":schema/priming-registry/priming-schema";
+    static final String SCHEMA_VERSION_ID = "00000000-0000-0000-0000-000000000001";
+    static final String SCHEMA_DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Priming\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"}]}";
+
+    private static final String SCHEMA_VERSION =
+        "\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\",\"SchemaArn\":\"" + SCHEMA_ARN + "\","
+            + "\"VersionNumber\":1,\"Status\":\"AVAILABLE\",\"CreatedTime\":\"2024-01-01T00:00:00.000Z\"";
+
+    private Priming() {
+    }
+
+    static Map<String, String> responses() {
+        final Map<String, String> responses = new HashMap<>();
+        responses.put("GetSchemaVersion", "{" + SCHEMA_VERSION + ",\"DataFormat\":\"AVRO\","
+            + "\"SchemaDefinition\":" + quote(SCHEMA_DEFINITION) + "}");
+        responses.put("GetSchemaByDefinition",
+            "{\"__type\":\"EntityNotFoundException\",\"Message\":\"Schema version is not found.\"}");
+        responses.put("RegisterSchemaVersion", "{\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\","
+            + "\"VersionNumber\":1,\"Status\":\"AVAILABLE\"}");
+        responses.put("ListSchemaVersions", "{\"Schemas\":[{" + SCHEMA_VERSION + "}]}");
+        return responses;
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(
+            ResourceModel.TYPE_NAME,
+            responses(),
+            (proxy, proxyClient, logger) -> {
+                final ResourceModel model =
+                    new ReadHandler()
+                        .handleRequest(proxy, request(model(SCHEMA_VERSION_ID)), new CallbackContext(), proxyClient, logger)
+                        .getResourceModel();
+                final Serializer serializer = new Serializer();
+                serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+            },
+            (proxy, proxyClient, logger) ->
+                new CreateHandler()
+                    .handleRequest(proxy, request(model(null)), new CallbackContext(), proxyClient, logger),
+            (proxy, proxyClient, logger) ->
+                new ListHandler()
+                    .handleRequest(proxy, request(model(null)), new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value.replace("\"", "\\\"") + "\"";
+    }
+
+    private static ResourceModel model(final String versionId) {
+        return ResourceModel
+            .builder()
+            .schema(
+                Schema
+                    .builder()
+                    .schemaArn(SCHEMA_ARN)
+                    .build()
+            )
+            .schemaDefinition(SCHEMA_DEFINITION)
+            .versionId(versionId)
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+            .region(HandlerPriming.PRIMING_REGION)
+            .clientRequestToken("priming")
+            .logicalResourceIdentifier("PrimingSchemaVersion")
+            .desiredResourceState(model)
+            .build();
+    }
+}
@@ -9,11 +9,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -22,7 +23,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return proxy.initiate(
             "AWS-Glue-SchemaVersion::Read",
@@ -56,11 +57,11 @@ public class ReadHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format("%s [%s] has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            ));
+        log.info(
+            "SchemaVersionRead",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
+        );
         return getSchemaVersionResponse;
     }
 
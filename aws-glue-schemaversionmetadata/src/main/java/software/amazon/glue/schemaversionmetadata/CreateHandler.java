@@ -10,11 +10,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,7 +24,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -74,12 +75,10 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
+        log.info(
+            "SchemaVersionMetadataCreated",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
         );
         return putSchemaVersionMetadataResponse;
 
@@ -11,11 +11,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.HandlerLogger;
 
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -24,7 +25,7 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -62,12 +63,10 @@ public class DeleteHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully deleted.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
+        log.info(
+            "SchemaVersionMetadataDeleted",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "Identifier", identifier
         );
         return removeSchemaVersionMetadataResponse;
     }
@@ -0,0 +1,74 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primes the schema version metadata handlers before a SnapStart snapshot, see {@link HandlerPriming}.
+ */
+final class Priming {
+    static final String SCHEMA_VERSION_ID = "00000000-0000-0000-0000-000000000001";
+    static final String KEY = "owner";
+    static final String VALUE = "priming";
+
+    private Priming() {
+    }
+
+    static Map<String, String> responses() {
+        final Map<String, String> responses = new HashMap<>();
+        responses.put("QuerySchemaVersionMetadata", "{\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\","
+            + "\"MetadataInfoMap\":{\"" + KEY + "\":{\"MetadataValue\":\"" + VALUE + "\","
+            + "\"CreatedTime\":\"2024-01-01T00:00:00.000Z\",\"OtherMetadataValueList\":[]}}}");
+        responses.put("PutSchemaVersionMetadata", "{\"SchemaVersionId\":\"" + SCHEMA_VERSION_ID + "\","
+            + "\"MetadataKey\":\"" + KEY + "\",\"MetadataValue\":\"" + VALUE + "\",\"IsLatestVersion\":true,"
+            + "\"VersionNumber\":1}");
+        return responses;
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(
+            ResourceModel.TYPE_NAME,
+            responses(),
+            (proxy, proxyClient, logger) -> {
+                final ResourceModel model =
+                    new ReadHandler()
+                        .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger)
+                        .getResourceModel();
+                final Serializer serializer = new Serializer();
+                serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+            },
+            (proxy, proxyClient, logger) ->
+                new CreateHandler()
+                    .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger),
+            (proxy, proxyClient, logger) ->
+                new ListHandler()
+                    .handleRequest(proxy, request(model()), new CallbackContext(), proxyClient, logger)
+        );
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel
+            .builder()
+            .schemaVersionId(SCHEMA_VERSION_ID)
+            .key(KEY)
+            .value(VALUE)
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest
+            .<ResourceModel>builder()
+            .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+            .region(HandlerPriming.PRIMING_REGION)
+            .clientRequestToken("priming")
+            .logicalResourceIdentifier("PrimingSchemaVersionMetadata")
+            .desiredResourceState(model)
+            .build();
+    }
+}
@@ -13,6 +13,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -21,7 +22,7 @@ import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.tra
 
 public class ReadHandler extends BaseHandlerStd {
     private static final int ONLY_ELEMENT = 0;
-    private Logger logger;
+    private HandlerLogger log;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,7 +31,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.log = new HandlerLogger(logger);
 
         return proxy.initiate(
             "AWS-Glue-SchemaVersionMetadata::Read",
@@ -76,11 +77,11 @@ public class ReadHandler extends BaseHandlerStd {
             identifier
         );
 
-        logger.log(
-            String.format("%s for %s has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                schemaVersionId
-            ));
+        log.info(
+            "SchemaVersionMetadataRead",
+            "TypeName", ResourceModel.TYPE_NAME,
+            "SchemaVersionId", schemaVersionId
+        );
         return querySchemaVersionMetadataResponse;
     }
 
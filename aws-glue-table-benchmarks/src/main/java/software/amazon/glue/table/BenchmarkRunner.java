@@ -0,0 +1,27 @@
+package software.amazon.glue.table;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options and always adds
+ * the GC profiler, so throughput is reported together with the allocation rate per operation.
+ */
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .include(ColdStartBenchmark.class.getSimpleName())
+                .include(HttpClientBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.glue.table;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first Read invocation of a fresh JVM, the work a restored SnapStart container does
+ * on its first request, with and without the checkpoint priming of the table handlers. Every fork
+ * measures a single invocation: the request is deserialized by the wrapper's serializer, then read
+ * against the canned priming responses, so no network is involved and the difference between the
+ * two variants is class loading, initialization and interpretation left to the first request.
+ *
+ * With primed=true the setup runs the same priming the checkpoint hook runs before the snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdStartBenchmark {
+
+    @Param({"false", "true"})
+    boolean primed;
+
+    private GlueClient client;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<GlueClient> proxyClient;
+    private LoggerProxy logger;
+    private String requestJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // the shared client is built at class load in both variants, see GlueClients.preload
+        client = HandlerPriming.primingClient(Priming.RESPONSES);
+        logger = new LoggerProxy();
+        proxy = new AmazonWebServicesClientProxy(logger, new Credentials("benchmark", "benchmark", "benchmark"),
+                () -> Duration.ofMinutes(15).toMillis());
+        proxyClient = proxy.newProxy(() -> client);
+        requestJson = "{\"DatabaseName\":\"" + Priming.DATABASE_NAME + "\",\"TableName\":\"" + Priming.TABLE_NAME + "\"}";
+
+        if (primed) {
+            Priming.register().prime();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> firstRead() throws IOException {
+        final ResourceModel model = new Serializer().deserialize(requestJson, new TypeReference<ResourceModel>() {});
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+                .region(HandlerPriming.PRIMING_REGION)
+                .clientRequestToken("benchmark")
+                .desiredResourceState(model)
+                .build();
+        return new ReadHandler(client, new TableReadCache(0, 1, System::currentTimeMillis))
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    }
+}
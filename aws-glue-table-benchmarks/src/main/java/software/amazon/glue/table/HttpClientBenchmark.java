@@ -0,0 +1,136 @@
+package software.amazon.glue.table;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.cloudformation.AbstractWrapper;
+import software.amazon.glue.common.GlueHttpClients;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the HTTP client implementations selectable with GLUE_HTTP_CLIENT on a GetTable call
+ * against a local server answering with the canned priming table.
+ *
+ * startup measures, once per fresh JVM, building the HTTP client and the GlueClient and making the
+ * first call, which is what an unprimed container pays on its first request. getTable samples the
+ * latency of calls over a warm, pooled connection; JMH reports its percentiles, p0.99 included.
+ * The server is plain HTTP on the loopback interface, so neither number includes the TLS handshake
+ * that GLUE_HTTP_WARM_UP moves to class loading.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpClientBenchmark {
+
+    private static final GetTableRequest GET_TABLE = GetTableRequest.builder()
+            .databaseName(Priming.DATABASE_NAME)
+            .name(Priming.TABLE_NAME)
+            .build();
+
+    @Param({"WRAPPER", "APACHE", "URL_CONNECTION", "CRT"})
+    GlueHttpClients.Implementation implementation;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private URI endpoint;
+    private SdkHttpClient httpClient;
+    private GlueClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final byte[] body = Priming.RESPONSES.get("GetTable").getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream request = exchange.getRequestBody()) {
+                final byte[] buffer = new byte[4096];
+                while (request.read(buffer) != -1) {
+                    // discard
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+            exchange.getResponseHeaders().add("x-amzn-RequestId", "benchmark");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+
+        httpClient = GlueHttpClients.build(GlueHttpClients.Settings.defaults(implementation));
+        client = glueClient(httpClient);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        closeUnlessShared(httpClient);
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public GetTableResponse startup() {
+        final SdkHttpClient startupHttpClient = GlueHttpClients.build(GlueHttpClients.Settings.defaults(implementation));
+        try (GlueClient startupClient = glueClient(startupHttpClient)) {
+            return startupClient.getTable(GET_TABLE);
+        } finally {
+            closeUnlessShared(startupHttpClient);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @Warmup(iterations = 3, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Fork(1)
+    public GetTableResponse getTable() {
+        return client.getTable(GET_TABLE);
+    }
+
+    private GlueClient glueClient(final SdkHttpClient sdkHttpClient) {
+        return GlueClient.builder()
+                .httpClient(sdkHttpClient)
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .build();
+    }
+
+    private static void closeUnlessShared(final SdkHttpClient sdkHttpClient) {
+        if (sdkHttpClient != AbstractWrapper.HTTP_CLIENT) {
+            sdkHttpClient.close();
+        }
+    }
+}
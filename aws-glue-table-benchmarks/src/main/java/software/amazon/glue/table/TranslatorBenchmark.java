@@ -0,0 +1,147 @@
+package software.amazon.glue.table;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.Column;
+import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.GetTablesResponse;
+import software.amazon.awssdk.services.glue.model.Order;
+import software.amazon.awssdk.services.glue.model.SerDeInfo;
+import software.amazon.awssdk.services.glue.model.StorageDescriptor;
+import software.amazon.awssdk.services.glue.model.Table;
+import software.amazon.awssdk.services.glue.model.UpdateTableRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Translator round trips used by the table handlers on generated tables of increasing
+ * width. Every fifth column has a nested struct type, and columns share a small set of comments, as
+ * wide Glue tables usually do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    static final String DATABASE_NAME = "benchmark-database";
+    static final String TABLE_NAME = "benchmark-table";
+    static final int TABLES_PER_PAGE = 100;
+
+    @Param({"10", "1000", "10000"})
+    int columnCount;
+
+    private GetTableResponse getTableResponse;
+    private GetTablesResponse getTablesResponse;
+    private ResourceModel resourceModel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Table table = buildTable(TABLE_NAME, columnCount);
+        getTableResponse = GetTableResponse.builder().table(table).build();
+
+        final List<Table> tables = new ArrayList<>(TABLES_PER_PAGE);
+        for (int i = 0; i < TABLES_PER_PAGE; i++) {
+            tables.add(table.toBuilder().name(TABLE_NAME + "-" + i).build());
+        }
+        getTablesResponse = GetTablesResponse.builder().tableList(tables).nextToken("next-token").build();
+
+        resourceModel = Translator.translateFromReadResponse(getTableResponse, new ModelInterner(), false, null);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(getTableResponse, new ModelInterner(), false, null);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(getTablesResponse, DATABASE_NAME);
+    }
+
+    @Benchmark
+    public CreateTableRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(resourceModel);
+    }
+
+    @Benchmark
+    public UpdateTableRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(resourceModel);
+    }
+
+    static Table buildTable(final String tableName, final int columnCount) {
+        final List<Column> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(Column.builder()
+                    .name("column_" + i)
+                    .type(columnType(i))
+                    .comment("comment " + (i % 8))
+                    .build());
+        }
+
+        final Map<String, String> serdeParameters = new HashMap<>();
+        serdeParameters.put("serialization.format", "1");
+
+        final Map<String, String> tableParameters = new HashMap<>();
+        tableParameters.put("classification", "parquet");
+        tableParameters.put("EXTERNAL", "TRUE");
+
+        return Table.builder()
+                .catalogId("123456789012")
+                .databaseName(DATABASE_NAME)
+                .name(tableName)
+                .owner("owner")
+                .tableType("EXTERNAL_TABLE")
+                .parameters(tableParameters)
+                .partitionKeys(Collections.singletonList(Column.builder().name("dt").type("string").build()))
+                .storageDescriptor(StorageDescriptor.builder()
+                        .columns(columns)
+                        .location("s3://benchmark-bucket/" + tableName + "/")
+                        .inputFormat("org.apache.hadoop.hive.ql.io.parquet.MapredParquetInputFormat")
+                        .outputFormat("org.apache.hadoop.hive.ql.io.parquet.MapredParquetOutputFormat")
+                        .compressed(false)
+                        .numberOfBuckets(-1)
+                        .bucketColumns(Collections.singletonList("column_0"))
+                        .sortColumns(Collections.singletonList(Order.builder().column("column_0").sortOrder(1).build()))
+                        .serdeInfo(SerDeInfo.builder()
+                                .serializationLibrary("org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe")
+                                .parameters(serdeParameters)
+                                .build())
+                        .storedAsSubDirectories(false)
+                        .build())
+                .build();
+    }
+
+    private static String columnType(final int index) {
+        switch (index % 5) {
+            case 0:
+                return "string";
+            case 1:
+                return "bigint";
+            case 2:
+                return "array<string>";
+            case 3:
+                return "map<string,double>";
+            default:
+                return "struct<id:bigint,name:string,address:struct<street:string,city:string,zip:int>,tags:array<string>>";
+        }
+    }
+}
@@ -3,8 +3,15 @@ package software.amazon.glue.table;
 import com.google.common.collect.ImmutableSet;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ColumnStatisticsError;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesResponse;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
 import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.PartitionIndexDescriptor;
+import software.amazon.awssdk.services.glue.model.PartitionIndexStatus;
+import software.amazon.awssdk.services.glue.model.Table;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
@@ -23,20 +30,38 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.lang.Exception;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
 public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
     private final GlueClient glueClient;
+    private final TableStabilizer stabilizer;
+    private final TableReadCache readCache;
 
     static final int CALLBACK_DELAY = 1;
     static final int LIMITED_RETRY_COUNT = 5;
+    static final int PARTITION_INDEX_CALLBACK_DELAY = 15;
+    // an hour of polls; backfilling an index on a large table can take a while
+    static final int MAX_PARTITION_INDEX_POLLS = 240;
+    // an index is listed as soon as it is created, so one still missing after a minute never will be
+    static final int MAX_MISSING_PARTITION_INDEX_POLLS = 4;
+    static final long STABILIZATION_CLOCK_SKEW_MILLIS = 5_000;
 
     static final String ENTITY_NOT_FOUND_EXCEPTION = "EntityNotFoundException";
     static final String FEDERATION_SOURCE_EXCEPTION = "FederationSourceException";
@@ -62,12 +87,27 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
     static final String THROTTLING_ERROR_CODE = "Throttling";
     static final String TOO_MANY_REQUESTS_EXCEPTION = "TooManyRequestsException";
 
+    static {
+        GlueClients.preload(GlueClientConfiguration.THROTTLING_BACKOFF);
+        Priming.register();
+    }
+
     protected BaseHandlerStd() {
-        this(ClientBuilder.getClient());
+        this(GlueClients.get(GlueClientConfiguration.THROTTLING_BACKOFF));
     }
 
     protected BaseHandlerStd(GlueClient glueClient) {
+        this(glueClient, new TableStabilizer());
+    }
+
+    protected BaseHandlerStd(GlueClient glueClient, TableStabilizer stabilizer) {
+        this(glueClient, stabilizer, TableReadCache.INSTANCE);
+    }
+
+    protected BaseHandlerStd(GlueClient glueClient, TableStabilizer stabilizer, TableReadCache readCache) {
         this.glueClient = requireNonNull(glueClient);
+        this.stabilizer = requireNonNull(stabilizer);
+        this.readCache = requireNonNull(readCache);
     }
 
     private GlueClient getGlueClient() {
@@ -99,7 +139,7 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
     /**
      * Base Function for handling errors from all the other handlers.
      * @param request
-     * @param logger
+     * @param log
      * @param e
      * @param resourceModel
      * @param callbackContext
@@ -107,14 +147,18 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
      */
     protected ProgressEvent<ResourceModel, CallbackContext> handleError(
             final GlueRequest request,
-            final Logger logger,
+            final HandlerLogger log,
             final Exception e,
             final ResourceModel resourceModel,
             final CallbackContext callbackContext) {
 
         String errorMessage = getErrorCode(e);
 
-        logger.log(String.format("[ERROR] Failed Request: %s, Error Message: %s", request, errorMessage));
+        log.error("RequestFailed", "Request", request == null ? null : request.getClass().getSimpleName(),
+                "ErrorCode", errorMessage);
+        if (HandlerLogger.DEBUG_ENABLED) {
+            log.debug("FailedRequestPayload", "Request", (Supplier<String>) () -> String.valueOf(request));
+        }
 
         BaseHandlerException ex;
 
@@ -130,7 +174,7 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
             ex = new CfnThrottlingException(e);
         } else if (INVALID_INPUT_EXCEPTION.equals(errorMessage)) {
             ex = new CfnInvalidRequestException(e);
-        } else if (ALREADY_EXISTS.equals(errorMessage)) {
+        } else if (ALREADY_EXISTS.equals(errorMessage) || ALREADY_EXISTS_EXCEPTION.equals(errorMessage)) {
             ex = new CfnAlreadyExistsException(e);
         } else if (e.getMessage().contains(DOES_NOT_EXIST_EXCEPTION)){
             ex = new CfnNotFoundException(e);
@@ -151,7 +195,7 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
                         THROTTLING_ERROR_CODE.equals(errorCode) ||
                         REQUEST_LIMIT_EXCEEDED.equals(errorCode) ||
                         TOO_MANY_REQUESTS_EXCEPTION.equals(errorCode)) {
-                    logger.log("retrying when Deployment Limit is Exceeded");
+                    log.warn("RequestThrottled", "ErrorCode", errorCode);
                     return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
                 }
             } else if (errorStatus >= 500) {
@@ -163,6 +207,223 @@ public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
 
     }
 
+    /**
+     * Polls GetPartitionIndexes until every named index is ACTIVE. While any of them is still
+     * CREATING, or not listed yet, the handler is re-invoked after PARTITION_INDEX_CALLBACK_DELAY
+     * seconds; a FAILED index fails the operation with its backfill errors. The operation fails as
+     * NotStabilized when an index is still missing after MAX_MISSING_PARTITION_INDEX_POLLS polls, or
+     * not ACTIVE after MAX_PARTITION_INDEX_POLLS.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForPartitionIndexes(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel model,
+            final Collection<String> indexNames) {
+        if (indexNames.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final List<String> pendingIndexes = new ArrayList<>();
+        GetPartitionIndexesRequest glueRequest = null;
+        try {
+            final Map<String, PartitionIndexDescriptor> descriptors = new HashMap<>();
+            String nextToken = null;
+            do {
+                glueRequest = Translator.translateToGetPartitionIndexesRequest(model, nextToken);
+                final GetPartitionIndexesResponse response =
+                        proxyClient.injectCredentialsAndInvokeV2(glueRequest, proxyClient.client()::getPartitionIndexes);
+                for (PartitionIndexDescriptor descriptor : response.partitionIndexDescriptorList()) {
+                    descriptors.put(descriptor.indexName(), descriptor);
+                }
+                nextToken = response.nextToken();
+            } while (nextToken != null);
+
+            for (String indexName : indexNames) {
+                final PartitionIndexDescriptor descriptor = descriptors.get(indexName);
+                if (descriptor != null && descriptor.indexStatus() == PartitionIndexStatus.FAILED) {
+                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized,
+                            String.format("Partition index [ %s ] failed to create: %s", indexName, descriptor.backfillErrors()));
+                }
+                if (descriptor == null && callbackContext.getPartitionIndexPolls() >= MAX_MISSING_PARTITION_INDEX_POLLS) {
+                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized,
+                            String.format("Partition index [ %s ] was not found after %d polls", indexName,
+                                    callbackContext.getPartitionIndexPolls()));
+                }
+                if (descriptor == null || descriptor.indexStatus() != PartitionIndexStatus.ACTIVE) {
+                    pendingIndexes.add(indexName);
+                }
+            }
+        } catch (final Exception e) {
+            return handleError(glueRequest, log, e, model, callbackContext);
+        }
+
+        if (pendingIndexes.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        final int polls = callbackContext.getPartitionIndexPolls() + 1;
+        if (polls > MAX_PARTITION_INDEX_POLLS) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized,
+                    String.format("Partition indexes %s did not become active after %d polls", pendingIndexes,
+                            MAX_PARTITION_INDEX_POLLS));
+        }
+        callbackContext.setPartitionIndexPolls(polls);
+        log.info("PartitionIndexesPending", "TableName", model.getTableInput().getName(),
+                "PendingIndexes", pendingIndexes, "Polls", callbackContext.getPartitionIndexPolls());
+        return ProgressEvent.defaultInProgressHandler(callbackContext, PARTITION_INDEX_CALLBACK_DELAY, model);
+    }
+
+    /**
+     * Writes the given column statistics once per operation. A call that fails as a whole is handled
+     * like any other request and re-invoked; since the writes are idempotent, every column is
+     * written again then. A column rejected by Glue fails the operation.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> writeColumnStatistics(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel model,
+            final List<software.amazon.glue.table.ColumnStatistics> columnStatistics) {
+        if (callbackContext.isColumnStatisticsWritten() || columnStatistics == null || columnStatistics.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final List<ColumnStatisticsError> errors;
+        try {
+            errors = ColumnStatisticsWriter.write(proxyClient, model, columnStatistics);
+        } catch (final ColumnStatisticsWriter.CallFailedException e) {
+            return handleError(e.getRequest(), log, e.getFailure(), model, callbackContext);
+        }
+
+        if (!errors.isEmpty()) {
+            // the template has to change for an invalid column, so any such column fails as InvalidRequest
+            boolean invalidInput = false;
+            final List<String> failedColumns = new ArrayList<>(errors.size());
+            for (ColumnStatisticsError error : errors) {
+                final String errorCode = error.error() == null ? null : error.error().errorCode();
+                invalidInput |= INVALID_INPUT_EXCEPTION.equals(errorCode);
+                failedColumns.add(String.format("[ %s ] %s",
+                        error.columnStatistics() == null ? null : error.columnStatistics().columnName(),
+                        error.error() == null ? null : error.error().errorMessage()));
+            }
+            return ProgressEvent.failed(model, callbackContext,
+                    invalidInput ? HandlerErrorCode.InvalidRequest : HandlerErrorCode.GeneralServiceException,
+                    String.format("Column statistics for %d columns could not be written: %s",
+                            errors.size(), String.join("; ", failedColumns)));
+        }
+
+        callbackContext.setColumnStatisticsWritten(true);
+        log.info("ColumnStatisticsWritten", "TableName", model.getTableInput().getName(),
+                "Columns", columnStatistics.size());
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    protected TableReadCache getReadCache() {
+        return readCache;
+    }
+
+    /**
+     * Builds the cache key of a table. Read output sets CatalogId to the account ID while a template
+     * may leave it out, so a missing CatalogId is keyed as the account's own catalog.
+     */
+    protected static TableReadCache.Key readCacheKey(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final String tableName) {
+        final String catalogId = model.getCatalogId() == null ? request.getAwsAccountId() : model.getCatalogId();
+        return new TableReadCache.Key(request.getAwsAccountId(), request.getRegion(), catalogId,
+                model.getDatabaseName(), tableName);
+    }
+
+    /**
+     * Drops the cached GetTable response of a table this container is about to write, so that a
+     * later read in the same container does not return the table as it was before the write.
+     */
+    protected void invalidateCachedTable(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final String tableName) {
+        readCache.invalidate(readCacheKey(request, model, tableName));
+    }
+
+    /**
+     * Records when the table was written, right before CreateTable or UpdateTable is sent. The
+     * stabilization step measures convergence from this point.
+     */
+    protected void recordTableWrite(final CallbackContext callbackContext) {
+        callbackContext.setTableWrittenAt(stabilizer.now());
+    }
+
+    /**
+     * Confirms with GetTable that the last CreateTable or UpdateTable call is visible before the
+     * operation continues, when stabilization is enabled. A created table is visible once GetTable
+     * finds it; an updated table once its UpdateTime is not older than the write. The time from the
+     * write to the first successful check is logged and published as the ConvergenceMillis metric.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> stabilizeTable(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel model,
+            final String operation,
+            final boolean requireUpdateTime) {
+        if (!stabilizer.isEnabled() || callbackContext.isTableStabilized() || callbackContext.getTableWrittenAt() == null) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final long writtenAt = callbackContext.getTableWrittenAt();
+        final GetTableRequest getRequest = Translator.translateToStabilizationRequest(model);
+        final boolean converged;
+        try {
+            converged = stabilizer.await(callbackContext,
+                    () -> isTableVisible(proxyClient, getRequest, requireUpdateTime ? writtenAt : null));
+        } catch (final Exception e) {
+            return handleError(getRequest, log, e, model, callbackContext);
+        }
+
+        if (converged) {
+            callbackContext.setTableStabilized(true);
+            stabilizer.publish(operation, TableStabilizer.CONVERGED, callbackContext);
+            log.info("TableStabilized", "Operation", operation, "TableName", model.getTableInput().getName(),
+                    "ConvergenceMillis", stabilizer.now() - writtenAt, "Polls", callbackContext.getStabilizationPolls(),
+                    "Callbacks", callbackContext.getStabilizationCallbacks());
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        if (stabilizer.timedOut(callbackContext)) {
+            stabilizer.publish(operation, TableStabilizer.NOT_STABILIZED, callbackContext);
+            log.warn("TableNotStabilized", "Operation", operation, "TableName", model.getTableInput().getName(),
+                    "ElapsedMillis", stabilizer.now() - writtenAt, "Polls", callbackContext.getStabilizationPolls());
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized,
+                    String.format("Table [ %s ] is not visible in the catalog %d seconds after %s",
+                            model.getTableInput().getName(), (stabilizer.now() - writtenAt) / 1000, operation));
+        }
+
+        final int callbackDelay = stabilizer.nextCallbackDelay(callbackContext);
+        log.info("TableStabilizing", "Operation", operation, "TableName", model.getTableInput().getName(),
+                "Polls", callbackContext.getStabilizationPolls(), "CallbackDelaySeconds", callbackDelay);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelay, model);
+    }
+
+    private static boolean isTableVisible(
+            final ProxyClient<GlueClient> proxyClient,
+            final GetTableRequest getRequest,
+            final Long writtenAt) {
+        final Table table;
+        try {
+            table = proxyClient.injectCredentialsAndInvokeV2(getRequest, proxyClient.client()::getTable).table();
+        } catch (final RuntimeException e) {
+            if (ENTITY_NOT_FOUND_EXCEPTION.equals(getErrorCode(e))) {
+                return false;
+            }
+            throw e;
+        }
+        if (writtenAt == null || table.updateTime() == null) {
+            return true;
+        }
+        return !table.updateTime().isBefore(Instant.ofEpochMilli(writtenAt - STABILIZATION_CLOCK_SKEW_MILLIS));
+    }
+
     protected static String getErrorCode(Exception e) {
         if (e instanceof AwsServiceException) {
             return ((AwsServiceException) e).awsErrorDetails().errorCode();
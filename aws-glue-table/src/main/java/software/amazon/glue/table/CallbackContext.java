@@ -14,4 +14,17 @@ public class CallbackContext extends StdCallbackContext {
     private boolean preExistenceCheckDone = false;
     private boolean preExistenceCheckDenied = false;
     private int limitedRetryCount = 0;
+    private boolean tableUpdated = false;
+    private Long tableVersionCutoff = null;
+    private int prunedTableVersions = 0;
+    private boolean tableCreated = false;
+    private boolean partitionIndexesDeleted = false;
+    private boolean partitionIndexesCreated = false;
+    private int partitionIndexPolls = 0;
+    private boolean columnStatisticsDeleted = false;
+    private boolean columnStatisticsWritten = false;
+    private Long tableWrittenAt = null;
+    private boolean tableStabilized = false;
+    private int stabilizationPolls = 0;
+    private int stabilizationCallbacks = 0;
 }
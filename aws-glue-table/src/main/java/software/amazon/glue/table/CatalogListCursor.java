@@ -0,0 +1,75 @@
+package software.amazon.glue.table;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Continuation token for listing tables across every database of a catalog. It records the
+ * GetDatabases token of the page to resume in, the last database of that page whose first
+ * GetTables page was listed, and the GetTables token of every listed database with pages left.
+ * Each part is URL-safe base64 encoded and joined with '.', which does not occur in the base64
+ * alphabet.
+ */
+@Value
+public class CatalogListCursor {
+
+    static final CatalogListCursor START = new CatalogListCursor(null, null, Collections.emptyMap());
+
+    private static final String SEPARATOR = ".";
+
+    String databasesToken;
+    // databases sort by name, so listing resumes at the first database after this one even if it was dropped
+    String databaseName;
+    // in database order; the first pages of these databases were already returned
+    Map<String, String> tablesTokens;
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The continuation token, null to start from the first database.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}.
+     */
+    static CatalogListCursor decode(final String token) {
+        if (token == null || token.isEmpty()) {
+            return START;
+        }
+
+        final String[] parts = token.split("\\" + SEPARATOR, -1);
+        if (parts.length < 2 || parts.length % 2 != 0) {
+            throw new IllegalArgumentException("Invalid catalog list token");
+        }
+        final Map<String, String> tablesTokens = new LinkedHashMap<>();
+        for (int i = 2; i < parts.length; i += 2) {
+            final String databaseName = decodePart(parts[i]);
+            final String tablesToken = decodePart(parts[i + 1]);
+            if (databaseName == null || tablesToken == null) {
+                throw new IllegalArgumentException("Invalid catalog list token");
+            }
+            tablesTokens.put(databaseName, tablesToken);
+        }
+        return new CatalogListCursor(decodePart(parts[0]), decodePart(parts[1]), tablesTokens);
+    }
+
+    String encode() {
+        final StringBuilder token = new StringBuilder(encodePart(databasesToken)).append(SEPARATOR).append(encodePart(databaseName));
+        for (Map.Entry<String, String> tablesToken : tablesTokens.entrySet()) {
+            token.append(SEPARATOR).append(encodePart(tablesToken.getKey()))
+                    .append(SEPARATOR).append(encodePart(tablesToken.getValue()));
+        }
+        return token.toString();
+    }
+
+    private static String encodePart(final String part) {
+        return part == null ? "" : Base64.getUrlEncoder().withoutPadding().encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(final String part) {
+        return part.isEmpty() ? null : new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.glue.table;
+
+import com.google.common.collect.Lists;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ColumnStatisticsError;
+import software.amazon.awssdk.services.glue.model.DeleteColumnStatisticsForTableRequest;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.glue.common.AsyncCalls;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Writes and deletes the column statistics of a table. Statistics are written with
+ * UpdateColumnStatisticsForTable in batches of MAX_BATCH_COLUMN_STATISTICS columns and deleted with
+ * one DeleteColumnStatisticsForTable call per column. At most MAX_CONCURRENT_REQUESTS calls are in
+ * flight at a time, and every call has completed when a method returns or throws. A call that fails
+ * as a whole is reported as a {@link CallFailedException} carrying the request it failed on.
+ */
+public class ColumnStatisticsWriter {
+
+    // UpdateColumnStatisticsForTable accepts at most 25 columns per call
+    static final int MAX_BATCH_COLUMN_STATISTICS = 25;
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private static final ExecutorService STATISTICS_EXECUTOR = AsyncCalls.newDaemonPool(MAX_CONCURRENT_REQUESTS, "glue-column-statistics");
+
+    private ColumnStatisticsWriter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Writes the given column statistics, all with the same analysis time.
+     *
+     * @param proxyClient The proxy client used for every call.
+     * @param model The resource model identifying the table.
+     * @param columnStatistics The column statistics to write.
+     * @return The per-column errors reported by Glue, empty when every column was written.
+     * @throws CallFailedException if a call failed as a whole.
+     */
+    static List<ColumnStatisticsError> write(
+            final ProxyClient<GlueClient> proxyClient,
+            final ResourceModel model,
+            final List<software.amazon.glue.table.ColumnStatistics> columnStatistics) {
+        final Instant analyzedTime = Instant.now();
+        final List<CompletableFuture<List<ColumnStatisticsError>>> batches = new ArrayList<>();
+        for (List<software.amazon.glue.table.ColumnStatistics> batch
+                : Lists.partition(columnStatistics, MAX_BATCH_COLUMN_STATISTICS)) {
+            final UpdateColumnStatisticsForTableRequest updateRequest =
+                    Translator.translateToUpdateColumnStatisticsRequest(model, batch, analyzedTime);
+            batches.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return proxyClient.injectCredentialsAndInvokeV2(updateRequest,
+                            proxyClient.client()::updateColumnStatisticsForTable).errors();
+                } catch (final RuntimeException e) {
+                    throw new CallFailedException(updateRequest, e);
+                }
+            }, STATISTICS_EXECUTOR));
+        }
+
+        final List<ColumnStatisticsError> errors = new ArrayList<>();
+        for (List<ColumnStatisticsError> batchErrors : joinAll(batches)) {
+            errors.addAll(batchErrors);
+        }
+        return errors;
+    }
+
+    /**
+     * Deletes the statistics of the given columns. Columns without statistics are skipped.
+     *
+     * @param proxyClient The proxy client used for every call.
+     * @param model The resource model identifying the table.
+     * @param columnNames The names of the columns whose statistics are deleted.
+     * @throws CallFailedException if a call failed as a whole.
+     */
+    static void delete(
+            final ProxyClient<GlueClient> proxyClient,
+            final ResourceModel model,
+            final Collection<String> columnNames) {
+        final List<CompletableFuture<Void>> deletions = new ArrayList<>(columnNames.size());
+        for (String columnName : columnNames) {
+            final DeleteColumnStatisticsForTableRequest deleteRequest =
+                    Translator.translateToDeleteColumnStatisticsRequest(model, columnName);
+            deletions.add(CompletableFuture.runAsync(() -> {
+                try {
+                    proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::deleteColumnStatisticsForTable);
+                } catch (final RuntimeException e) {
+                    if (!BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION.equals(BaseHandlerStd.getErrorCode(e))) {
+                        throw new CallFailedException(deleteRequest, e);
+                    }
+                }
+            }, STATISTICS_EXECUTOR));
+        }
+        joinAll(deletions);
+    }
+
+    private static <T> List<T> joinAll(final List<CompletableFuture<T>> futures) {
+        AsyncCalls.joinAll(futures.toArray(new CompletableFuture<?>[0]));
+        final List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(AsyncCalls.join(future));
+        }
+        return results;
+    }
+
+    /**
+     * A call that failed as a whole, with the request it was sent with.
+     */
+    static final class CallFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient GlueRequest request;
+
+        CallFailedException(final GlueRequest request, final RuntimeException cause) {
+            super(cause);
+            this.request = request;
+        }
+
+        GlueRequest getRequest() {
+            return request;
+        }
+
+        RuntimeException getFailure() {
+            return (RuntimeException) getCause();
+        }
+    }
+}
@@ -11,9 +11,12 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 public class CreateHandler extends BaseHandlerStd {
@@ -30,6 +33,11 @@ public class CreateHandler extends BaseHandlerStd {
         super(glueClient);
     }
 
+    @VisibleForTesting
+    protected CreateHandler(final GlueClient glueClient, final TableStabilizer stabilizer) {
+        super(glueClient, stabilizer);
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -71,26 +79,99 @@ public class CreateHandler extends BaseHandlerStd {
             }
         }
 
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s, DatabaseName: %s, TableName: %s Entered Create Handler",
-                request.getStackId(), request.getClientRequestToken(), model.getDatabaseName(), model.getTableName()));
+        final Optional<String> violation = TableInputValidator.validate(model.getDatabaseName(), model.getTableInput());
+        if (violation.isPresent()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, violation.get());
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredCreateHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
 
-        // check if table exists
         return ProgressEvent.progress(model, callbackContext)
-                .checkExistence(request, progress -> checkExistence(proxy, request, callbackContext, proxyClient, logger, model))
-                .then(progress -> proxy.initiate("AWS-Glue-Table::CreateHandler", proxyClient, model, callbackContext)
-                        .translateToServiceRequest(Translator::translateToCreateRequest)
-                        .makeServiceCall((createRequest, client) -> {
-                            CreateTableResponse response = client.injectCredentialsAndInvokeV2(createRequest, client.client()::createTable);
-                            logger.log(String.format("Creating table with name [ %s ] in database [ %s ]", model.getTableName(), model.getDatabaseName()));
-                            return response;
-                        })
-                        .handleError((erroredRequest, exception, client, resourceModel, context) ->
-                                handleError(erroredRequest, logger, exception, resourceModel, context))
-                        .done(awsResponse -> {
-                            logger.log(String.format("Resource created in StackId: %s with Table Name: %s", request.getStackId(), model.getTableInput().getName()));
-                            return ProgressEvent.success(model, callbackContext);
-                        })
-                );
+                .then(progress -> {
+                    if (callbackContext.isTableCreated()) {
+                        return progress;
+                    }
+                    return createTable(proxy, request, callbackContext, proxyClient, log, model);
+                })
+                .then(progress -> stabilizeTable(proxyClient, callbackContext, log, model, "CreateTable", false))
+                .then(progress -> writeColumnStatistics(proxyClient, callbackContext, log, model, model.getColumnStatistics()))
+                .then(progress -> waitForPartitionIndexes(proxyClient, callbackContext, log, model, partitionIndexNames(model)))
+                .then(progress -> ProgressEvent.success(model, callbackContext));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> createTable(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final HandlerLogger log,
+            final ResourceModel model) {
+        // create optimistically, Glue rejects duplicates with AlreadyExistsException
+        return proxy.initiate("AWS-Glue-Table::CreateHandler", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToCreateRequest)
+                .makeServiceCall((createRequest, client) -> {
+                    recordTableWrite(callbackContext);
+                    invalidateCachedTable(request, model, model.getTableName());
+                    CreateTableResponse response = client.injectCredentialsAndInvokeV2(createRequest, client.client()::createTable);
+                    log.info("CreateTable", "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
+                    return response;
+                })
+                .handleError((erroredRequest, exception, client, resourceModel, context) ->
+                        handleCreateErrors(proxy, request, erroredRequest, exception, resourceModel, context, proxyClient, log))
+                .done(awsResponse -> {
+                    log.info("TableCreated", "StackId", request.getStackId(), "TableName", model.getTableInput().getName());
+                    callbackContext.setTableCreated(true);
+                    return ProgressEvent.progress(model, callbackContext);
+                });
+    }
+
+    private static List<String> partitionIndexNames(final ResourceModel model) {
+        final List<String> indexNames = new ArrayList<>();
+        if (model.getPartitionIndexes() != null) {
+            for (PartitionIndex partitionIndex : model.getPartitionIndexes()) {
+                indexNames.add(partitionIndex.getIndexName());
+            }
+        }
+        return indexNames;
+    }
+
+    /**
+     * Maps CreateTable failures. AlreadyExistsException is reported as AlreadyExists directly; an
+     * AccessDeniedException falls back to the GetTable existence check, since callers without
+     * permissions on an existing table may be denied instead of told it already exists.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> handleCreateErrors(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CreateTableRequest createRequest,
+            final Exception exception,
+            final ResourceModel resourceModel,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final HandlerLogger log
+    ) {
+        final String errorCode = getErrorCode(exception);
+        if (ALREADY_EXISTS_EXCEPTION.equals(errorCode)) {
+            log.info("TableAlreadyExists", "ClientRequestToken", request.getClientRequestToken(),
+                    "TableName", resourceModel.getTableName());
+            return ProgressEvent.failed(
+                    resourceModel,
+                    callbackContext,
+                    HandlerErrorCode.AlreadyExists,
+                    String.format("Table already exists: [ %s ]", resourceModel.getTableName()));
+        }
+
+        if (ACCESS_DENIED_EXCEPTION.equals(errorCode) && !callbackContext.isPreExistenceCheckDone()) {
+            final ProgressEvent<ResourceModel, CallbackContext> existence =
+                    checkExistence(proxy, request, callbackContext, proxyClient, log, resourceModel);
+            if (existence.isFailed()) {
+                return existence;
+            }
+        }
+
+        return handleError(createRequest, log, exception, resourceModel, callbackContext);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkExistence(
@@ -98,27 +179,24 @@ public class CreateHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<GlueClient> proxyClient,
-            final Logger logger,
+            final HandlerLogger log,
             final ResourceModel model
     ) {
         if(callbackContext.isPreExistenceCheckDone()) {
             return ProgressEvent.progress(model, callbackContext);
         }
 
-        logger.log(String.format("[ClientRequestToken: %s] [StackId: %s] Entered Create Handler (existence check)",
-                request.getClientRequestToken(), request.getStackId()));
+        log.info("EnteredCreateExistenceCheck", "ClientRequestToken", request.getClientRequestToken(),
+                "StackId", request.getStackId());
 
         return proxy.initiate("AWS-Glue-Table::CreateCheckExistence", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::getTable))
                 .handleError((erroredRequest, exception, client, resourceModel, context) ->
-                        handlePreExistenceCheckErrors(erroredRequest, exception, resourceModel, context, request, logger))
+                        handlePreExistenceCheckErrors(erroredRequest, exception, resourceModel, context, request, log))
                 .done(awsResponse -> {
-                    logger.log(String.format("[ClientRequestToken: %s] Table [ %s ] already exists. " +
-                                    "Failing CREATE operation. CallbackContext: %s%n",
-                            request.getClientRequestToken(),
-                            awsResponse.table().name(),
-                            callbackContext));
+                    log.info("TableAlreadyExists", "ClientRequestToken", request.getClientRequestToken(),
+                            "TableName", awsResponse.table().name(), "CallbackContext", callbackContext);
                     return ProgressEvent.failed(
                             model,
                             callbackContext,
@@ -133,37 +211,23 @@ public class CreateHandler extends BaseHandlerStd {
             ResourceModel resourceModel,
             CallbackContext callbackContext,
             ResourceHandlerRequest<ResourceModel> request,
-            Logger logger
+            HandlerLogger log
     ) {
         callbackContext.setPreExistenceCheckDone(true);
 
         final String errorCode = getErrorCode(exception);
         if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
-            logger.log(String.format("[ClientRequestToken: %s] Table does not exist. Returning control to " +
-                            "Workflows to continue CREATE (existence check).",
-                    request.getClientRequestToken()));
-
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .callbackContext(callbackContext)
-                    .resourceModel(resourceModel)
-                    .status(OperationStatus.IN_PROGRESS)
-                    .callbackDelaySeconds(1)
-                    .build();
+            log.info("TableNotFoundContinuingCreate", "ClientRequestToken", request.getClientRequestToken());
+
+            return ProgressEvent.progress(resourceModel, callbackContext);
         } else if (ACCESS_DENIED_EXCEPTION.equals(errorCode)) {
-            logger.log(String.format("[ClientRequestToken: %s] No permissions to describe resolver. Returning control to" +
-                            " Workflows to continue CREATE (existence check).",
-                    request.getClientRequestToken()));
+            log.info("ExistenceCheckDeniedContinuingCreate", "ClientRequestToken", request.getClientRequestToken());
 
             callbackContext.setPreExistenceCheckDenied(true);
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .callbackContext(callbackContext)
-                    .resourceModel(resourceModel)
-                    .status(OperationStatus.IN_PROGRESS)
-                    .callbackDelaySeconds(1)
-                    .build();
+            return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
-        return handleError(glueRequest, logger, exception, resourceModel, callbackContext);
+        return handleError(glueRequest, log, exception, resourceModel, callbackContext);
     }
 
     private String generatePhysicalResourceId(final String logicalResourceId, final String clientRequestToken) {
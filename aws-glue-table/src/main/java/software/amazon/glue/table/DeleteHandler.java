@@ -11,9 +11,9 @@ import software.amazon.awssdk.services.glue.model.DeleteTableResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -54,22 +54,24 @@ public class DeleteHandler extends BaseHandlerStd {
                                 model.getDatabaseName(), model.getTableName()));
                 }
 
-                logger.log(String.format("[StackId: %s, ClientRequestToken: %s, DatabaseName: %s, TableName: %s Entered Delete Handler",
-                        request.getStackId(), request.getClientRequestToken(), model.getDatabaseName(), model.getTableName()));
+                final HandlerLogger log = new HandlerLogger(logger);
+                log.info("EnteredDeleteHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                        "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
 
                 // new
                 return ProgressEvent.progress(model, callbackContext)
-                        .checkExistence(request, progress -> checkExistence(proxy, request, callbackContext, proxyClient, logger, model))
+                        .checkExistence(request, progress -> checkExistence(proxy, request, callbackContext, proxyClient, log, model))
                         .then(progress -> proxy.initiate("AWS-Glue-Table::DeleteHandler", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall((deleteRequest, client) -> {
+                                invalidateCachedTable(request, model, model.getTableName());
                                 DeleteTableResponse response = proxyClient.injectCredentialsAndInvokeV2(
                                         deleteRequest, client.client()::deleteTable);
-                                logger.log(String.format("%s successfully deleted", ResourceModel.TYPE_NAME));
+                                log.info("TableDeleted", "TypeName", ResourceModel.TYPE_NAME, "TableName", model.getTableName());
                                 return response;
                                 })
                                 .handleError((erroredRequest, exception, client, resourceModel, context) -> handleError(erroredRequest,
-                                        logger, exception, resourceModel, context))
+                                        log, exception, resourceModel, context))
                                 .done(awsResponse -> ProgressEvent.defaultSuccessHandler(null))
                         );
         }
@@ -79,34 +81,26 @@ public class DeleteHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<GlueClient> proxyClient,
-            final Logger logger,
+            final HandlerLogger log,
             final ResourceModel model
     ) {
         if(callbackContext.isPreExistenceCheckDone()) {
             return ProgressEvent.progress(model, callbackContext);
         }
 
-        logger.log(String.format("[ClientRequestToken: %s] [StackId: %s] Entered Delete Handler (existence check)",
-                request.getClientRequestToken(), request.getStackId()));
+        log.info("EnteredDeleteExistenceCheck", "ClientRequestToken", request.getClientRequestToken(),
+                "StackId", request.getStackId());
 
         return proxy.initiate("AWS-Glue-Table::DeleteCheckExistence", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::getTable))
                 .handleError((erroredRequest, exception, client, resourceModel, context) ->
-                        handlePreExistenceCheckErrors(erroredRequest, exception, resourceModel, context, request, logger))
+                        handlePreExistenceCheckErrors(erroredRequest, exception, resourceModel, context, request, log))
                 .done(awsResponse -> {
-                    logger.log(String.format("[ClientRequestToken: %s] Table [ %s ] already exists. " +
-                                    "Failing CREATE operation. CallbackContext: %s%n",
-                            request.getClientRequestToken(),
-                            awsResponse.table().name(),
-                            callbackContext));
+                    log.info("TableExistsContinuingDelete", "ClientRequestToken", request.getClientRequestToken(),
+                            "TableName", awsResponse.table().name(), "CallbackContext", callbackContext);
                         callbackContext.setPreExistenceCheckDone(true);
-                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                        .callbackContext(callbackContext)
-                        .resourceModel(model)
-                        .status(OperationStatus.IN_PROGRESS)
-                        .callbackDelaySeconds(1)
-                        .build();
+                        return ProgressEvent.progress(model, callbackContext);
         });
     }
 
@@ -116,17 +110,14 @@ public class DeleteHandler extends BaseHandlerStd {
             ResourceModel resourceModel,
             CallbackContext callbackContext,
             ResourceHandlerRequest<ResourceModel> request,
-            Logger logger
+            HandlerLogger log
     ) {
         callbackContext.setPreExistenceCheckDone(true);
 
         final String errorCode = getErrorCode(exception);
         if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
-            logger.log(String.format("[ClientRequestToken: %s] Table %s does not exist. " +
-                            "Failing DELETE operation. CallbackContext: %S%n",
-                    request.getClientRequestToken(),
-                    resourceModel.getTableName(),
-                    callbackContext));
+            log.info("TableNotFoundFailingDelete", "ClientRequestToken", request.getClientRequestToken(),
+                    "TableName", resourceModel.getTableName(), "CallbackContext", callbackContext);
 
             return ProgressEvent.failed(
                     resourceModel,
@@ -135,19 +126,12 @@ public class DeleteHandler extends BaseHandlerStd {
                     String.format("Table with name [ %s ] not found", resourceModel.getTableName()) // why confusing? confirm with Tom
             );
         } else if (ACCESS_DENIED_EXCEPTION.equals(errorCode)) {
-            logger.log(String.format("[ClientRequestToken: %s] No permissions to read Table. Returning control to" +
-                            " Workflows to continue DELETE (existence check).",
-                    request.getClientRequestToken()));
+            log.info("ExistenceCheckDeniedContinuingDelete", "ClientRequestToken", request.getClientRequestToken());
 
             callbackContext.setPreExistenceCheckDenied(true);
-            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .callbackContext(callbackContext)
-                    .resourceModel(resourceModel)
-                    .status(OperationStatus.IN_PROGRESS)
-                    .callbackDelaySeconds(1)
-                    .build();
+            return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
-        return handleError(glueRequest, logger, exception, resourceModel, callbackContext);
+        return handleError(glueRequest, log, exception, resourceModel, callbackContext);
     }
 }
@@ -1,8 +1,15 @@
 package software.amazon.glue.table;
 
+import com.amazonaws.util.StringUtils;
 import com.google.common.annotations.VisibleForTesting;
 
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.Database;
+import software.amazon.awssdk.services.glue.model.GetDatabasesRequest;
+import software.amazon.awssdk.services.glue.model.GetDatabasesResponse;
+import software.amazon.awssdk.services.glue.model.GetTablesRequest;
+import software.amazon.awssdk.services.glue.model.GetTablesResponse;
+import software.amazon.awssdk.services.glue.paginators.GetTablesIterable;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,19 +17,52 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.AsyncCalls;
+import software.amazon.glue.common.HandlerLogger;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 public class ListHandler extends BaseHandlerStd {
 
+    public static final String TIME_BUDGET_MILLIS_VARIABLE = "GLUE_TABLE_LIST_TIME_BUDGET_MILLIS";
+
+    // The plugin does not expose the remaining Lambda time to handlers, so pages are fetched
+    // against a budget measured from handler entry that stays well below the handler timeout.
+    // GLUE_TABLE_LIST_TIME_BUDGET_MILLIS overrides it, for example for a function with a shorter timeout.
+    static final int DEFAULT_LIST_TIME_BUDGET_MILLIS = 20_000;
+    static final long LIST_TIME_BUDGET_MILLIS =
+            TableReadCache.parsePositive(System.getenv(TIME_BUDGET_MILLIS_VARIABLE), DEFAULT_LIST_TIME_BUDGET_MILLIS);
+    static final int LIST_ITEM_BUDGET = 1_000;
+    static final int LIST_PARALLELISM = 4;
+
+    private static final ExecutorService LIST_EXECUTOR = AsyncCalls.newDaemonPool(LIST_PARALLELISM, "glue-table-list");
+
+    private final long listTimeBudgetMillis;
+    private final int listItemBudget;
+
     protected ListHandler() {
         super();
+        this.listTimeBudgetMillis = LIST_TIME_BUDGET_MILLIS;
+        this.listItemBudget = LIST_ITEM_BUDGET;
     }
 
     @VisibleForTesting
     protected ListHandler(final GlueClient glueClient) {
+        this(glueClient, LIST_TIME_BUDGET_MILLIS, LIST_ITEM_BUDGET);
+    }
+
+    @VisibleForTesting
+    protected ListHandler(final GlueClient glueClient, final long listTimeBudgetMillis, final int listItemBudget) {
         super(glueClient);
+        this.listTimeBudgetMillis = listTimeBudgetMillis;
+        this.listItemBudget = listItemBudget;
     }
 
     @Override
@@ -34,16 +74,192 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("{StackId: %s, RequestId: %s} Entered List Handler", request.getStackId(), request.getClientRequestToken()));
+        final long deadline = System.currentTimeMillis() + listTimeBudgetMillis;
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredListHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName());
+
+        if (StringUtils.isNullOrEmpty(model.getDatabaseName())) {
+            final CatalogListCursor cursor;
+            try {
+                cursor = CatalogListCursor.decode(request.getNextToken());
+            } catch (final IllegalArgumentException e) {
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                        String.format("Invalid next token [ %s ]", request.getNextToken()));
+            }
+
+            return proxy.initiate("AWS-Glue-Table::ListCatalogHandler", proxyClient, model, callbackContext)
+                    .translateToServiceRequest(resourceModel -> Translator.translateToListDatabasesRequest(cursor.getDatabasesToken(), model.getCatalogId()))
+                    .makeServiceCall((listRequest, client) -> listCatalogTables(listRequest, client, model.getCatalogId(), cursor, deadline, log))
+                    .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, log, exception, resourceModel, context))
+                    .done(listResult -> listResult);
+        }
 
         return proxy.initiate("AWS-Glue-Table::ListHandler",proxyClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> Translator.translateToListRequest(request.getNextToken(), model.getDatabaseName()))
-                .makeServiceCall((listRequest, client) -> proxyClient.injectCredentialsAndInvokeV2(listRequest, proxyClient.client()::getTables))
-                .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, resourceModel, context))
-                .done((sdkRequest, listResponse, client, resourceModel, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                        .resourceModels(Translator.translateFromListResponse(listResponse, model.getDatabaseName()))
-                        .status(OperationStatus.SUCCESS)
-                        .nextToken(listResponse.nextToken())
-                        .build());
+                .translateToServiceRequest(resourceModel -> Translator.translateToListRequest(request.getNextToken(), model.getCatalogId(), model.getDatabaseName()))
+                .makeServiceCall((listRequest, client) -> listTables(listRequest, client, model.getDatabaseName(), deadline, log))
+                .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, log, exception, resourceModel, context))
+                .done(listResult -> listResult);
+    }
+
+    /**
+     * Walks GetTables pages until the listing is exhausted or the time or item budget is spent,
+     * and returns the aggregated models with the token of the last page fetched.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listTables(
+            final GetTablesRequest listRequest,
+            final ProxyClient<GlueClient> proxyClient,
+            final String databaseName,
+            final long deadline,
+            final HandlerLogger log) {
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        final GetTablesIterable pages = proxyClient.injectCredentialsAndInvokeIterableV2(listRequest,
+                pagedRequest -> new GetTablesIterable(proxyClient.client(), pagedRequest));
+
+        String nextToken = null;
+        int pageCount = 0;
+        for (GetTablesResponse page : pages) {
+            pageCount++;
+            resourceModels.addAll(Translator.translateFromListResponse(page, databaseName));
+            nextToken = page.nextToken();
+            if (resourceModels.size() >= listItemBudget || System.currentTimeMillis() >= deadline) {
+                break;
+            }
+        }
+
+        log.info("TablesListed", "DatabaseName", databaseName, "Tables", resourceModels.size(),
+                "Pages", pageCount);
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(resourceModels)
+                .status(OperationStatus.SUCCESS)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Lists tables across the databases of a catalog. The first GetTables page of up to
+     * LIST_PARALLELISM databases is fetched concurrently and the results are merged in database
+     * order; the databases of the window with further pages are then drained sequentially before the
+     * merge moves on. When a budget runs out, the returned token records the last database listed and
+     * the GetTables token of every database with pages left, so no fetched page is discarded.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listCatalogTables(
+            final GetDatabasesRequest firstRequest,
+            final ProxyClient<GlueClient> proxyClient,
+            final String catalogId,
+            final CatalogListCursor cursor,
+            final long deadline,
+            final HandlerLogger log) {
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        final Map<String, String> tablesTokens = new LinkedHashMap<>(cursor.getTablesTokens());
+        if (!drainTables(tablesTokens, proxyClient, catalogId, resourceModels, deadline)) {
+            return listResult(resourceModels,
+                    new CatalogListCursor(cursor.getDatabasesToken(), cursor.getDatabaseName(), tablesTokens).encode(), log);
+        }
+
+        GetDatabasesRequest databasesRequest = firstRequest;
+        String lastDatabase = cursor.getDatabaseName();
+
+        while (true) {
+            final String databasesToken = databasesRequest.nextToken();
+            final GetDatabasesResponse databasesPage =
+                    proxyClient.injectCredentialsAndInvokeV2(databasesRequest, proxyClient.client()::getDatabases);
+            final List<String> databases = new ArrayList<>(databasesPage.databaseList().size());
+            for (Database database : databasesPage.databaseList()) {
+                databases.add(database.name());
+            }
+
+            // GetDatabases returns databases sorted by name, so this also skips past a database dropped since the token was issued.
+            int start = 0;
+            while (lastDatabase != null && start < databases.size() && databases.get(start).compareTo(lastDatabase) <= 0) {
+                start++;
+            }
+
+            for (int windowStart = start; windowStart < databases.size(); windowStart += LIST_PARALLELISM) {
+                final List<String> window = databases.subList(windowStart, Math.min(windowStart + LIST_PARALLELISM, databases.size()));
+                final List<CompletableFuture<GetTablesResponse>> firstPages = new ArrayList<>(window.size());
+                for (String databaseName : window) {
+                    firstPages.add(CompletableFuture.supplyAsync(() -> proxyClient.injectCredentialsAndInvokeV2(
+                            Translator.translateToListRequest(null, catalogId, databaseName), proxyClient.client()::getTables), LIST_EXECUTOR));
+                }
+
+                for (int i = 0; i < window.size(); i++) {
+                    final GetTablesResponse page = AsyncCalls.join(firstPages.get(i));
+                    resourceModels.addAll(Translator.translateFromListResponse(page, window.get(i)));
+                    if (page.nextToken() != null) {
+                        tablesTokens.put(window.get(i), page.nextToken());
+                    }
+                }
+                lastDatabase = window.get(window.size() - 1);
+
+                if (!drainTables(tablesTokens, proxyClient, catalogId, resourceModels, deadline)
+                        || (windowStart + window.size() < databases.size() && isBudgetSpent(resourceModels, deadline))) {
+                    return listResult(resourceModels, new CatalogListCursor(databasesToken, lastDatabase, tablesTokens).encode(), log);
+                }
+            }
+
+            if (databasesPage.nextToken() == null) {
+                return listResult(resourceModels, null, log);
+            }
+            if (isBudgetSpent(resourceModels, deadline)) {
+                return listResult(resourceModels,
+                        new CatalogListCursor(databasesPage.nextToken(), null, Collections.emptyMap()).encode(), log);
+            }
+            databasesRequest = databasesRequest.toBuilder().nextToken(databasesPage.nextToken()).build();
+            lastDatabase = null;
+        }
+    }
+
+    /**
+     * Fetches the remaining GetTables pages of each database in order, removing a database once it
+     * is exhausted or was dropped meanwhile.
+     *
+     * @return false when a budget ran out, with the rest left in tablesTokens.
+     */
+    private boolean drainTables(
+            final Map<String, String> tablesTokens,
+            final ProxyClient<GlueClient> proxyClient,
+            final String catalogId,
+            final List<ResourceModel> resourceModels,
+            final long deadline) {
+        final Iterator<Map.Entry<String, String>> databases = tablesTokens.entrySet().iterator();
+        while (databases.hasNext()) {
+            final Map.Entry<String, String> database = databases.next();
+            while (database.getValue() != null) {
+                if (isBudgetSpent(resourceModels, deadline)) {
+                    return false;
+                }
+                final GetTablesResponse page;
+                try {
+                    page = proxyClient.injectCredentialsAndInvokeV2(
+                            Translator.translateToListRequest(database.getValue(), catalogId, database.getKey()), proxyClient.client()::getTables);
+                } catch (final RuntimeException e) {
+                    if (ENTITY_NOT_FOUND_EXCEPTION.equals(getErrorCode(e))) {
+                        break;
+                    }
+                    throw e;
+                }
+                resourceModels.addAll(Translator.translateFromListResponse(page, database.getKey()));
+                database.setValue(page.nextToken());
+            }
+            databases.remove();
+        }
+        return true;
+    }
+
+    private boolean isBudgetSpent(final List<ResourceModel> resourceModels, final long deadline) {
+        return resourceModels.size() >= listItemBudget || System.currentTimeMillis() >= deadline;
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> listResult(
+            final List<ResourceModel> resourceModels,
+            final String nextToken,
+            final HandlerLogger log) {
+        log.info("CatalogTablesListed", "Tables", resourceModels.size());
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(resourceModels)
+                .status(OperationStatus.SUCCESS)
+                .nextToken(nextToken)
+                .build();
     }
 }
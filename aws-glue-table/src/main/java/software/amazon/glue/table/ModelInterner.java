@@ -0,0 +1,36 @@
+package software.amazon.glue.table;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes equal immutable values produced while translating Glue responses, so that
+ * repeated column types, comments and identical Column, SerdeInfo and Order models share a single
+ * instance. An interner is meant to live for a single handler invocation, shared by every table
+ * translated in it, and is not thread-safe.
+ *
+ * Interned resource models must not be mutated afterwards, since other models may reference them.
+ */
+public class ModelInterner {
+
+    private final Map<Object, Object> canonical = new HashMap<>();
+
+    /**
+     * Returns the canonical instance equal to the given value, registering it if it is the first.
+     *
+     * @param value The value to intern, may be null.
+     * @return The canonical instance, or null for a null value.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T intern(final T value) {
+        if (value == null) {
+            return null;
+        }
+        final Object existing = canonical.putIfAbsent(value, value);
+        return existing == null ? value : (T) existing;
+    }
+
+    int size() {
+        return canonical.size();
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.glue.table;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.Map;
+
+/**
+ * Primes the table handlers before a SnapStart snapshot, see {@link HandlerPriming}. The steps read,
+ * create, update, list and delete a synthetic table with partition keys and nested column types,
+ * and round trip the resource model through the wrapper's serializer. Stabilization and the read
+ * cache are disabled so that priming neither waits nor leaves entries in the shared cache.
+ */
+final class Priming {
+
+    static final String DATABASE_NAME = "priming_database";
+    static final String TABLE_NAME = "priming_table";
+
+    private static final String TABLE = "{"
+            + "\"Name\":\"" + TABLE_NAME + "\",\"DatabaseName\":\"" + DATABASE_NAME + "\","
+            + "\"CatalogId\":\"" + HandlerPriming.PRIMING_ACCOUNT_ID + "\",\"TableType\":\"EXTERNAL_TABLE\","
+            + "\"Owner\":\"priming\",\"CreateTime\":1.7E9,\"UpdateTime\":1.7E9,\"Retention\":0,"
+            + "\"Parameters\":{\"classification\":\"parquet\",\"EXTERNAL\":\"TRUE\"},"
+            + "\"PartitionKeys\":[{\"Name\":\"dt\",\"Type\":\"string\",\"Comment\":\"partition date\"}],"
+            + "\"StorageDescriptor\":{"
+            + "\"Columns\":["
+            + "{\"Name\":\"id\",\"Type\":\"bigint\",\"Comment\":\"identifier\"},"
+            + "{\"Name\":\"amount\",\"Type\":\"decimal(10,2)\"},"
+            + "{\"Name\":\"tags\",\"Type\":\"array<string>\"},"
+            + "{\"Name\":\"payload\",\"Type\":\"struct<name:string,attributes:map<string,string>>\","
+            + "\"Parameters\":{\"pii\":\"false\"}}],"
+            + "\"Location\":\"s3://priming-bucket/" + TABLE_NAME + "/\","
+            + "\"InputFormat\":\"org.apache.hadoop.hive.ql.io.parquet.MapredParquetInputFormat\","
+            + "\"OutputFormat\":\"org.apache.hadoop.hive.ql.io.parquet.MapredParquetOutputFormat\","
+            + "\"Compressed\":false,\"NumberOfBuckets\":-1,\"StoredAsSubDirectories\":false,"
+            + "\"SerdeInfo\":{\"SerializationLibrary\":\"org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe\","
+            + "\"Parameters\":{\"serialization.format\":\"1\"}},"
+            + "\"SortColumns\":[{\"Column\":\"id\",\"SortOrder\":1}],"
+            + "\"BucketColumns\":[],\"Parameters\":{}}}";
+
+    static final Map<String, String> RESPONSES = ImmutableMap.<String, String>builder()
+            .put("GetTable", "{\"Table\":" + TABLE + "}")
+            .put("GetTables", "{\"TableList\":[" + TABLE + "]}")
+            .put("GetDatabases", "{\"DatabaseList\":[{\"Name\":\"" + DATABASE_NAME + "\"}]}")
+            .put("GetPartitionIndexes", "{\"PartitionIndexDescriptorList\":[]}")
+            .put("GetTableVersions", "{\"TableVersions\":[]}")
+            .build();
+
+    private Priming() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(ResourceModel.TYPE_NAME, RESPONSES,
+                (proxy, proxyClient, logger) -> {
+                    final ResourceModel model = read(proxy, proxyClient, logger);
+                    final Serializer serializer = new Serializer();
+                    serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                    serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+                },
+                (proxy, proxyClient, logger) -> new CreateHandler(proxyClient.client(), disabledStabilizer())
+                        .handleRequest(proxy, request(read(proxy, proxyClient, logger), null), new CallbackContext(),
+                                proxyClient, logger),
+                (proxy, proxyClient, logger) -> {
+                    final ResourceModel previous = read(proxy, proxyClient, logger);
+                    final ResourceModel desired = read(proxy, proxyClient, logger);
+                    desired.getTableInput().setOwner("primed");
+                    new UpdateHandler(proxyClient.client(), disabledStabilizer())
+                            .handleRequest(proxy, request(desired, previous), new CallbackContext(), proxyClient, logger);
+                },
+                (proxy, proxyClient, logger) -> new ListHandler(proxyClient.client())
+                        .handleRequest(proxy, request(ResourceModel.builder().databaseName(DATABASE_NAME).build(), null),
+                                new CallbackContext(), proxyClient, logger),
+                (proxy, proxyClient, logger) -> new DeleteHandler(proxyClient.client())
+                        .handleRequest(proxy, request(read(proxy, proxyClient, logger), null), new CallbackContext(),
+                                proxyClient, logger));
+    }
+
+    private static ResourceModel read(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+        final ResourceModel identifier = ResourceModel.builder()
+                .databaseName(DATABASE_NAME)
+                .tableName(TABLE_NAME)
+                .build();
+        return new ReadHandler(proxyClient.client(), new TableReadCache(0, 1, System::currentTimeMillis))
+                .handleRequest(proxy, request(identifier, null), new CallbackContext(), proxyClient, logger)
+                .getResourceModel();
+    }
+
+    private static TableStabilizer disabledStabilizer() {
+        return new TableStabilizer(false, System::currentTimeMillis, Thread::sleep);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+                .region(HandlerPriming.PRIMING_REGION)
+                .clientRequestToken("priming")
+                .logicalResourceIdentifier("PrimingTable")
+                .stackId("priming")
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+}
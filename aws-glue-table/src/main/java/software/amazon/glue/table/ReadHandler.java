@@ -10,9 +10,13 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
 import com.amazonaws.util.StringUtils;
 
+import java.util.Map;
+import java.util.function.Supplier;
+
 public class ReadHandler extends BaseHandlerStd {
 
     protected ReadHandler() {
@@ -24,6 +28,11 @@ public class ReadHandler extends BaseHandlerStd {
         super(glueClient);
     }
 
+    @VisibleForTesting
+    protected ReadHandler(final GlueClient glueClient, final TableReadCache readCache) {
+        super(glueClient, new TableStabilizer(), readCache);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -46,20 +55,45 @@ public class ReadHandler extends BaseHandlerStd {
                             model.getDatabaseName(), model.getTableName()));
         }
 
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s, DatabaseName: %s, TableName: %s Entered Read Handler",
-                request.getStackId(), request.getClientRequestToken(), model.getDatabaseName(), model.getTableName()));
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredReadHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
+
+        final ModelInterner interner = new ModelInterner();
+        // Read gets only the identifiers for drift detection; when the model carries TableInput, the
+        // Iceberg-managed parameters it declares, as templates registering Iceberg tables do, are kept
+        final Map<String, Object> declaredParameters = model.getTableInput() == null ? null : model.getTableInput().getParameters();
+        final TableReadCache readCache = getReadCache();
+        final TableReadCache.Key cacheKey = readCacheKey(request, model, model.getTableName());
+        final GetTableResponse cached = readCache.get(cacheKey);
+        if (readCache.isEnabled()) {
+            log.info("ReadCache", "TableName", model.getTableName(), "Hit", cached != null,
+                    "Hits", readCache.hits(), "Misses", readCache.misses(), "Size", readCache.size());
+        }
+        if (cached != null) {
+            return ProgressEvent.defaultSuccessHandler(translateFromReadResponse(cached, interner, declaredParameters));
+        }
 
         return proxy.initiate("AWS-Glue-Table::ReadHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getRequest, client) -> {
                     GetTableResponse response = client.injectCredentialsAndInvokeV2(getRequest, client.client()::getTable);
-                    logger.log(String.format("Reading table %s from database %s", model.getTableName(), model.getDatabaseName()));
+                    log.info("ReadTable", "DatabaseName", model.getDatabaseName(), "TableName", model.getTableName());
+                    readCache.put(cacheKey, response);
                     return response;
                 })
-                .handleError((erroredRequest, exception, client, resourceModel, context) -> handleError(erroredRequest, logger, exception, resourceModel, context))
+                .handleError((erroredRequest, exception, client, resourceModel, context) -> handleError(erroredRequest, log, exception, resourceModel, context))
                 .done(awsResponse -> {
-                    logger.log(String.format("Response from GetTable request: %s", awsResponse.toString()));
-                    return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse));
+                    if (HandlerLogger.DEBUG_ENABLED) {
+                        log.debug("GetTableResponse", "Response", (Supplier<String>) awsResponse::toString);
+                    }
+                    return ProgressEvent.defaultSuccessHandler(translateFromReadResponse(awsResponse, interner, declaredParameters));
                 });
     }
+
+    private static ResourceModel translateFromReadResponse(final GetTableResponse response, final ModelInterner interner,
+                                                           final Map<String, Object> declaredParameters) {
+        return Translator.translateFromReadResponse(response, interner,
+                TranslatorUtils.isIcebergTable(response.table().parameters()), declaredParameters);
+    }
 }
@@ -0,0 +1,257 @@
+package software.amazon.glue.table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Structural comparison of two table resource models. Values that the Translator sends to Glue
+ * identically (null and empty parameter maps, null and empty lists) are treated as equal, so only
+ * differences that would change the UpdateTable request are reported.
+ */
+public class TableDiff {
+
+    static final String CATALOG_ID = "CatalogId";
+    static final String DATABASE_NAME = "DatabaseName";
+    static final String TABLE_INPUT = "TableInput";
+    static final String STORAGE_DESCRIPTOR = "StorageDescriptor";
+    static final String COLUMNS = STORAGE_DESCRIPTOR + ".Columns";
+    static final String PARTITION_KEYS = "PartitionKeys";
+
+    private TableDiff() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Lists the properties that differ between the previous and the desired resource model.
+     *
+     * @param previous The previous resource model, may be null.
+     * @param desired The desired resource model.
+     * @return The changed property paths, empty when the UpdateTable call would be a no-op.
+     */
+    static Set<String> diff(final ResourceModel previous, final ResourceModel desired) {
+        final Set<String> changes = new LinkedHashSet<>();
+        if (previous == null || desired == null) {
+            changes.add(TABLE_INPUT);
+            return changes;
+        }
+
+        compare(changes, CATALOG_ID, previous.getCatalogId(), desired.getCatalogId());
+        compare(changes, DATABASE_NAME, previous.getDatabaseName(), desired.getDatabaseName());
+        diffTableInput(changes, previous.getTableInput(), desired.getTableInput());
+        return changes;
+    }
+
+    private static void diffTableInput(final Set<String> changes, final TableInput previous, final TableInput desired) {
+        if (previous == null || desired == null) {
+            if (previous != desired) {
+                changes.add(TABLE_INPUT);
+            }
+            return;
+        }
+
+        compare(changes, "Name", previous.getName(), desired.getName());
+        compare(changes, "Owner", previous.getOwner(), desired.getOwner());
+        compare(changes, "Description", previous.getDescription(), desired.getDescription());
+        compare(changes, "TableType", previous.getTableType(), desired.getTableType());
+        compare(changes, "ViewOriginalText", previous.getViewOriginalText(), desired.getViewOriginalText());
+        compare(changes, "ViewExpandedText", previous.getViewExpandedText(), desired.getViewExpandedText());
+        compare(changes, "Retention", previous.getRetention(), desired.getRetention());
+        compare(changes, "TargetTable", previous.getTargetTable(), desired.getTargetTable());
+        compare(changes, "Parameters", parameters(previous.getParameters()), parameters(desired.getParameters()));
+        compare(changes, PARTITION_KEYS, list(previous.getPartitionKeys()), list(desired.getPartitionKeys()));
+        diffStorageDescriptor(changes, previous.getStorageDescriptor(), desired.getStorageDescriptor());
+    }
+
+    private static void diffStorageDescriptor(final Set<String> changes,
+                                              final StorageDescriptor previous,
+                                              final StorageDescriptor desired) {
+        if (previous == null || desired == null) {
+            if (previous != desired) {
+                changes.add(STORAGE_DESCRIPTOR);
+            }
+            return;
+        }
+
+        compare(changes, COLUMNS, list(previous.getColumns()), list(desired.getColumns()));
+        compare(changes, STORAGE_DESCRIPTOR + ".Location", previous.getLocation(), desired.getLocation());
+        compare(changes, STORAGE_DESCRIPTOR + ".InputFormat", previous.getInputFormat(), desired.getInputFormat());
+        compare(changes, STORAGE_DESCRIPTOR + ".OutputFormat", previous.getOutputFormat(), desired.getOutputFormat());
+        compare(changes, STORAGE_DESCRIPTOR + ".Compressed", previous.getCompressed(), desired.getCompressed());
+        compare(changes, STORAGE_DESCRIPTOR + ".NumberOfBuckets", previous.getNumberOfBuckets(), desired.getNumberOfBuckets());
+        compare(changes, STORAGE_DESCRIPTOR + ".StoredAsSubDirectories",
+                previous.getStoredAsSubDirectories(), desired.getStoredAsSubDirectories());
+        compare(changes, STORAGE_DESCRIPTOR + ".BucketColumns",
+                list(previous.getBucketColumns()), list(desired.getBucketColumns()));
+        compare(changes, STORAGE_DESCRIPTOR + ".SortColumns",
+                list(previous.getSortColumns()), list(desired.getSortColumns()));
+        compare(changes, STORAGE_DESCRIPTOR + ".Parameters",
+                parameters(previous.getParameters()), parameters(desired.getParameters()));
+        compare(changes, STORAGE_DESCRIPTOR + ".SchemaReference",
+                previous.getSchemaReference(), desired.getSchemaReference());
+
+        final SerdeInfo previousSerde = previous.getSerdeInfo();
+        final SerdeInfo desiredSerde = desired.getSerdeInfo();
+        if (previousSerde == null || desiredSerde == null) {
+            compare(changes, STORAGE_DESCRIPTOR + ".SerdeInfo", previousSerde, desiredSerde);
+        } else if (!Objects.equals(previousSerde.getName(), desiredSerde.getName())
+                || !Objects.equals(previousSerde.getSerializationLibrary(), desiredSerde.getSerializationLibrary())
+                || !parameters(previousSerde.getParameters()).equals(parameters(desiredSerde.getParameters()))) {
+            changes.add(STORAGE_DESCRIPTOR + ".SerdeInfo");
+        }
+
+        final SkewedInfo previousSkew = previous.getSkewedInfo();
+        final SkewedInfo desiredSkew = desired.getSkewedInfo();
+        if (previousSkew == null || desiredSkew == null) {
+            compare(changes, STORAGE_DESCRIPTOR + ".SkewedInfo", previousSkew, desiredSkew);
+        } else if (!list(previousSkew.getSkewedColumnNames()).equals(list(desiredSkew.getSkewedColumnNames()))
+                || !list(previousSkew.getSkewedColumnValues()).equals(list(desiredSkew.getSkewedColumnValues()))
+                || !parameters(previousSkew.getSkewedColumnValueLocationMaps())
+                        .equals(parameters(desiredSkew.getSkewedColumnValueLocationMaps()))) {
+            changes.add(STORAGE_DESCRIPTOR + ".SkewedInfo");
+        }
+    }
+
+    /**
+     * Lists the desired partition indexes that do not exist yet with the same keys.
+     *
+     * @param previous The previous resource model, may be null.
+     * @param desired The desired resource model.
+     * @return The partition indexes to create.
+     */
+    static List<PartitionIndex> partitionIndexesToCreate(final ResourceModel previous, final ResourceModel desired) {
+        final Map<String, PartitionIndex> existing = partitionIndexesByName(previous);
+        final List<PartitionIndex> toCreate = new ArrayList<>();
+        for (PartitionIndex partitionIndex : list(desired.getPartitionIndexes())) {
+            if (!partitionIndex.equals(existing.get(partitionIndex.getIndexName()))) {
+                toCreate.add(partitionIndex);
+            }
+        }
+        return toCreate;
+    }
+
+    /**
+     * Lists the previous partition indexes that were removed or whose keys changed. Glue cannot
+     * change the keys of an index, so a changed index is deleted and created again.
+     *
+     * @param previous The previous resource model, may be null.
+     * @param desired The desired resource model.
+     * @return The names of the partition indexes to delete.
+     */
+    static List<String> partitionIndexesToDelete(final ResourceModel previous, final ResourceModel desired) {
+        final Map<String, PartitionIndex> wanted = partitionIndexesByName(desired);
+        final List<String> toDelete = new ArrayList<>();
+        for (PartitionIndex partitionIndex : partitionIndexesByName(previous).values()) {
+            if (!partitionIndex.equals(wanted.get(partitionIndex.getIndexName()))) {
+                toDelete.add(partitionIndex.getIndexName());
+            }
+        }
+        return toDelete;
+    }
+
+    /**
+     * Lists the desired column statistics that changed, or whose column was removed or changed type,
+     * since the previous resource model.
+     *
+     * @param previous The previous resource model, may be null.
+     * @param desired The desired resource model.
+     * @return The column statistics to write.
+     */
+    static List<ColumnStatistics> columnStatisticsToWrite(final ResourceModel previous, final ResourceModel desired) {
+        final Map<String, ColumnStatistics> existing = columnStatisticsByName(previous);
+        final Set<String> changedColumns = changedColumns(previous, desired);
+        final List<ColumnStatistics> toWrite = new ArrayList<>();
+        for (ColumnStatistics statistics : list(desired.getColumnStatistics())) {
+            if (!statistics.equals(existing.get(statistics.getColumnName()))
+                    || changedColumns.contains(statistics.getColumnName())) {
+                toWrite.add(statistics);
+            }
+        }
+        return toWrite;
+    }
+
+    /**
+     * Lists the columns whose statistics are stale: columns removed from the table or whose type
+     * changed, and columns whose statistics were removed from the resource model. Columns whose
+     * statistics are written again are left out, since the write replaces them.
+     *
+     * @param previous The previous resource model, may be null.
+     * @param desired The desired resource model.
+     * @return The names of the columns whose statistics to delete.
+     */
+    static Set<String> columnStatisticsToDelete(final ResourceModel previous, final ResourceModel desired) {
+        final Set<String> toDelete = new LinkedHashSet<>(changedColumns(previous, desired));
+        toDelete.addAll(columnStatisticsByName(previous).keySet());
+        toDelete.removeAll(columnStatisticsByName(desired).keySet());
+        return toDelete;
+    }
+
+    private static Set<String> changedColumns(final ResourceModel previous, final ResourceModel desired) {
+        final Map<String, String> desiredTypes = columnTypes(desired);
+        final Set<String> changed = new LinkedHashSet<>();
+        for (Map.Entry<String, String> column : columnTypes(previous).entrySet()) {
+            if (!desiredTypes.containsKey(column.getKey())
+                    || !Objects.equals(desiredTypes.get(column.getKey()), column.getValue())) {
+                changed.add(column.getKey());
+            }
+        }
+        return changed;
+    }
+
+    private static Map<String, String> columnTypes(final ResourceModel model) {
+        if (model == null || model.getTableInput() == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> types = new HashMap<>();
+        for (Column column : list(model.getTableInput().getPartitionKeys())) {
+            types.put(column.getName(), column.getType());
+        }
+        if (model.getTableInput().getStorageDescriptor() != null) {
+            for (Column column : list(model.getTableInput().getStorageDescriptor().getColumns())) {
+                types.put(column.getName(), column.getType());
+            }
+        }
+        return types;
+    }
+
+    private static Map<String, ColumnStatistics> columnStatisticsByName(final ResourceModel model) {
+        if (model == null || model.getColumnStatistics() == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, ColumnStatistics> columnStatistics = new HashMap<>();
+        for (ColumnStatistics statistics : model.getColumnStatistics()) {
+            columnStatistics.put(statistics.getColumnName(), statistics);
+        }
+        return columnStatistics;
+    }
+
+    private static Map<String, PartitionIndex> partitionIndexesByName(final ResourceModel model) {
+        if (model == null || model.getPartitionIndexes() == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, PartitionIndex> partitionIndexes = new HashMap<>();
+        for (PartitionIndex partitionIndex : model.getPartitionIndexes()) {
+            partitionIndexes.put(partitionIndex.getIndexName(), partitionIndex);
+        }
+        return partitionIndexes;
+    }
+
+    private static void compare(final Set<String> changes, final String path, final Object previous, final Object desired) {
+        if (!Objects.equals(previous, desired)) {
+            changes.add(path);
+        }
+    }
+
+    private static <T> List<T> list(final List<T> values) {
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    private static Map<String, Object> parameters(final Map<String, Object> parameters) {
+        return parameters == null ? Collections.emptyMap() : parameters;
+    }
+}
@@ -0,0 +1,427 @@
+package software.amazon.glue.table;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Validates a TableInput locally against the rules Glue enforces, so an invalid model fails before
+ * any Glue call instead of after a round trip or a re-invocation. The model is walked once and the
+ * first violation is reported with the path of the offending property.
+ *
+ * Column and partition key types are checked against the structure of the Hive type grammar:
+ * <pre>
+ *   type      := primitive | array&lt;type&gt; | map&lt;primitive,type&gt; | struct&lt;field(,field)*&gt; | uniontype&lt;type(,type)*&gt;
+ *   field     := name:type
+ *   primitive := decimal[(precision[,scale])] | varchar[(length)] | char[(length)] | word+ [(number(,number)*)]
+ * </pre>
+ * Glue accepts primitive names beyond Hive's, such as Spark's timestamp_ntz or Hive 3's timestamp with
+ * local time zone, so any other primitive name passes and only its brackets and parameters are checked.
+ */
+public class TableInputValidator {
+
+    static final int MAX_NAME_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 2048;
+    static final int MAX_COMMENT_LENGTH = 255;
+    static final int MAX_TYPE_LENGTH = 131072;
+    static final int MAX_LOCATION_LENGTH = 2056;
+    static final int MAX_FORMAT_LENGTH = 128;
+    static final int MAX_VIEW_TEXT_LENGTH = 409600;
+    static final int MAX_PARAMETER_KEY_LENGTH = 255;
+    static final int MAX_PARAMETER_VALUE_BYTES = 512000;
+    static final int MAX_DECIMAL_PRECISION = 38;
+    static final int MAX_VARCHAR_LENGTH = 65535;
+    static final int MAX_CHAR_LENGTH = 255;
+
+    private static final int MAX_QUOTED_TYPE_LENGTH = 100;
+
+    private TableInputValidator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Validates the database name and the table input of a resource model.
+     *
+     * @param databaseName The database name.
+     * @param tableInput The table input.
+     * @return The first violation found, or empty if the table input is valid.
+     */
+    public static Optional<String> validate(final String databaseName, final TableInput tableInput) {
+        try {
+            checkName("DatabaseName", databaseName);
+            if (tableInput != null) {
+                validateTableInput(tableInput);
+            }
+            return Optional.empty();
+        } catch (final ValidationException e) {
+            return Optional.of(e.getMessage());
+        }
+    }
+
+    private static void validateTableInput(final TableInput tableInput) {
+        checkName("TableInput.Name", tableInput.getName());
+        checkLength("TableInput.Description", tableInput.getDescription(), MAX_DESCRIPTION_LENGTH);
+        checkName("TableInput.Owner", tableInput.getOwner());
+        checkName("TableInput.TableType", tableInput.getTableType());
+        checkLength("TableInput.ViewOriginalText", tableInput.getViewOriginalText(), MAX_VIEW_TEXT_LENGTH);
+        checkLength("TableInput.ViewExpandedText", tableInput.getViewExpandedText(), MAX_VIEW_TEXT_LENGTH);
+        if (tableInput.getRetention() != null && tableInput.getRetention() < 0) {
+            fail("TableInput.Retention", "must not be negative");
+        }
+        checkParameters("TableInput.Parameters", tableInput.getParameters());
+
+        // Hive folds column names to lowercase, so names only differing in case collide
+        final Set<String> columnNames = new HashSet<>();
+        checkColumns("TableInput.PartitionKeys", tableInput.getPartitionKeys(), columnNames);
+        final StorageDescriptor storageDescriptor = tableInput.getStorageDescriptor();
+        if (storageDescriptor != null) {
+            validateStorageDescriptor(storageDescriptor, columnNames);
+        }
+    }
+
+    private static void validateStorageDescriptor(final StorageDescriptor storageDescriptor, final Set<String> columnNames) {
+        final int partitionKeyCount = columnNames.size();
+        checkColumns("TableInput.StorageDescriptor.Columns", storageDescriptor.getColumns(), columnNames);
+        checkLength("TableInput.StorageDescriptor.Location", storageDescriptor.getLocation(), MAX_LOCATION_LENGTH);
+        checkLength("TableInput.StorageDescriptor.InputFormat", storageDescriptor.getInputFormat(), MAX_FORMAT_LENGTH);
+        checkLength("TableInput.StorageDescriptor.OutputFormat", storageDescriptor.getOutputFormat(), MAX_FORMAT_LENGTH);
+        checkParameters("TableInput.StorageDescriptor.Parameters", storageDescriptor.getParameters());
+
+        final SerdeInfo serdeInfo = storageDescriptor.getSerdeInfo();
+        if (serdeInfo != null) {
+            checkName("TableInput.StorageDescriptor.SerdeInfo.Name", serdeInfo.getName());
+            checkName("TableInput.StorageDescriptor.SerdeInfo.SerializationLibrary", serdeInfo.getSerializationLibrary());
+            checkParameters("TableInput.StorageDescriptor.SerdeInfo.Parameters", serdeInfo.getParameters());
+        }
+
+        // columns defined by a schema registry reference are not known locally
+        final boolean columnsKnown = storageDescriptor.getSchemaReference() == null || columnNames.size() > partitionKeyCount;
+
+        final Integer numberOfBuckets = storageDescriptor.getNumberOfBuckets();
+        if (numberOfBuckets != null && numberOfBuckets < -1) {
+            fail("TableInput.StorageDescriptor.NumberOfBuckets", "must be -1 or greater");
+        }
+        final List<String> bucketColumns = storageDescriptor.getBucketColumns();
+        if (bucketColumns != null && !bucketColumns.isEmpty()) {
+            if (numberOfBuckets == null || numberOfBuckets <= 0) {
+                fail("TableInput.StorageDescriptor.NumberOfBuckets", "must be positive when BucketColumns are set");
+            }
+            for (int i = 0; i < bucketColumns.size(); i++) {
+                checkColumnReference("TableInput.StorageDescriptor.BucketColumns", i, bucketColumns.get(i), columnNames, columnsKnown);
+            }
+        }
+
+        final List<Order> sortColumns = storageDescriptor.getSortColumns();
+        if (sortColumns != null) {
+            for (int i = 0; i < sortColumns.size(); i++) {
+                final Order order = sortColumns.get(i);
+                checkColumnReference("TableInput.StorageDescriptor.SortColumns", i, order.getColumn(), columnNames, columnsKnown);
+                if (order.getSortOrder() == null || (order.getSortOrder() != 0 && order.getSortOrder() != 1)) {
+                    fail(indexed("TableInput.StorageDescriptor.SortColumns", i) + ".SortOrder", "must be 0 or 1");
+                }
+            }
+        }
+
+        final SkewedInfo skewedInfo = storageDescriptor.getSkewedInfo();
+        if (skewedInfo != null && skewedInfo.getSkewedColumnNames() != null) {
+            final List<String> skewedColumnNames = skewedInfo.getSkewedColumnNames();
+            for (int i = 0; i < skewedColumnNames.size(); i++) {
+                checkColumnReference("TableInput.StorageDescriptor.SkewedInfo.SkewedColumnNames", i,
+                        skewedColumnNames.get(i), columnNames, columnsKnown);
+            }
+        }
+    }
+
+    private static void checkColumns(final String path, final List<Column> columns, final Set<String> columnNames) {
+        if (columns == null) {
+            return;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            final Column column = columns.get(i);
+            final String name = column.getName();
+            if (name == null || name.isEmpty()) {
+                fail(indexed(path, i) + ".Name", "must not be empty");
+            }
+            checkName(indexed(path, i) + ".Name", name);
+            if (!columnNames.add(name.toLowerCase(Locale.ROOT))) {
+                fail(indexed(path, i) + ".Name", String.format("duplicates column [ %s ]", name));
+            }
+            checkLength(indexed(path, i) + ".Comment", column.getComment(), MAX_COMMENT_LENGTH);
+            if (column.getType() != null) {
+                checkLength(indexed(path, i) + ".Type", column.getType(), MAX_TYPE_LENGTH);
+                new TypeParser(indexed(path, i) + ".Type", column.getType()).parse();
+            }
+        }
+    }
+
+    private static void checkColumnReference(final String path,
+                                             final int index,
+                                             final String name,
+                                             final Set<String> columnNames,
+                                             final boolean columnsKnown) {
+        if (name == null || name.isEmpty()) {
+            fail(indexed(path, index), "must not be empty");
+        }
+        if (columnsKnown && !columnNames.contains(name.toLowerCase(Locale.ROOT))) {
+            fail(indexed(path, index), String.format("references unknown column [ %s ]", name));
+        }
+    }
+
+    private static void checkParameters(final String path, final Map<String, Object> parameters) {
+        if (parameters == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            final String key = parameter.getKey();
+            if (key.isEmpty() || key.length() > MAX_PARAMETER_KEY_LENGTH) {
+                fail(path, String.format("key [ %s ] must be between 1 and %d characters", abbreviate(key), MAX_PARAMETER_KEY_LENGTH));
+            }
+            checkSingleLine(path, key);
+            if (!(parameter.getValue() instanceof String)) {
+                fail(path + "." + key, "must be a string");
+            }
+            final String value = (String) parameter.getValue();
+            // a character takes at most 3 UTF-8 bytes, so only long values need to be encoded
+            if (value.length() * 3L > MAX_PARAMETER_VALUE_BYTES
+                    && value.getBytes(StandardCharsets.UTF_8).length > MAX_PARAMETER_VALUE_BYTES) {
+                fail(path + "." + key, String.format("must not exceed %d bytes", MAX_PARAMETER_VALUE_BYTES));
+            }
+        }
+    }
+
+    private static void checkName(final String path, final String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.isEmpty() || value.length() > MAX_NAME_LENGTH) {
+            fail(path, String.format("must be between 1 and %d characters", MAX_NAME_LENGTH));
+        }
+        checkSingleLine(path, value);
+    }
+
+    private static void checkLength(final String path, final String value, final int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            fail(path, String.format("must not exceed %d characters", maxLength));
+        }
+    }
+
+    private static void checkSingleLine(final String path, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x20 && c != '\t') {
+                fail(path, String.format("contains an invalid character at position %d", i));
+            }
+        }
+    }
+
+    private static String indexed(final String path, final int index) {
+        return path + "[" + index + "]";
+    }
+
+    private static String abbreviate(final String value) {
+        return value.length() <= MAX_QUOTED_TYPE_LENGTH ? value : value.substring(0, MAX_QUOTED_TYPE_LENGTH) + "...";
+    }
+
+    private static void fail(final String path, final String message) {
+        throw new ValidationException(path + " " + message);
+    }
+
+    /**
+     * Recursive descent parser for a Hive type string.
+     */
+    private static final class TypeParser {
+        private final String path;
+        private final String type;
+        private int position;
+
+        TypeParser(final String path, final String type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        void parse() {
+            parseType();
+            skipWhitespace();
+            if (position < type.length()) {
+                error("unexpected '" + type.charAt(position) + "'");
+            }
+        }
+
+        /**
+         * @return True if the parsed type is a primitive type.
+         */
+        private boolean parseType() {
+            skipWhitespace();
+            final int start = position;
+            final String keyword = readWord();
+            switch (keyword) {
+                case "array":
+                    expect('<');
+                    parseType();
+                    expect('>');
+                    return false;
+                case "map":
+                    expect('<');
+                    final int keyStart = position;
+                    if (!parseType()) {
+                        position = keyStart;
+                        skipWhitespace();
+                        error("map keys must be a primitive type");
+                    }
+                    expect(',');
+                    parseType();
+                    expect('>');
+                    return false;
+                case "struct":
+                    expect('<');
+                    do {
+                        parseFieldName();
+                        expect(':');
+                        parseType();
+                    } while (accept(','));
+                    expect('>');
+                    return false;
+                case "uniontype":
+                    expect('<');
+                    do {
+                        parseType();
+                    } while (accept(','));
+                    expect('>');
+                    return false;
+                case "decimal":
+                    if (accept('(')) {
+                        final int precision = readNumber(1, MAX_DECIMAL_PRECISION, "decimal precision");
+                        if (accept(',')) {
+                            readNumber(0, precision, "decimal scale");
+                        }
+                        expect(')');
+                    }
+                    return true;
+                case "varchar":
+                    readOptionalLength(MAX_VARCHAR_LENGTH);
+                    return true;
+                case "char":
+                    readOptionalLength(MAX_CHAR_LENGTH);
+                    return true;
+                default:
+                    if (keyword.isEmpty()) {
+                        position = start;
+                        error("expected a type");
+                    }
+                    readTrailingWords();
+                    if (accept('(')) {
+                        do {
+                            readNumber(0, Integer.MAX_VALUE, "type parameter");
+                        } while (accept(','));
+                        expect(')');
+                    }
+                    return true;
+            }
+        }
+
+        private void parseFieldName() {
+            skipWhitespace();
+            if (accept('`')) {
+                final int end = type.indexOf('`', position);
+                if (end <= position) {
+                    error("unterminated or empty quoted field name");
+                }
+                position = end + 1;
+                return;
+            }
+            final int start = position;
+            while (position < type.length() && ":,<>` \t\r\n".indexOf(type.charAt(position)) < 0) {
+                position++;
+            }
+            if (position == start) {
+                error("expected a field name");
+            }
+        }
+
+        /**
+         * Reads the further words of a multi-word primitive name, such as "double precision".
+         */
+        private void readTrailingWords() {
+            while (true) {
+                final int end = position;
+                skipWhitespace();
+                if (readWord().isEmpty()) {
+                    position = end;
+                    return;
+                }
+            }
+        }
+
+        private void readOptionalLength(final int max) {
+            if (accept('(')) {
+                readNumber(1, max, "length");
+                expect(')');
+            }
+        }
+
+        private int readNumber(final int min, final int max, final String what) {
+            skipWhitespace();
+            final int start = position;
+            long value = 0;
+            while (position < type.length() && Character.isDigit(type.charAt(position)) && value <= max) {
+                value = value * 10 + (type.charAt(position) - '0');
+                position++;
+            }
+            if (position == start) {
+                error("expected " + what);
+            }
+            if (value < min || value > max) {
+                position = start;
+                error(String.format("%s must be between %d and %d", what, min, max));
+            }
+            return (int) value;
+        }
+
+        private String readWord() {
+            final int start = position;
+            while (position < type.length()
+                    && (Character.isLetterOrDigit(type.charAt(position)) || type.charAt(position) == '_')) {
+                position++;
+            }
+            return type.substring(start, position).toLowerCase(Locale.ROOT);
+        }
+
+        private boolean accept(final char expected) {
+            skipWhitespace();
+            if (position < type.length() && type.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char expected) {
+            if (!accept(expected)) {
+                error("expected '" + expected + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < type.length() && Character.isWhitespace(type.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void error(final String message) {
+            fail(path, String.format("[ %s ] is not a valid Hive type: %s at position %d",
+                    abbreviate(type), message, position));
+        }
+    }
+
+    private static final class ValidationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ValidationException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package software.amazon.glue.table;
+
+import lombok.Value;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Container-scoped cache of GetTable responses used by the ReadHandler, so that drift detection and
+ * the reads that follow a create do not call GetTable again for a table read seconds earlier in the
+ * same warm container.
+ *
+ * The cache is off unless the GLUE_TABLE_READ_CACHE_TTL_SECONDS environment variable is positive.
+ * It holds at most GLUE_TABLE_READ_CACHE_MAX_ENTRIES tables, evicting the least recently read one,
+ * and every entry expires TTL seconds after it was read from Glue. Only successful responses are
+ * cached. The Create, Update and Delete handlers invalidate the entry of the table they wrote, but
+ * writes made outside this container are only seen once the entry expires.
+ *
+ * SDK responses are immutable, so a cached response is translated again on every hit and no
+ * resource model is shared between requests.
+ */
+public class TableReadCache {
+
+    public static final String TTL_SECONDS_VARIABLE = "GLUE_TABLE_READ_CACHE_TTL_SECONDS";
+    public static final String MAX_ENTRIES_VARIABLE = "GLUE_TABLE_READ_CACHE_MAX_ENTRIES";
+
+    static final int DEFAULT_MAX_ENTRIES = 128;
+
+    static final TableReadCache INSTANCE = new TableReadCache(
+            parsePositive(System.getenv(TTL_SECONDS_VARIABLE), 0) * 1000L,
+            parsePositive(System.getenv(MAX_ENTRIES_VARIABLE), DEFAULT_MAX_ENTRIES),
+            System::currentTimeMillis);
+
+    /**
+     * Identifies a table across the accounts and regions a container may serve. The default
+     * catalog is keyed by the account ID, whether or not the model names it.
+     */
+    @Value
+    static class Key {
+        String accountId;
+        String region;
+        String catalogId;
+        String databaseName;
+        String tableName;
+    }
+
+    @Value
+    private static class Entry {
+        GetTableResponse response;
+        long expiresAt;
+    }
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    TableReadCache(final long ttlMillis, final int maxEntries, final LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    /**
+     * @param key The table to look up.
+     * @return The cached response, or null when the table is not cached, its entry expired or the
+     *         cache is disabled.
+     */
+    GetTableResponse get(final Key key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.getExpiresAt() > clock.getAsLong()) {
+                hits.incrementAndGet();
+                return entry.getResponse();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    void put(final Key key, final GetTableResponse response) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(response, clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    void invalidate(final Key key) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static int parsePositive(final String value, final int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package software.amazon.glue.table;
+
+import software.amazon.glue.common.GlueRateLimiter;
+
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules the read-after-write checks that confirm a created or updated table is visible in the
+ * catalog before the handler reports success.
+ *
+ * Stabilization is off unless the GLUE_TABLE_STABILIZATION environment variable is "true". Checks
+ * first run inline with delays that start at INITIAL_POLL_DELAY_MILLIS and double up to
+ * MAX_POLL_DELAY_MILLIS, since the catalog usually converges within a few hundred milliseconds.
+ * Once an invocation has spent INLINE_BUDGET_MILLIS waiting, the handler is re-invoked with a
+ * callback delay that doubles up to MAX_CALLBACK_DELAY seconds, until TIMEOUT_MILLIS have passed
+ * since the write.
+ *
+ * The outcome of every stabilization is published as an embedded metric format record, in the
+ * namespace of the rate limiter metrics, with the time from the write as ConvergenceMillis and the
+ * outcome and poll count as dimensions.
+ */
+public class TableStabilizer {
+
+    public static final String ENABLED_VARIABLE = "GLUE_TABLE_STABILIZATION";
+
+    static final long INITIAL_POLL_DELAY_MILLIS = 100;
+    static final long MAX_POLL_DELAY_MILLIS = 2_000;
+    static final long INLINE_BUDGET_MILLIS = 10_000;
+    static final int MAX_CALLBACK_DELAY = 30;
+    static final long TIMEOUT_MILLIS = 10 * 60_000;
+
+    static final String CONVERGED = "Converged";
+    static final String NOT_STABILIZED = "NotStabilized";
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final boolean enabled;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final Consumer<String> metricsSink;
+
+    public TableStabilizer() {
+        this(parseEnabled(System.getenv(ENABLED_VARIABLE)), System::currentTimeMillis, Thread::sleep);
+    }
+
+    TableStabilizer(final boolean enabled, final LongSupplier clock, final Sleeper sleeper) {
+        this(enabled, clock, sleeper, System.out::println);
+    }
+
+    TableStabilizer(final boolean enabled, final LongSupplier clock, final Sleeper sleeper, final Consumer<String> metricsSink) {
+        this.enabled = enabled;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.metricsSink = metricsSink;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Polls the given check with growing delays until it passes or this invocation's inline budget
+     * is spent. Every check is counted in the CallbackContext.
+     *
+     * @param callbackContext The callback context counting the polls of the whole operation.
+     * @param converged The read-after-write check, true once the write is visible.
+     * @return True when the check passed, false when the handler should be re-invoked.
+     */
+    boolean await(final CallbackContext callbackContext, final BooleanSupplier converged) {
+        final long startedAt = now();
+        long delay = INITIAL_POLL_DELAY_MILLIS;
+        while (true) {
+            callbackContext.setStabilizationPolls(callbackContext.getStabilizationPolls() + 1);
+            if (converged.getAsBoolean()) {
+                return true;
+            }
+            if (now() - startedAt + delay > INLINE_BUDGET_MILLIS) {
+                return false;
+            }
+            try {
+                sleeper.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            delay = Math.min(delay * 2, MAX_POLL_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * @param callbackContext The callback context counting the re-invocations of the operation.
+     * @return The delay before the next re-invocation, doubling from CALLBACK_DELAY up to MAX_CALLBACK_DELAY.
+     */
+    int nextCallbackDelay(final CallbackContext callbackContext) {
+        final int callbacks = callbackContext.getStabilizationCallbacks();
+        callbackContext.setStabilizationCallbacks(callbacks + 1);
+        return (int) Math.min((long) BaseHandlerStd.CALLBACK_DELAY << Math.min(callbacks, 16), MAX_CALLBACK_DELAY);
+    }
+
+    boolean timedOut(final CallbackContext callbackContext) {
+        return now() - callbackContext.getTableWrittenAt() > TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Publishes the outcome of a stabilization.
+     *
+     * @param operation The operation that wrote the table, for example "CreateTable".
+     * @param outcome CONVERGED or NOT_STABILIZED.
+     * @param callbackContext The callback context counting the polls of the whole operation.
+     */
+    void publish(final String operation, final String outcome, final CallbackContext callbackContext) {
+        final long now = now();
+        metricsSink.accept(metricRecord(now, operation, outcome, callbackContext.getStabilizationPolls(),
+                now - callbackContext.getTableWrittenAt()));
+    }
+
+    static String metricRecord(final long timestamp, final String operation, final String outcome, final int polls,
+                               final long convergenceMillis) {
+        return String.format(Locale.ROOT,
+                "{\"_aws\":{\"Timestamp\":%d,\"CloudWatchMetrics\":[{\"Namespace\":\"%s\",\"Dimensions\":[[\"Outcome\",\"PollCount\"]],"
+                        + "\"Metrics\":[{\"Name\":\"ConvergenceMillis\",\"Unit\":\"Milliseconds\"}]}]},"
+                        + "\"Operation\":\"%s\",\"Outcome\":\"%s\",\"PollCount\":\"%d\",\"ConvergenceMillis\":%d}",
+                timestamp, GlueRateLimiter.METRICS_NAMESPACE, operation, outcome, polls, convergenceMillis);
+    }
+
+    static boolean parseEnabled(final String value) {
+        return value != null && "true".equals(value.trim().toLowerCase(Locale.ROOT));
+    }
+}
@@ -9,7 +9,7 @@ public class TableUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    protected static boolean validateLowercase(final String name) {
+    public static boolean validateLowercase(final String name) {
         return name.equals(name.toLowerCase());
     }
 
@@ -1,28 +1,40 @@
 package software.amazon.glue.table;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import software.amazon.awssdk.services.glue.model.BatchDeleteTableVersionRequest;
+import software.amazon.awssdk.services.glue.model.CreatePartitionIndexRequest;
 import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteColumnStatisticsForTableRequest;
+import software.amazon.awssdk.services.glue.model.DeletePartitionIndexRequest;
 import software.amazon.awssdk.services.glue.model.UpdateTableRequest;
 import software.amazon.awssdk.services.glue.model.Table;
 import software.amazon.awssdk.services.glue.model.UpdateTableResponse;
 import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
+import software.amazon.awssdk.services.glue.model.GetDatabasesRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesRequest;
 import software.amazon.awssdk.services.glue.model.GetTableRequest;
 import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.GetTableVersionsRequest;
 import software.amazon.awssdk.services.glue.model.GetTablesRequest;
 import software.amazon.awssdk.services.glue.model.GetTablesResponse;
 import software.amazon.awssdk.services.glue.model.TableInput;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableRequest;
 
 public class Translator {
 
+    static final int MAX_TABLE_VERSIONS_PAGE_SIZE = 100;
+
     /**
      * Translates the resource model object to the corresponding service request object for the Read operation.
      *
      * @param model The resource model object.
      * @return The corresponding service request object for the Read operation.
      */
-    static GetTableRequest translateToReadRequest(final ResourceModel model) {
+    public static GetTableRequest translateToReadRequest(final ResourceModel model) {
         // Validate the input model
         if (model == null || model.getDatabaseName() == null || model.getTableName() == null) {
             throw new IllegalArgumentException("Invalid input model");
@@ -38,9 +50,16 @@ public class Translator {
      * Translates the service response object to the corresponding resource model object for the Read operation.
      *
      * @param response: The GetTableResponse from the Glue SDK
+     * @param interner: The interner scoped to the current handler invocation
+     * @param icebergTable: Whether the table is an Iceberg table, see {@link TranslatorUtils#isIcebergTable}. Its
+     *                      Iceberg properties are then read back into OpenTableFormatInput
+     * @param declaredParameters: The TableInput.Parameters of the model, null when the model only holds
+     *                            identifiers. Iceberg-managed parameters are kept only if declared there
      * @return The corresponding resource model object for the Read operation.
      */
-    static ResourceModel translateFromReadResponse(final GetTableResponse response) {
+    public static ResourceModel translateFromReadResponse(final GetTableResponse response, final ModelInterner interner,
+                                                          final boolean icebergTable,
+                                                          final Map<String, Object> declaredParameters) {
         // Validate the input response
         if(response == null) return null;
 
@@ -48,8 +67,11 @@ public class Translator {
                 .databaseName(response.table().databaseName())
                 .catalogId(response.table().catalogId())
                 .tableName(response.table().name())
-                //.openTableFormatInput(TranslatorUtils.translateOpenTableFormatInput(response.table().openTableFormatInput()))
-                .tableInput(TranslatorUtils.translateTableInputFromSDK(response.table()))
+                .openTableFormatInput(icebergTable
+                        ? TranslatorUtils.translateOpenTableFormatInputFromSDK(response.table())
+                        : null)
+                .tableInput(TranslatorUtils.translateTableInputFromSDK(response.table(), interner, icebergTable,
+                        declaredParameters))
                 .build();
     }
 
@@ -67,44 +89,72 @@ public class Translator {
                 .catalogId(resourceModel.getCatalogId())
                 .openTableFormatInput(TranslatorUtils.translateToSdkOpenTableFormatInput(resourceModel.getOpenTableFormatInput()))
                 .tableInput(tableInput)
+                .partitionIndexes(TranslatorUtils.translateToSDKPartitionIndexes(resourceModel.getPartitionIndexes()))
                 .build();
     }
 
-    static GetTablesRequest translateToListRequest(final String nextToken, final String databaseName) {
+    static GetDatabasesRequest translateToListDatabasesRequest(final String nextToken, final String catalogId) {
+        return GetDatabasesRequest.builder()
+                .catalogId(catalogId)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static GetTablesRequest translateToListRequest(final String nextToken, final String catalogId, final String databaseName) {
         return GetTablesRequest.builder()
+                .catalogId(catalogId)
                 .databaseName(databaseName)
                 .nextToken(nextToken)
                 .build();
     }
 
+    /**
+     * Translates a GetTables page into identifier-only resource models. Listing only needs the primary
+     * identifier, so the table definitions (storage descriptor, columns, parameters) are not translated.
+     *
+     * @param listTablesResponse The GetTablesResponse from the Glue SDK
+     * @param databaseName The database the tables were listed from
+     * @return Resource models holding CatalogId, DatabaseName and TableName
+     */
     static List<ResourceModel> translateFromListResponse( final GetTablesResponse listTablesResponse, final String databaseName) {
-        final List<ResourceModel> resourceModels = new ArrayList<>();
-
-        if(listTablesResponse.hasTableList()) {
-            for (Table table : listTablesResponse.tableList()) {
-                resourceModels.add(ResourceModel.builder()
-                        .catalogId(table.catalogId())
-                        .databaseName(databaseName)
-                        .tableName(table.name())
-                        .tableInput(TranslatorUtils.translateTableInputFromSDK(table))
-                        .build());
-            }
+        if(!listTablesResponse.hasTableList()) {
+            return new ArrayList<>();
+        }
+
+        final List<ResourceModel> resourceModels = new ArrayList<>(listTablesResponse.tableList().size());
+        for (Table table : listTablesResponse.tableList()) {
+            resourceModels.add(ResourceModel.builder()
+                    .catalogId(table.catalogId())
+                    .databaseName(databaseName)
+                    .tableName(table.name())
+                    .build());
         }
         return resourceModels;
     }
 
-    static UpdateTableRequest translateToUpdateRequest(final ResourceModel model) {
+    public static UpdateTableRequest translateToUpdateRequest(final ResourceModel model) {
         final TableInput tableInput = TranslatorUtils.translateToSDKTableInput(model.getTableInput());
     final UpdateTableRequest.Builder builder = UpdateTableRequest.builder()
         .databaseName(model.getDatabaseName())
         .catalogId(model.getCatalogId())
-        .tableInput(tableInput);
+        .tableInput(tableInput)
+        .skipArchive(model.getSkipArchive());
 
         return builder.build();
     }
 
 
     protected static ResourceModel translateFromUpdateResponse(final UpdateTableResponse response, final ResourceModel model) {
+        return translateToUpdatedModel(model);
+    }
+
+    /**
+     * Builds the resource model reported after an update, without the write-only properties.
+     *
+     * @param model The desired resource model.
+     * @return The resource model reported back to CloudFormation.
+     */
+    protected static ResourceModel translateToUpdatedModel(final ResourceModel model) {
         return ResourceModel.builder()
             .databaseName(model.getDatabaseName())
             .catalogId(model.getCatalogId())
@@ -113,10 +163,89 @@ public class Translator {
             .build();
     }
 
-    protected static DeleteTableRequest translateToDeleteRequest(final ResourceModel model) {
+    public static DeleteTableRequest translateToDeleteRequest(final ResourceModel model) {
         return DeleteTableRequest.builder()
                 .databaseName(model.getDatabaseName())
                 .name(model.getTableName())
                 .build();
     }
+
+    static GetTableRequest translateToStabilizationRequest(final ResourceModel model) {
+        return GetTableRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .name(model.getTableInput().getName())
+                .build();
+    }
+
+    static GetTableVersionsRequest translateToGetTableVersionsRequest(final ResourceModel model, final String nextToken) {
+        return GetTableVersionsRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .maxResults(MAX_TABLE_VERSIONS_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static BatchDeleteTableVersionRequest translateToBatchDeleteTableVersionRequest(final ResourceModel model,
+                                                                                   final List<String> versionIds) {
+        return BatchDeleteTableVersionRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .versionIds(versionIds)
+                .build();
+    }
+
+    static GetPartitionIndexesRequest translateToGetPartitionIndexesRequest(final ResourceModel model, final String nextToken) {
+        return GetPartitionIndexesRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static CreatePartitionIndexRequest translateToCreatePartitionIndexRequest(final ResourceModel model,
+                                                                             final PartitionIndex partitionIndex) {
+        return CreatePartitionIndexRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .partitionIndex(TranslatorUtils.translateToSDKPartitionIndex(partitionIndex))
+                .build();
+    }
+
+    static DeletePartitionIndexRequest translateToDeletePartitionIndexRequest(final ResourceModel model,
+                                                                             final String indexName) {
+        return DeletePartitionIndexRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .indexName(indexName)
+                .build();
+    }
+
+    static UpdateColumnStatisticsForTableRequest translateToUpdateColumnStatisticsRequest(
+            final ResourceModel model,
+            final List<software.amazon.glue.table.ColumnStatistics> columnStatistics,
+            final Instant analyzedTime) {
+        return UpdateColumnStatisticsForTableRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .columnStatisticsList(TranslatorUtils.translateToSDKColumnStatistics(columnStatistics, analyzedTime))
+                .build();
+    }
+
+    static DeleteColumnStatisticsForTableRequest translateToDeleteColumnStatisticsRequest(final ResourceModel model,
+                                                                                         final String columnName) {
+        return DeleteColumnStatisticsForTableRequest.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(model.getTableInput().getName())
+                .columnName(columnName)
+                .build();
+    }
 }
@@ -1,10 +1,23 @@
 package software.amazon.glue.table;
 
 import com.amazonaws.util.StringUtils;
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.glue.model.BinaryColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.BooleanColumnStatisticsData;
 import software.amazon.awssdk.services.glue.model.Column;
+import software.amazon.awssdk.services.glue.model.ColumnStatistics;
+import software.amazon.awssdk.services.glue.model.ColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.DateColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.DecimalColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.DecimalNumber;
+import software.amazon.awssdk.services.glue.model.DoubleColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.LongColumnStatisticsData;
+import software.amazon.awssdk.services.glue.model.StringColumnStatisticsData;
 import software.amazon.awssdk.services.glue.model.Order;
 import software.amazon.awssdk.services.glue.model.IcebergInput;
 import software.amazon.awssdk.services.glue.model.OpenTableFormatInput;
+import software.amazon.awssdk.services.glue.model.PartitionIndex;
 import software.amazon.awssdk.services.glue.model.MetadataOperation;
 import software.amazon.awssdk.services.glue.model.SerDeInfo;
 import software.amazon.awssdk.services.glue.model.SchemaId;
@@ -15,26 +28,49 @@ import software.amazon.awssdk.services.glue.model.Table;
 import software.amazon.awssdk.services.glue.model.TableIdentifier;
 import software.amazon.awssdk.services.glue.model.TableInput;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 public class TranslatorUtils {
 
+    static final String TABLE_TYPE_PARAMETER = "table_type";
+    static final String ICEBERG_TABLE_TYPE = "ICEBERG";
+    static final String METADATA_LOCATION_PARAMETER = "metadata_location";
+    static final String PREVIOUS_METADATA_LOCATION_PARAMETER = "previous_metadata_location";
+    static final Set<String> ICEBERG_MANAGED_PARAMETERS = ImmutableSet.of(
+            TABLE_TYPE_PARAMETER,
+            METADATA_LOCATION_PARAMETER,
+            PREVIOUS_METADATA_LOCATION_PARAMETER);
+
     private TranslatorUtils() {
         throw new IllegalArgumentException("Utility class");
     }
 
     /**
-     * Translates the SDK property object to the corresponding resource model object.
+     * Translates the SDK property object to the corresponding resource model object, sharing equal
+     * column types, comments, columns, SerDe infos and sort orders through the given interner.
      *
      * @param sdkObject The SDK property object.
+     * @param interner The interner scoped to the current handler invocation.
+     * @param icebergTable Whether the table is an Iceberg table, whose Iceberg-managed parameters are
+     *                     read back into OpenTableFormatInput instead of the table parameters.
+     * @param declaredParameters The table parameters of the model, null if it declares none. Iceberg-managed
+     *                           parameters declared there are kept.
      * @return The corresponding resource model object.
      */
-    static software.amazon.glue.table.TableInput translateTableInputFromSDK(final Table sdkObject) {
+    static software.amazon.glue.table.TableInput translateTableInputFromSDK(final Table sdkObject, final ModelInterner interner,
+                                                                           final boolean icebergTable,
+                                                                           final Map<String, Object> declaredParameters) {
         // Validate the input SDK object
         if (sdkObject == null) {
             return null;
@@ -45,11 +81,13 @@ public class TranslatorUtils {
                 .viewOriginalText(sdkObject.viewOriginalText())
                 .description(sdkObject.description())
                 .tableType(sdkObject.tableType())
-                .parameters(translateParametersFromSDK(sdkObject.parameters()))
+                .parameters(icebergTable && sdkObject.parameters() != null
+                        ? translateIcebergParametersFromSDK(sdkObject.parameters(), declaredParameters)
+                        : translateParametersFromSDK(sdkObject.parameters()))
                 .viewExpandedText(sdkObject.viewExpandedText())
-                .storageDescriptor(translateStorageDescriptorFromSDK(sdkObject.storageDescriptor()))
+                .storageDescriptor(translateStorageDescriptorFromSDK(sdkObject.storageDescriptor(), interner))
                 .targetTable(translateTableIdentifierFromSDK(sdkObject.targetTable()))
-                .partitionKeys(translatePartitionKeysFromSDK(sdkObject.partitionKeys()))
+                .partitionKeys(translatePartitionKeysFromSDK(sdkObject.partitionKeys(), interner))
                 .retention(sdkObject.retention())
                 .name(sdkObject.name())
                 .build();
@@ -60,19 +98,12 @@ public class TranslatorUtils {
      * Translates a list of Glue SDK Column into a list of ResourceModel Columns
      *
      * @param sdkObject: The list of Glue SDK column object
+     * @param interner: The interner scoped to the current handler invocation
      * @return The list of ResourceModel column object
      */
-    static List<software.amazon.glue.table.Column> translatePartitionKeysFromSDK(final List<Column> sdkObject) {
-        if(sdkObject == null) return null;
-        else {
-            return sdkObject.stream().map(columnSdkObject -> {
-                return software.amazon.glue.table.Column.builder()
-                        .comment(columnSdkObject.comment())
-                        .name(columnSdkObject.name())
-                        .type(columnSdkObject.type())
-                        .build();
-            }).collect(Collectors.toList());
-        }
+    static List<software.amazon.glue.table.Column> translatePartitionKeysFromSDK(final List<Column> sdkObject,
+                                                                               final ModelInterner interner) {
+        return translateColumnFromSDK(sdkObject, interner);
     }
 
 
@@ -83,10 +114,10 @@ public class TranslatorUtils {
      * @return The Glue SDK object
      */
     static Map<String, Object> translateParametersFromSDK(final Map<String, String> parameters) {
+        // SDK maps are immutable, so a read-only view avoids copying thousands of entries
         return parameters == null ?
                 Collections.emptyMap() :
-                parameters.entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> (Object)e.getValue()));
+                Collections.unmodifiableMap(parameters);
     }
 
     /**
@@ -98,31 +129,32 @@ public class TranslatorUtils {
     static Map<String, String> translateToSDKParameters(final Map<String, Object> parameters) {
         return parameters == null ?
                 Collections.emptyMap() :
-                parameters.entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> (String)e.getValue()));
+                toStringMap(parameters);
     }
 
     /**
      * Translates a Glue SDK StorageDescriptor into a StorageDescriptor ResourceModel object
      *
      * @param sdkObject: The Glue SDK StorageDescriptor object
+     * @param interner: The interner scoped to the current handler invocation
      * @return The StorageDescriptor ResourceModel object
      */
-    static software.amazon.glue.table.StorageDescriptor translateStorageDescriptorFromSDK(final StorageDescriptor sdkObject) {
+    static software.amazon.glue.table.StorageDescriptor translateStorageDescriptorFromSDK(final StorageDescriptor sdkObject,
+                                                                                         final ModelInterner interner) {
         if (sdkObject == null) {
             return null;
         }
 
         return software.amazon.glue.table.StorageDescriptor.builder()
-                .columns(translateColumnFromSDK(sdkObject.columns()))
+                .columns(translateColumnFromSDK(sdkObject.columns(), interner))
                 .location(sdkObject.location())
                 .inputFormat(sdkObject.inputFormat())
                 .outputFormat(sdkObject.outputFormat())
                 .compressed(sdkObject.compressed())
                 .numberOfBuckets(sdkObject.numberOfBuckets())
-                .serdeInfo(translateSerDeInfoFromSDK(sdkObject.serdeInfo()))
+                .serdeInfo(translateSerDeInfoFromSDK(sdkObject.serdeInfo(), interner))
                 .bucketColumns(sdkObject.bucketColumns())
-                .sortColumns(translateOrderFromSDK(sdkObject.sortColumns()))
+                .sortColumns(translateOrderFromSDK(sdkObject.sortColumns(), interner))
                 .storedAsSubDirectories(sdkObject.storedAsSubDirectories())
                 .parameters(translateParametersFromSDK(sdkObject.parameters()))
                 .skewedInfo(translateSkewedInfoFromSDK(sdkObject.skewedInfo()))
@@ -134,17 +166,20 @@ public class TranslatorUtils {
      * Translates a list of Glue SDK Order into a list of ResourceModel Orders
      *
      * @param sdkObject: The list of Glue SDK order object
+     * @param interner: The interner scoped to the current handler invocation
      * @return The list of ResourceModel Order object
      */
-    static List<software.amazon.glue.table.Order> translateOrderFromSDK(final List<Order> sdkObject) {
+    static List<software.amazon.glue.table.Order> translateOrderFromSDK(final List<Order> sdkObject, final ModelInterner interner) {
         if(sdkObject == null) return Collections.emptyList();
         else {
-            return sdkObject.stream().map(orderSdkObject -> {
-                return software.amazon.glue.table.Order.builder()
+            final List<software.amazon.glue.table.Order> orders = new ArrayList<>(sdkObject.size());
+            for (Order orderSdkObject : sdkObject) {
+                orders.add(interner.intern(software.amazon.glue.table.Order.builder()
                         .sortOrder(orderSdkObject.sortOrder())
                         .column(orderSdkObject.column())
-                        .build();
-            }).collect(Collectors.toList());
+                        .build()));
+            }
+            return orders;
         }
     }
 
@@ -157,12 +192,14 @@ public class TranslatorUtils {
     static List<Order> translateToSDKOrder(final List<software.amazon.glue.table.Order> model) {
         if(model == null) return null;
         else {
-            return model.stream().map(order -> {
-                return Order.builder()
+            final List<Order> orders = new ArrayList<>(model.size());
+            for (software.amazon.glue.table.Order order : model) {
+                orders.add(Order.builder()
                         .sortOrder(order.getSortOrder())
                         .column(order.getColumn())
-                        .build();
-            }).collect(Collectors.toList());
+                        .build());
+            }
+            return orders;
         }
     }
 
@@ -170,18 +207,21 @@ public class TranslatorUtils {
      * Translates a list of Glue SDK Column into a list of ResourceModel Columns
      *
      * @param sdkObject: The list of Glue SDK column object
+     * @param interner: The interner scoped to the current handler invocation
      * @return The list of ResourceModel column object
      */
-    static List<software.amazon.glue.table.Column> translateColumnFromSDK(final List<Column> sdkObject) {
+    static List<software.amazon.glue.table.Column> translateColumnFromSDK(final List<Column> sdkObject, final ModelInterner interner) {
         if(sdkObject == null) return null;
         else {
-            return sdkObject.stream().map(columnSdkObject -> {
-                return software.amazon.glue.table.Column.builder()
-                        .comment(columnSdkObject.comment())
+            final List<software.amazon.glue.table.Column> columns = new ArrayList<>(sdkObject.size());
+            for (Column columnSdkObject : sdkObject) {
+                columns.add(interner.intern(software.amazon.glue.table.Column.builder()
+                        .comment(interner.intern(columnSdkObject.comment()))
                         .name(columnSdkObject.name())
-                        .type(columnSdkObject.type())
-                        .build();
-            }).collect(Collectors.toList());
+                        .type(interner.intern(columnSdkObject.type()))
+                        .build()));
+            }
+            return columns;
         }
     }
 
@@ -189,18 +229,19 @@ public class TranslatorUtils {
      * Translates a Glue SDK SerdeInfo into ResourceModel SerdeInfo
      *
      * @param sdkObject: The Glue SDK SerdeInfo object
+     * @param interner: The interner scoped to the current handler invocation
      * @return The ResourceModel SerdeInfo object
      */
-    static software.amazon.glue.table.SerdeInfo translateSerDeInfoFromSDK(final SerDeInfo sdkObject) {
+    static software.amazon.glue.table.SerdeInfo translateSerDeInfoFromSDK(final SerDeInfo sdkObject, final ModelInterner interner) {
         if (sdkObject == null) {
             return null;
         }
 
-        return software.amazon.glue.table.SerdeInfo.builder()
+        return interner.intern(software.amazon.glue.table.SerdeInfo.builder()
                 .name(sdkObject.name())
-                .serializationLibrary(sdkObject.serializationLibrary())
+                .serializationLibrary(interner.intern(sdkObject.serializationLibrary()))
                 .parameters(translateParametersFromSDK(sdkObject.parameters()))
-                .build();
+                .build());
     }
 
     /**
@@ -295,8 +336,7 @@ public class TranslatorUtils {
     static Map<String, Object> translateSkewedColumnValueLocationMapsSDK(final Map<String, String> skewedColumnValueLocationMaps) {
         return skewedColumnValueLocationMaps == null || skewedColumnValueLocationMaps.isEmpty() ?
                 Collections.emptyMap() :
-                skewedColumnValueLocationMaps.entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue()));
+                Collections.unmodifiableMap(skewedColumnValueLocationMaps);
     }
 
     /**
@@ -309,8 +349,22 @@ public class TranslatorUtils {
     static Map<String, String> translateToSDKSkewedColumnValueLocationMaps(final Map<String, Object> skewedColumnValueLocationMaps) {
         return skewedColumnValueLocationMaps == null ?
                 null :
-                skewedColumnValueLocationMaps.entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> (String)e.getValue()));
+                toStringMap(skewedColumnValueLocationMaps);
+    }
+
+    /**
+     * Copies a resource model map into a presized Glue SDK string map in a single pass.
+     * Null and non-string values are rejected, since Glue only accepts string values.
+     *
+     * @param map: The resource model map
+     * @return The Glue SDK string map
+     */
+    private static Map<String, String> toStringMap(final Map<String, Object> map) {
+        final Map<String, String> copy = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), (String) Objects.requireNonNull(entry.getValue()));
+        }
+        return copy;
     }
 
     /**
@@ -341,16 +395,151 @@ public class TranslatorUtils {
     static List<Column> translateToSDKColumn(final List<software.amazon.glue.table.Column> model) {
         if(model == null || model.isEmpty()) return null;
         else {
-            return model.stream().map(column -> {
-                return Column.builder()
+            final List<Column> columns = new ArrayList<>(model.size());
+            for (software.amazon.glue.table.Column column : model) {
+                columns.add(Column.builder()
                         .comment(column.getComment())
                         .name(column.getName())
                         .type(column.getType())
-                        .build();
-            }).collect(Collectors.toList());
+                        .build());
+            }
+            return columns;
         }
     }
 
+    /**
+     * Translates a list of resource model partition indexes to a list of Glue SDK partition indexes
+     *
+     * @param model: The list of resource model partition indexes
+     * @return The list of Glue SDK partition indexes
+     */
+    static List<PartitionIndex> translateToSDKPartitionIndexes(final List<software.amazon.glue.table.PartitionIndex> model) {
+        if(model == null || model.isEmpty()) return null;
+        else {
+            final List<PartitionIndex> partitionIndexes = new ArrayList<>(model.size());
+            for (software.amazon.glue.table.PartitionIndex partitionIndex : model) {
+                partitionIndexes.add(translateToSDKPartitionIndex(partitionIndex));
+            }
+            return partitionIndexes;
+        }
+    }
+
+    static PartitionIndex translateToSDKPartitionIndex(final software.amazon.glue.table.PartitionIndex model) {
+        return PartitionIndex.builder()
+                .indexName(model.getIndexName())
+                .keys(model.getKeys())
+                .build();
+    }
+
+    /**
+     * Translates a list of resource model column statistics to a list of Glue SDK column statistics
+     *
+     * @param model: The list of resource model column statistics
+     * @param analyzedTime: The time reported as the analysis time of every column
+     * @return The list of Glue SDK column statistics
+     */
+    static List<ColumnStatistics> translateToSDKColumnStatistics(final List<software.amazon.glue.table.ColumnStatistics> model,
+                                                                 final Instant analyzedTime) {
+        final List<ColumnStatistics> columnStatistics = new ArrayList<>(model.size());
+        for (software.amazon.glue.table.ColumnStatistics statistics : model) {
+            columnStatistics.add(ColumnStatistics.builder()
+                    .columnName(statistics.getColumnName())
+                    .columnType(statistics.getColumnType())
+                    .analyzedTime(analyzedTime)
+                    .statisticsData(translateToSDKColumnStatisticsData(statistics.getStatisticsData()))
+                    .build());
+        }
+        return columnStatistics;
+    }
+
+    /**
+     * Translates the resource model column statistics data to the Glue SDK object. Only the member
+     * matching the statistics type is translated.
+     *
+     * @param model The resource model column statistics data.
+     * @return The corresponding Glue SDK column statistics data.
+     */
+    static ColumnStatisticsData translateToSDKColumnStatisticsData(final software.amazon.glue.table.ColumnStatisticsData model) {
+        final ColumnStatisticsData.Builder builder = ColumnStatisticsData.builder().type(model.getType());
+        switch (model.getType()) {
+            case "BOOLEAN":
+                final software.amazon.glue.table.BooleanColumnStatisticsData booleanData = model.getBooleanColumnStatisticsData();
+                return builder.booleanColumnStatisticsData(BooleanColumnStatisticsData.builder()
+                        .numberOfTrues(toLong(booleanData.getNumberOfTrues()))
+                        .numberOfFalses(toLong(booleanData.getNumberOfFalses()))
+                        .numberOfNulls(toLong(booleanData.getNumberOfNulls()))
+                        .build()).build();
+            case "DATE":
+                final software.amazon.glue.table.DateColumnStatisticsData dateData = model.getDateColumnStatisticsData();
+                return builder.dateColumnStatisticsData(DateColumnStatisticsData.builder()
+                        .minimumValue(toInstant(dateData.getMinimumValue()))
+                        .maximumValue(toInstant(dateData.getMaximumValue()))
+                        .numberOfNulls(toLong(dateData.getNumberOfNulls()))
+                        .numberOfDistinctValues(toLong(dateData.getNumberOfDistinctValues()))
+                        .build()).build();
+            case "DECIMAL":
+                final software.amazon.glue.table.DecimalColumnStatisticsData decimalData = model.getDecimalColumnStatisticsData();
+                return builder.decimalColumnStatisticsData(DecimalColumnStatisticsData.builder()
+                        .minimumValue(toDecimalNumber(decimalData.getMinimumValue()))
+                        .maximumValue(toDecimalNumber(decimalData.getMaximumValue()))
+                        .numberOfNulls(toLong(decimalData.getNumberOfNulls()))
+                        .numberOfDistinctValues(toLong(decimalData.getNumberOfDistinctValues()))
+                        .build()).build();
+            case "DOUBLE":
+                final software.amazon.glue.table.DoubleColumnStatisticsData doubleData = model.getDoubleColumnStatisticsData();
+                return builder.doubleColumnStatisticsData(DoubleColumnStatisticsData.builder()
+                        .minimumValue(doubleData.getMinimumValue())
+                        .maximumValue(doubleData.getMaximumValue())
+                        .numberOfNulls(toLong(doubleData.getNumberOfNulls()))
+                        .numberOfDistinctValues(toLong(doubleData.getNumberOfDistinctValues()))
+                        .build()).build();
+            case "LONG":
+                final software.amazon.glue.table.LongColumnStatisticsData longData = model.getLongColumnStatisticsData();
+                return builder.longColumnStatisticsData(LongColumnStatisticsData.builder()
+                        .minimumValue(toLong(longData.getMinimumValue()))
+                        .maximumValue(toLong(longData.getMaximumValue()))
+                        .numberOfNulls(toLong(longData.getNumberOfNulls()))
+                        .numberOfDistinctValues(toLong(longData.getNumberOfDistinctValues()))
+                        .build()).build();
+            case "STRING":
+                final software.amazon.glue.table.StringColumnStatisticsData stringData = model.getStringColumnStatisticsData();
+                return builder.stringColumnStatisticsData(StringColumnStatisticsData.builder()
+                        .maximumLength(toLong(stringData.getMaximumLength()))
+                        .averageLength(stringData.getAverageLength())
+                        .numberOfNulls(toLong(stringData.getNumberOfNulls()))
+                        .numberOfDistinctValues(toLong(stringData.getNumberOfDistinctValues()))
+                        .build()).build();
+            case "BINARY":
+                final software.amazon.glue.table.BinaryColumnStatisticsData binaryData = model.getBinaryColumnStatisticsData();
+                return builder.binaryColumnStatisticsData(BinaryColumnStatisticsData.builder()
+                        .maximumLength(toLong(binaryData.getMaximumLength()))
+                        .averageLength(binaryData.getAverageLength())
+                        .numberOfNulls(toLong(binaryData.getNumberOfNulls()))
+                        .build()).build();
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported column statistics type [ %s ]", model.getType()));
+        }
+    }
+
+    private static Long toLong(final Integer value) {
+        return value == null ? null : value.longValue();
+    }
+
+    private static Instant toInstant(final String date) {
+        return date == null ? null : LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static DecimalNumber toDecimalNumber(final String decimal) {
+        if (decimal == null) {
+            return null;
+        }
+        final BigDecimal value = new BigDecimal(decimal);
+        return DecimalNumber.builder()
+                .unscaledValue(SdkBytes.fromByteArray(value.unscaledValue().toByteArray()))
+                .scale(value.scale())
+                .build();
+    }
+
     /**
      * Translates the resource model TableIdentifier property object to the corresponding
      * SDK TableIdentifier object.
@@ -515,27 +704,55 @@ public class TranslatorUtils {
                 .build();
     }
 
-    // static OpenTableFormatInput translateOpenTableFormatInput(final software.amazon.glue.table.OpenTableFormatInput input) {
-    //     if (input == null) {
-    //         return null;
-    //     }
-
-    //     return OpenTableFormatInput.builder()
-    //             .icebergInput(translateToIcebergInput(input.getIcebergInput()))
-    //             .build();
-    // }
+    /**
+     * Reads the Iceberg properties of a table back from its parameters. Glue does not return the
+     * OpenTableFormatInput a table was created with, but Iceberg tables carry table_type=ICEBERG
+     * and their metadata file locations as table parameters, so no extra call is needed.
+     *
+     * @param sdkObject The Glue SDK table.
+     * @return The resource model OpenTableFormatInput, or null if the table is not an Iceberg table.
+     */
+    static software.amazon.glue.table.OpenTableFormatInput translateOpenTableFormatInputFromSDK(final Table sdkObject) {
+        if (sdkObject == null || !isIcebergTable(sdkObject.parameters())) {
+            return null;
+        }
 
-    // static IcebergInput translateToIcebergInput(final software.amazon.glue.table.IcebergInput input) {
-    //     if (input == null) {
-    //         return null;
-    //     }
+        return software.amazon.glue.table.OpenTableFormatInput.builder()
+                .icebergInput(software.amazon.glue.table.IcebergInput.builder()
+                        .metadataLocation(sdkObject.parameters().get(METADATA_LOCATION_PARAMETER))
+                        .previousMetadataLocation(sdkObject.parameters().get(PREVIOUS_METADATA_LOCATION_PARAMETER))
+                        .build())
+                .build();
+    }
 
-    //     return IcebergInput.builder()
-    //             .metadataOperation(input.getMetadataOperation())
-    //             .version(input.getVersion())
-    //             .build();
-    // }
+    /**
+     * @param parameters The Glue SDK table parameters.
+     * @return Whether the parameters mark an Iceberg table, with table_type=ICEBERG.
+     */
+    public static boolean isIcebergTable(final Map<String, String> parameters) {
+        return parameters != null && ICEBERG_TABLE_TYPE.equalsIgnoreCase(parameters.get(TABLE_TYPE_PARAMETER));
+    }
 
+    /**
+     * Translates the parameters of an Iceberg table, leaving out the parameters that Iceberg itself
+     * maintains unless the model declares them, as templates registering Iceberg tables through
+     * TableInput.Parameters do. They are read back into OpenTableFormatInput instead, and the metadata
+     * locations change on every commit to the table.
+     *
+     * @param parameters The Glue SDK table parameters.
+     * @param declaredParameters The table parameters of the model, null if it declares none.
+     * @return The resource model table parameters.
+     */
+    static Map<String, Object> translateIcebergParametersFromSDK(final Map<String, String> parameters,
+                                                                 final Map<String, Object> declaredParameters) {
+        final Map<String, Object> tableParameters = new HashMap<>(parameters);
+        for (String managed : ICEBERG_MANAGED_PARAMETERS) {
+            if (declaredParameters == null || !declaredParameters.containsKey(managed)) {
+                tableParameters.remove(managed);
+            }
+        }
+        return tableParameters;
+    }
 
     public static OpenTableFormatInput translateToSdkOpenTableFormatInput(software.amazon.glue.table.OpenTableFormatInput input) {
         if (input == null) return null;
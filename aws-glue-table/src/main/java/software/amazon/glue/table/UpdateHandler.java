@@ -5,19 +5,35 @@ import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.services.glue.model.BatchDeleteTableVersionRequest;
+import software.amazon.awssdk.services.glue.model.BatchDeleteTableVersionResponse;
+import software.amazon.awssdk.services.glue.model.CreatePartitionIndexRequest;
+import software.amazon.awssdk.services.glue.model.DeletePartitionIndexRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesResponse;
+import software.amazon.awssdk.services.glue.model.GetTableVersionsRequest;
+import software.amazon.awssdk.services.glue.model.GetTableVersionsResponse;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.awssdk.services.glue.model.PartitionIndexDescriptor;
+import software.amazon.awssdk.services.glue.model.TableVersion;
+import software.amazon.awssdk.services.glue.model.TableVersionError;
 import software.amazon.awssdk.services.glue.model.UpdateTableResponse;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -31,8 +47,15 @@ public class UpdateHandler extends BaseHandlerStd {
                 super(glueClient);
         }
 
+        @VisibleForTesting
+        protected UpdateHandler(final GlueClient glueClient, final TableStabilizer stabilizer) {
+                super(glueClient, stabilizer);
+        }
+
     static final String TABLE_NAME_CANNOT_BE_EMPTY = "Model validation failed. Required key TableName cannot be empty.";
     static final String DATABASE_NAME_CANNOT_BE_EMPTY = "Model validation failed. Required key DatabaseName cannot be empty.";
+    static final int MAX_BATCH_DELETE_TABLE_VERSIONS = 100;
+    static final int MAX_PRUNED_VERSIONS_PER_INVOCATION = 10 * MAX_BATCH_DELETE_TABLE_VERSIONS;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -42,8 +65,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        logger.log("Received request to update Glue table");
-
+        final HandlerLogger log = new HandlerLogger(logger);
         final ResourceModel model = request.getDesiredResourceState();
 
         if(model == null || StringUtils.isEmpty(model.getTableInput().getName())) {
@@ -56,21 +78,272 @@ public class UpdateHandler extends BaseHandlerStd {
                     .failed(model, callbackContext, HandlerErrorCode.InvalidRequest, DATABASE_NAME_CANNOT_BE_EMPTY);
         }
 
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Entered Update Handler", request.getStackId(), request.getClientRequestToken()));
+        final Optional<String> violation = TableInputValidator.validate(model.getDatabaseName(), model.getTableInput());
+        if (violation.isPresent()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, violation.get());
+        }
+
+        log.info("EnteredUpdateHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                "DatabaseName", model.getDatabaseName(), "TableName", model.getTableInput().getName());
+
+        invalidateCachedTable(request, model, model.getTableInput().getName());
+        final Set<String> changes = TableDiff.diff(request.getPreviousResourceState(), model);
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> deleteColumnStatistics(proxyClient, callbackContext, log,
+                        request.getPreviousResourceState(), model))
+                .then(progress -> {
+                    if (callbackContext.isTableUpdated()) {
+                        return progress;
+                    }
+                    if (changes.isEmpty()) {
+                        log.info("TableUnchanged", "TableName", model.getTableInput().getName());
+                        return progress;
+                    }
+                    log.info("TableChanged", "TableName", model.getTableInput().getName(), "ChangedProperties", changes);
+                    return updateTable(proxy, request, callbackContext, proxyClient, log, model);
+                })
+                .then(progress -> stabilizeTable(proxyClient, callbackContext, log, model, "UpdateTable", true))
+                .then(progress -> writeColumnStatistics(proxyClient, callbackContext, log, model,
+                        TableDiff.columnStatisticsToWrite(request.getPreviousResourceState(), model)))
+                .then(progress -> updatePartitionIndexes(proxyClient, callbackContext, log,
+                        request.getPreviousResourceState(), model))
+                .then(progress -> pruneTableVersions(proxyClient, callbackContext, log, model))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(Translator.translateToUpdatedModel(model)));
+    }
 
+    private ProgressEvent<ResourceModel, CallbackContext> updateTable(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final HandlerLogger log,
+            final ResourceModel model) {
         return proxy.initiate("AWS-Glue-Table::UpdateHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(model))
                 .makeServiceCall((updateRequest, client) -> {
-                    logger.log(String.format("Updating Table %s", model.getTableInput().getName()));
+                    log.info("UpdateTable", "TableName", model.getTableInput().getName());
+                    recordTableWrite(callbackContext);
                     UpdateTableResponse response = client.injectCredentialsAndInvokeV2(updateRequest,
                             client.client()::updateTable);
-                    logger.log(String.format("Resource updated in StackId: %s with TableName: %s",
-                            request.getStackId(),
-                            model.getTableInput().getName()));
+                    log.info("TableUpdated", "StackId", request.getStackId(), "TableName", model.getTableInput().getName());
                     return response;
                 })
                 .handleError((erroredRequest, exception, client, resourceModel,context) ->
-                        handleError(erroredRequest, logger, exception, resourceModel, context))
-                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromUpdateResponse(awsResponse, model)));
+                        handleError(erroredRequest, log, exception, resourceModel, context))
+                .done(awsResponse -> {
+                    callbackContext.setTableUpdated(true);
+                    return ProgressEvent.progress(Translator.translateFromUpdateResponse(awsResponse, model), callbackContext);
+                });
+    }
+
+    /**
+     * Deletes the statistics of columns that were removed or changed type, and of columns whose
+     * statistics were removed from the model. This runs before UpdateTable, while the removed
+     * columns still exist on the table.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> deleteColumnStatistics(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel previousModel,
+            final ResourceModel model) {
+        if (callbackContext.isColumnStatisticsDeleted()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        final Set<String> staleColumns = TableDiff.columnStatisticsToDelete(previousModel, model);
+        if (!staleColumns.isEmpty()) {
+            try {
+                ColumnStatisticsWriter.delete(proxyClient, model, staleColumns);
+            } catch (final ColumnStatisticsWriter.CallFailedException e) {
+                return handleError(e.getRequest(), log, e.getFailure(), model, callbackContext);
+            }
+            log.info("ColumnStatisticsDeleted", "TableName", model.getTableInput().getName(), "Columns", staleColumns);
+        }
+        callbackContext.setColumnStatisticsDeleted(true);
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    /**
+     * Deletes the partition indexes that were removed or changed, creates the new ones and waits until
+     * they are ACTIVE. An index whose keys changed is only created again once its deletion completed.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updatePartitionIndexes(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel previousModel,
+            final ResourceModel model) {
+        final List<String> indexesToDelete = TableDiff.partitionIndexesToDelete(previousModel, model);
+        final List<PartitionIndex> indexesToCreate = TableDiff.partitionIndexesToCreate(previousModel, model);
+        if (indexesToDelete.isEmpty() && indexesToCreate.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final List<String> createdIndexNames = new ArrayList<>(indexesToCreate.size());
+        for (PartitionIndex partitionIndex : indexesToCreate) {
+            createdIndexNames.add(partitionIndex.getIndexName());
+        }
+
+        GlueRequest glueRequest = null;
+        try {
+            if (!callbackContext.isPartitionIndexesDeleted()) {
+                for (String indexName : indexesToDelete) {
+                    final DeletePartitionIndexRequest deleteRequest =
+                            Translator.translateToDeletePartitionIndexRequest(model, indexName);
+                    glueRequest = deleteRequest;
+                    try {
+                        proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::deletePartitionIndex);
+                    } catch (final Exception e) {
+                        if (!ENTITY_NOT_FOUND_EXCEPTION.equals(getErrorCode(e))) {
+                            throw e;
+                        }
+                    }
+                    log.info("PartitionIndexDeleted", "TableName", model.getTableInput().getName(), "IndexName", indexName);
+                }
+                callbackContext.setPartitionIndexesDeleted(true);
+            }
+
+            if (!callbackContext.isPartitionIndexesCreated()) {
+                final List<String> recreatedIndexNames = new ArrayList<>(createdIndexNames);
+                recreatedIndexNames.retainAll(indexesToDelete);
+                if (!recreatedIndexNames.isEmpty() && partitionIndexesExist(proxyClient, model, recreatedIndexNames)) {
+                    log.info("PartitionIndexesDeleting", "TableName", model.getTableInput().getName(),
+                            "IndexNames", recreatedIndexNames);
+                    return ProgressEvent.defaultInProgressHandler(callbackContext, PARTITION_INDEX_CALLBACK_DELAY, model);
+                }
+
+                for (PartitionIndex partitionIndex : indexesToCreate) {
+                    final CreatePartitionIndexRequest createRequest =
+                            Translator.translateToCreatePartitionIndexRequest(model, partitionIndex);
+                    glueRequest = createRequest;
+                    proxyClient.injectCredentialsAndInvokeV2(createRequest, proxyClient.client()::createPartitionIndex);
+                    log.info("PartitionIndexCreated", "TableName", model.getTableInput().getName(),
+                            "IndexName", partitionIndex.getIndexName());
+                }
+                callbackContext.setPartitionIndexesCreated(true);
+            }
+        } catch (final Exception e) {
+            return handleError(glueRequest, log, e, model, callbackContext);
+        }
+
+        return waitForPartitionIndexes(proxyClient, callbackContext, log, model, createdIndexNames);
+    }
+
+    private static boolean partitionIndexesExist(
+            final ProxyClient<GlueClient> proxyClient,
+            final ResourceModel model,
+            final List<String> indexNames) {
+        String nextToken = null;
+        do {
+            final GetPartitionIndexesResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToGetPartitionIndexesRequest(model, nextToken), proxyClient.client()::getPartitionIndexes);
+            for (PartitionIndexDescriptor descriptor : response.partitionIndexDescriptorList()) {
+                if (indexNames.contains(descriptor.indexName())) {
+                    return true;
+                }
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return false;
+    }
+
+    /**
+     * Deletes table versions older than the newest TableVersionsToRetain versions. The cutoff version is
+     * computed once and kept in the CallbackContext; each invocation then deletes at most
+     * MAX_PRUNED_VERSIONS_PER_INVOCATION versions below it and re-invokes while more remain.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> pruneTableVersions(
+            final ProxyClient<GlueClient> proxyClient,
+            final CallbackContext callbackContext,
+            final HandlerLogger log,
+            final ResourceModel model) {
+        final Integer versionsToRetain = model.getTableVersionsToRetain();
+        if (versionsToRetain == null) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        GlueRequest glueRequest = null;
+        try {
+            if (callbackContext.getTableVersionCutoff() == null) {
+                final PriorityQueue<Long> newestVersions = new PriorityQueue<>();
+                int versionCount = 0;
+                String nextToken = null;
+                do {
+                    final GetTableVersionsRequest listRequest = Translator.translateToGetTableVersionsRequest(model, nextToken);
+                    glueRequest = listRequest;
+                    final GetTableVersionsResponse response =
+                            proxyClient.injectCredentialsAndInvokeV2(listRequest, proxyClient.client()::getTableVersions);
+                    for (TableVersion tableVersion : response.tableVersions()) {
+                        final Long versionId = parseVersionId(tableVersion.versionId());
+                        if (versionId == null) {
+                            continue;
+                        }
+                        versionCount++;
+                        newestVersions.add(versionId);
+                        if (newestVersions.size() > versionsToRetain) {
+                            newestVersions.poll();
+                        }
+                    }
+                    nextToken = response.nextToken();
+                } while (nextToken != null);
+
+                if (versionCount <= versionsToRetain) {
+                    log.info("NoTableVersionsToPrune", "TableName", model.getTableInput().getName(),
+                            "VersionsToRetain", versionsToRetain);
+                    return ProgressEvent.progress(model, callbackContext);
+                }
+                callbackContext.setTableVersionCutoff(newestVersions.peek());
+            }
+
+            final long cutoff = callbackContext.getTableVersionCutoff();
+            final List<String> staleVersions = new ArrayList<>();
+            String nextToken = null;
+            do {
+                final GetTableVersionsRequest listRequest = Translator.translateToGetTableVersionsRequest(model, nextToken);
+                glueRequest = listRequest;
+                final GetTableVersionsResponse response =
+                        proxyClient.injectCredentialsAndInvokeV2(listRequest, proxyClient.client()::getTableVersions);
+                for (TableVersion tableVersion : response.tableVersions()) {
+                    final Long versionId = parseVersionId(tableVersion.versionId());
+                    if (versionId != null && versionId < cutoff) {
+                        staleVersions.add(tableVersion.versionId());
+                    }
+                }
+                nextToken = response.nextToken();
+            } while (nextToken != null && staleVersions.size() < MAX_PRUNED_VERSIONS_PER_INVOCATION);
+
+            int pruned = 0;
+            for (List<String> batch : Lists.partition(staleVersions, MAX_BATCH_DELETE_TABLE_VERSIONS)) {
+                final BatchDeleteTableVersionRequest deleteRequest =
+                        Translator.translateToBatchDeleteTableVersionRequest(model, batch);
+                glueRequest = deleteRequest;
+                final BatchDeleteTableVersionResponse response =
+                        proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::batchDeleteTableVersion);
+                for (TableVersionError error : response.errors()) {
+                    log.warn("DeleteTableVersionFailed", "TableName", error.tableName(), "VersionId", error.versionId(),
+                            "ErrorDetail", error.errorDetail());
+                }
+                pruned += batch.size() - response.errors().size();
+            }
+            callbackContext.setPrunedTableVersions(callbackContext.getPrunedTableVersions() + pruned);
+            log.info("TableVersionsPruned", "TableName", model.getTableInput().getName(), "Pruned", pruned,
+                    "Cutoff", cutoff, "PrunedTotal", callbackContext.getPrunedTableVersions());
+
+            if (pruned > 0 && staleVersions.size() >= MAX_PRUNED_VERSIONS_PER_INVOCATION) {
+                return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
+            }
+            return ProgressEvent.progress(model, callbackContext);
+        } catch (final Exception e) {
+            return handleError(glueRequest, log, e, model, callbackContext);
+        }
+    }
+
+    private static Long parseVersionId(final String versionId) {
+        try {
+            return Long.valueOf(versionId);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
     }
 }
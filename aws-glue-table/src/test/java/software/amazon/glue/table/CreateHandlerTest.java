@@ -1,21 +1,49 @@
 package software.amazon.glue.table;
 
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ColumnStatisticsError;
+import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.CreateTableResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetail;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesResponse;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.PartitionIndexDescriptor;
+import software.amazon.awssdk.services.glue.model.PartitionIndexStatus;
+import software.amazon.awssdk.services.glue.model.Table;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableRequest;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class CreateHandlerTest {
+public class CreateHandlerTest extends AbstractTestBase {
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -23,10 +51,21 @@ public class CreateHandlerTest {
     @Mock
     private Logger logger;
 
+    private ProxyClient<GlueClient> proxyClient;
+
+    private GlueClient glueClient;
+
+    private CreateHandler handler;
+
     @BeforeEach
     public void setup() {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
+        glueClient = mock(GlueClient.class);
+        handler = new CreateHandler(glueClient);
+        proxyClient = MOCK_PROXY(
+                new AmazonWebServicesClientProxy(AbstractTestBase.logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()),
+                glueClient);
     }
 
     public void handleRequest_SimpleSuccess() {
@@ -50,4 +89,292 @@ public class CreateHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_OptimisticCreate_SkipsExistenceCheck() {
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getTableName()).isEqualTo("test-table");
+        verify(glueClient, times(1)).createTable(any(CreateTableRequest.class));
+        verify(glueClient, never()).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PartitionIndexes_WaitsUntilActive() {
+        final ResourceModel model = buildModel();
+        model.setPartitionIndexes(Collections.singletonList(
+                PartitionIndex.builder().indexName("idx_dt").keys(Collections.singletonList("dt")).build()));
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.getPartitionIndexes(any(GetPartitionIndexesRequest.class)))
+                .thenReturn(partitionIndexes(PartitionIndexStatus.CREATING), partitionIndexes(PartitionIndexStatus.ACTIVE));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> pending = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(pending.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.PARTITION_INDEX_CALLBACK_DELAY);
+        assertThat(callbackContext.isTableCreated()).isTrue();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        final ArgumentCaptor<CreateTableRequest> captor = ArgumentCaptor.forClass(CreateTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).createTable(captor.capture());
+        assertThat(captor.getValue().partitionIndexes()).hasSize(1);
+        assertThat(captor.getValue().partitionIndexes().get(0).indexName()).isEqualTo("idx_dt");
+    }
+
+    @Test
+    public void handleRequest_ColumnStatistics_Written() {
+        final ResourceModel model = buildModel();
+        model.setColumnStatistics(columnStatistics(2));
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.updateColumnStatisticsForTable(any(UpdateColumnStatisticsForTableRequest.class)))
+                .thenReturn(UpdateColumnStatisticsForTableResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        final ArgumentCaptor<UpdateColumnStatisticsForTableRequest> captor =
+                ArgumentCaptor.forClass(UpdateColumnStatisticsForTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isColumnStatisticsWritten()).isTrue();
+        verify(glueClient, times(1)).updateColumnStatisticsForTable(captor.capture());
+        assertThat(captor.getValue().tableName()).isEqualTo("test-table");
+        assertThat(captor.getValue().columnStatisticsList()).extracting(
+                software.amazon.awssdk.services.glue.model.ColumnStatistics::columnName).containsExactly("c0", "c1");
+    }
+
+    @Test
+    public void handleRequest_ColumnStatisticsPastBatchSize_WrittenInBatches() {
+        final ResourceModel model = buildModel();
+        model.setColumnStatistics(columnStatistics(ColumnStatisticsWriter.MAX_BATCH_COLUMN_STATISTICS + 1));
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.updateColumnStatisticsForTable(any(UpdateColumnStatisticsForTableRequest.class)))
+                .thenReturn(UpdateColumnStatisticsForTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<UpdateColumnStatisticsForTableRequest> captor =
+                ArgumentCaptor.forClass(UpdateColumnStatisticsForTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(2)).updateColumnStatisticsForTable(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.columnStatisticsList().size())
+                .containsExactlyInAnyOrder(ColumnStatisticsWriter.MAX_BATCH_COLUMN_STATISTICS, 1);
+    }
+
+    @Test
+    public void handleRequest_ColumnStatisticsInvalidInput_FailsWithEveryColumn() {
+        final ResourceModel model = buildModel();
+        model.setColumnStatistics(columnStatistics(3));
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.updateColumnStatisticsForTable(any(UpdateColumnStatisticsForTableRequest.class)))
+                .thenReturn(UpdateColumnStatisticsForTableResponse.builder()
+                        .errors(statisticsError("c0", "InternalServiceException", "try again"),
+                                statisticsError("c2", BaseHandlerStd.INVALID_INPUT_EXCEPTION, "unknown column"))
+                        .build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("[ c0 ] try again").contains("[ c2 ] unknown column");
+        assertThat(callbackContext.isColumnStatisticsWritten()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_TableAlreadyExists_ShouldFail() {
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ALREADY_EXISTS_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        verify(glueClient, never()).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AccessDenied_FallsBackToExistenceCheck() {
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION));
+        when(glueClient.getTable(any(GetTableRequest.class)))
+                .thenReturn(GetTableResponse.builder().table(Table.builder().name("test-table").build()).build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        verify(glueClient, times(1)).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AccessDeniedOnBothCalls_ShouldFailAccessDenied() {
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION));
+        when(glueClient.getTable(any(GetTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+        assertThat(callbackContext.isPreExistenceCheckDenied()).isTrue();
+    }
+
+    @Test
+    public void handleRequest_Stabilization_PollsUntilTableIsVisible() {
+        final AtomicLong clock = new AtomicLong(1_000_000L);
+        final List<String> metrics = new ArrayList<>();
+        final CreateHandler stabilizingHandler = new CreateHandler(glueClient,
+                new TableStabilizer(true, clock::get, clock::addAndGet, metrics::add));
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.getTable(any(GetTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION))
+                .thenReturn(GetTableResponse.builder().table(Table.builder().name("test-table").build()).build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = stabilizingHandler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isTableStabilized()).isTrue();
+        assertThat(callbackContext.getStabilizationPolls()).isEqualTo(2);
+        assertThat(clock.get() - callbackContext.getTableWrittenAt()).isEqualTo(TableStabilizer.INITIAL_POLL_DELAY_MILLIS);
+        verify(glueClient, times(2)).getTable(any(GetTableRequest.class));
+        assertThat(metrics).containsExactly(TableStabilizer.metricRecord(clock.get(), "CreateTable",
+                TableStabilizer.CONVERGED, 2, TableStabilizer.INITIAL_POLL_DELAY_MILLIS));
+        assertThat(metrics.get(0))
+                .contains("\"Dimensions\":[[\"Outcome\",\"PollCount\"]]")
+                .contains("\"Outcome\":\"Converged\",\"PollCount\":\"2\",\"ConvergenceMillis\":100}");
+    }
+
+    @Test
+    public void handleRequest_Stabilization_ReinvokesWhenInlineBudgetIsSpent() {
+        final AtomicLong clock = new AtomicLong(1_000_000L);
+        final List<String> metrics = new ArrayList<>();
+        final CreateHandler stabilizingHandler = new CreateHandler(glueClient,
+                new TableStabilizer(true, clock::get, clock::addAndGet, metrics::add));
+        final ResourceModel model = buildModel();
+
+        when(glueClient.createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+        when(glueClient.getTable(any(GetTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> pending = stabilizingHandler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(pending.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.CALLBACK_DELAY);
+        assertThat(callbackContext.isTableCreated()).isTrue();
+        assertThat(callbackContext.isTableStabilized()).isFalse();
+        assertThat(callbackContext.getStabilizationCallbacks()).isEqualTo(1);
+
+        clock.addAndGet(TableStabilizer.TIMEOUT_MILLIS);
+        final ProgressEvent<ResourceModel, CallbackContext> response = stabilizingHandler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        verify(glueClient, times(1)).createTable(any(CreateTableRequest.class));
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.get(0)).contains("\"Outcome\":\"NotStabilized\"");
+    }
+
+    @Test
+    public void handleRequest_InvalidColumnType_FailsWithoutCallingGlue() {
+        final ResourceModel model = buildModel();
+        model.getTableInput().setStorageDescriptor(StorageDescriptor.builder()
+                .columns(Collections.singletonList(Column.builder().name("id").type("strng").build()))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("TableInput.StorageDescriptor.Columns[0].Type");
+        verify(glueClient, never()).createTable(any(CreateTableRequest.class));
+    }
+
+    private GetPartitionIndexesResponse partitionIndexes(final PartitionIndexStatus status) {
+        return GetPartitionIndexesResponse.builder()
+                .partitionIndexDescriptorList(PartitionIndexDescriptor.builder()
+                        .indexName("idx_dt")
+                        .indexStatus(status)
+                        .build())
+                .build();
+    }
+
+    private static List<ColumnStatistics> columnStatistics(final int columnCount) {
+        final List<ColumnStatistics> columnStatistics = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columnStatistics.add(ColumnStatistics.builder()
+                    .columnName("c" + i)
+                    .columnType("bigint")
+                    .statisticsData(ColumnStatisticsData.builder()
+                            .type("LONG")
+                            .longColumnStatisticsData(LongColumnStatisticsData.builder()
+                                    .minimumValue(0)
+                                    .maximumValue(100)
+                                    .numberOfNulls(0)
+                                    .numberOfDistinctValues(100)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return columnStatistics;
+    }
+
+    private static ColumnStatisticsError statisticsError(final String columnName, final String errorCode, final String message) {
+        return ColumnStatisticsError.builder()
+                .columnStatistics(software.amazon.awssdk.services.glue.model.ColumnStatistics.builder().columnName(columnName).build())
+                .error(ErrorDetail.builder().errorCode(errorCode).errorMessage(message).build())
+                .build();
+    }
+
+    private ResourceModel buildModel() {
+        return ResourceModel.builder()
+                .databaseName("test-database")
+                .tableInput(TableInput.builder().name("test-table").build())
+                .build();
+    }
 }
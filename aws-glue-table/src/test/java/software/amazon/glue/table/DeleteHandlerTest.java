@@ -3,6 +3,8 @@ package software.amazon.glue.table;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -73,21 +75,14 @@ public class DeleteHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getTable(any(GetTableRequest.class)))
                 .thenReturn(getTableResponse);
 
-        final CallbackContext callbackContext = new CallbackContext();
-
-        final ProgressEvent<ResourceModel, CallbackContext> responsePreCheck =
-                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
-
-        assertThat(responsePreCheck.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(responsePreCheck.getResourceModel()).isNotNull();
-        assertThat(callbackContext.isPreExistenceCheckDone());
-
         final DeleteTableResponse deleteTableResponse = DeleteTableResponse.builder()
                 .build();
 
         when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
                 .thenReturn(deleteTableResponse);
 
+        final CallbackContext callbackContext = new CallbackContext();
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
 
@@ -99,6 +94,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(callbackContext.isPreExistenceCheckDone()).isTrue();
+        verify(glueClient, times(1)).getTable(any(GetTableRequest.class));
+        verify(glueClient, times(1)).deleteTable(any(DeleteTableRequest.class));
     }
 
 
@@ -189,7 +187,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequestUnauthorizedExceptionPreCheck_ShouldReturnInProgress() {
+    public void handleRequestUnauthorizedExceptionPreCheck_ShouldContinueToDelete() {
         final ResourceModel model = ResourceModel.builder()
                 .databaseName("test-database")
                 .tableName("test-table")
@@ -207,6 +205,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().getTable(any(GetTableRequest.class)))
                 .thenThrow(exception);
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenReturn(DeleteTableResponse.builder().build());
 
         final CallbackContext callbackContext = new CallbackContext();
 
@@ -214,11 +214,11 @@ public class DeleteHandlerTest extends AbstractTestBase {
                         handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
 
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackContext().isPreExistenceCheckDenied()).isTrue();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
-        assertThat(response.getResourceModel()).isEqualTo(model);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isPreExistenceCheckDenied()).isTrue();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(glueClient, times(1)).deleteTable(any(DeleteTableRequest.class));
     }
 }
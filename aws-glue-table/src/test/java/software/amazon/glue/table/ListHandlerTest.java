@@ -2,7 +2,9 @@ package software.amazon.glue.table;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
@@ -11,7 +13,9 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,10 +27,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.Column;
+import software.amazon.awssdk.services.glue.model.Database;
+import software.amazon.awssdk.services.glue.model.GetDatabasesRequest;
+import software.amazon.awssdk.services.glue.model.GetDatabasesResponse;
+import software.amazon.awssdk.services.glue.model.StorageDescriptor;
 import software.amazon.awssdk.services.glue.model.Table;
 import software.amazon.awssdk.services.glue.model.GetTablesRequest;
 import software.amazon.awssdk.services.glue.model.GetTablesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -58,7 +68,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_Success() {
-        final ResourceModel model = new ResourceModel();
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
 
         final CallbackContext callbackContext = new CallbackContext();
 
@@ -74,14 +84,40 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(glueClient, times(1)).getTables(any(GetTablesRequest.class));
     }
 
+    @Test
+    void handleRequest_ReturnsIdentifiersOnly() {
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final Table table = Table.builder()
+                .catalogId("123456789012")
+                .name("wide-table")
+                .storageDescriptor(StorageDescriptor.builder()
+                        .columns(Column.builder().name("id").type("bigint").build())
+                        .build())
+                .build();
+        final GetTablesResponse listTablesResponse = GetTablesResponse.builder().tableList(table).build();
+        when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenReturn(listTablesResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).containsExactly(ResourceModel.builder()
+                .catalogId("123456789012")
+                .databaseName("test-database")
+                .tableName("wide-table")
+                .build());
+    }
+
     @Test
     void testHandleRequest_WithNextToken() {
         // Arrange
         final String nextToken = "nextToken";
-        final ResourceModel model = new ResourceModel();
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
         final CallbackContext callbackContext = new CallbackContext();
         final GetTablesResponse listTablesResponse = GetTablesResponse.builder().nextToken(nextToken).tableList(Collections.emptyList()).build();
         when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenReturn(listTablesResponse);
+        handler = new ListHandler(glueClient, 0L, ListHandler.LIST_ITEM_BUDGET);
 
         // Act
         final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken(nextToken).build(), callbackContext, proxyClient, logger);
@@ -93,10 +129,197 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(glueClient, times(1)).getTables(any(GetTablesRequest.class));
     }
 
+    @Test
+    void handleRequest_AggregatesPagesWithinBudget() {
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final GetTablesResponse firstPage = GetTablesResponse.builder()
+                .tableList(Table.builder().name("table-1").build())
+                .nextToken("page-2")
+                .build();
+        final GetTablesResponse lastPage = GetTablesResponse.builder()
+                .tableList(Table.builder().name("table-2").build())
+                .build();
+        when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenReturn(firstPage, lastPage);
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-1", "table-2");
+        assertThat(result.getNextToken()).isNull();
+        verify(glueClient, times(2)).getTables(any(GetTablesRequest.class));
+    }
+
+    @Test
+    void handleRequest_ItemBudgetReached_ReturnsLastToken() {
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
+        final CallbackContext callbackContext = new CallbackContext();
+        handler = new ListHandler(glueClient, ListHandler.LIST_TIME_BUDGET_MILLIS, 1);
+
+        final GetTablesResponse firstPage = GetTablesResponse.builder()
+                .tableList(Table.builder().name("table-1").build())
+                .nextToken("page-2")
+                .build();
+        when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenReturn(firstPage);
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).hasSize(1);
+        assertThat(result.getNextToken()).isEqualTo("page-2");
+        verify(glueClient, times(1)).getTables(any(GetTablesRequest.class));
+    }
+
+    @Test
+    void handleRequest_NoDatabaseName_ListsAcrossCatalog() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().getDatabases(any(GetDatabasesRequest.class))).thenReturn(GetDatabasesResponse.builder()
+                .databaseList(Database.builder().name("db-a").build(), Database.builder().name("db-b").build())
+                .build());
+        when(proxyClient.client().getTables(argThat((GetTablesRequest r) -> r != null && "db-a".equals(r.databaseName()))))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-a").build()).build());
+        when(proxyClient.client().getTables(argThat((GetTablesRequest r) -> r != null && "db-b".equals(r.databaseName()))))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-b").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getDatabaseName).containsExactly("db-a", "db-b");
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-a", "table-b");
+        assertThat(result.getNextToken()).isNull();
+    }
+
+    @Test
+    void handleRequest_CrossAccountCatalogId_IsSentToEveryCall() {
+        final ResourceModel model = ResourceModel.builder().catalogId("210987654321").build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().getDatabases(argThat((GetDatabasesRequest r) -> r != null && "210987654321".equals(r.catalogId()))))
+                .thenReturn(GetDatabasesResponse.builder().databaseList(Database.builder().name("db-a").build()).build());
+        when(proxyClient.client().getTables(argThat((GetTablesRequest r) -> r != null && "210987654321".equals(r.catalogId()) && r.nextToken() == null)))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-a").build()).nextToken("tables-2").build());
+        when(proxyClient.client().getTables(argThat((GetTablesRequest r) -> r != null && "210987654321".equals(r.catalogId()) && "tables-2".equals(r.nextToken()))))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-b").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-a", "table-b");
+        verify(glueClient, times(2)).getTables(argThat((GetTablesRequest r) -> r != null && "210987654321".equals(r.catalogId())));
+    }
+
+    @Test
+    void handleRequest_DatabaseNameWithCrossAccountCatalogId_SendsCatalogId() {
+        final ResourceModel model = ResourceModel.builder().catalogId("210987654321").databaseName("test-database").build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().getTables(argThat((GetTablesRequest r) -> r != null && "210987654321".equals(r.catalogId()))))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-a").build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-a");
+    }
+
+    @Test
+    void handleRequest_CatalogBudgetReached_ReturnsResumableToken() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final CallbackContext callbackContext = new CallbackContext();
+        handler = new ListHandler(glueClient, ListHandler.LIST_TIME_BUDGET_MILLIS, 1);
+
+        when(proxyClient.client().getDatabases(any(GetDatabasesRequest.class))).thenReturn(GetDatabasesResponse.builder()
+                .databaseList(Database.builder().name("db-a").build())
+                .nextToken("databases-2")
+                .build());
+        when(proxyClient.client().getTables(any(GetTablesRequest.class)))
+                .thenReturn(GetTablesResponse.builder().tableList(Table.builder().name("table-a").build()).nextToken("tables-2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), callbackContext, proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).hasSize(1);
+        assertThat(CatalogListCursor.decode(result.getNextToken()))
+                .isEqualTo(new CatalogListCursor(null, "db-a", Collections.singletonMap("db-a", "tables-2")));
+    }
+
+    @Test
+    void handleRequest_CatalogBudgetReachedInWindow_KeepsFetchedFirstPages() {
+        final ResourceModel model = ResourceModel.builder().build();
+        handler = new ListHandler(glueClient, ListHandler.LIST_TIME_BUDGET_MILLIS, 1);
+
+        when(proxyClient.client().getDatabases(any(GetDatabasesRequest.class))).thenReturn(GetDatabasesResponse.builder()
+                .databaseList(Database.builder().name("db-a").build(), Database.builder().name("db-b").build())
+                .build());
+        when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenAnswer(invocation -> {
+            final GetTablesRequest tablesRequest = invocation.getArgument(0);
+            final String suffix = tablesRequest.databaseName().substring(3);
+            if (tablesRequest.nextToken() == null) {
+                return GetTablesResponse.builder().tableList(Table.builder().name("table-" + suffix).build()).nextToken(suffix + "-2").build();
+            }
+            return GetTablesResponse.builder().tableList(Table.builder().name("table-" + suffix + "2").build()).build();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-a", "table-b");
+        final Map<String, String> tablesTokens = new LinkedHashMap<>();
+        tablesTokens.put("db-a", "a-2");
+        tablesTokens.put("db-b", "b-2");
+        assertThat(CatalogListCursor.decode(first.getNextToken())).isEqualTo(new CatalogListCursor(null, "db-b", tablesTokens));
+
+        handler = new ListHandler(glueClient);
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken(first.getNextToken()).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getResourceModels()).extracting(ResourceModel::getTableName).containsExactly("table-a2", "table-b2");
+        assertThat(second.getNextToken()).isNull();
+        // the first pages are not fetched again
+        verify(glueClient, times(2)).getTables(argThat((GetTablesRequest r) -> r != null && r.nextToken() == null));
+    }
+
+    @Test
+    void handleRequest_ResumeDatabaseDropped_ResumesAfterIt() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final String nextToken = new CatalogListCursor(null, "db-b", Collections.singletonMap("db-b", "tables-2")).encode();
+
+        when(proxyClient.client().getDatabases(any(GetDatabasesRequest.class))).thenReturn(GetDatabasesResponse.builder()
+                .databaseList(Database.builder().name("db-a").build(), Database.builder().name("db-c").build())
+                .build());
+        when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenAnswer(invocation -> {
+            final GetTablesRequest tablesRequest = invocation.getArgument(0);
+            if (tablesRequest.databaseName().equals("db-b")) {
+                throw AwsServiceException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION).build())
+                        .build();
+            }
+            return GetTablesResponse.builder().tableList(Table.builder().name("table-c").build()).build();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken(nextToken).build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModels()).extracting(ResourceModel::getDatabaseName).containsExactly("db-c");
+        assertThat(result.getNextToken()).isNull();
+        verify(glueClient, never()).getTables(argThat((GetTablesRequest r) -> r != null && "db-a".equals(r.databaseName())));
+    }
+
+    @Test
+    void handleRequest_InvalidCatalogToken_ShouldFail() {
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> result = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken("not-a-cursor").build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    }
+
     @Test
     void testHandleRequest_Error() {
         // Arrange
-        final ResourceModel model = new ResourceModel();
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
         final CallbackContext callbackContext = new CallbackContext();
         when(proxyClient.client().getTables(any(GetTablesRequest.class))).thenThrow(RuntimeException.class);
 
@@ -111,7 +334,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     void handleRequestNoDatabases_ShouldReturnEmpty() {
-        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
 
         List<Table> tables = new ArrayList<>();
 
@@ -137,7 +360,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequestInternalServiceError_ShouldFail() {
-        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceModel model = ResourceModel.builder().databaseName("test-database").build();
 
         final CallbackContext callbackContext = new CallbackContext();
 
@@ -1,18 +1,31 @@
 package software.amazon.glue.table;
 
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.Table;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -50,4 +63,210 @@ public class ReadHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_ReadCache_ServesRepeatedReadsUntilInvalidated() {
+        final GlueClient glueClient = mock(GlueClient.class);
+        final AtomicLong clock = new AtomicLong(0L);
+        final TableReadCache readCache = new TableReadCache(5_000L, 8, clock::get);
+        final ReadHandler handler = new ReadHandler(glueClient, readCache);
+        final AmazonWebServicesClientProxy clientProxy = new AmazonWebServicesClientProxy(
+                AbstractTestBase.logger, AbstractTestBase.MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder().databaseName("test-database").tableName("test-table").build())
+                .build();
+
+        when(glueClient.getTable(any(GetTableRequest.class))).thenReturn(GetTableResponse.builder()
+                .table(Table.builder().name("test-table").databaseName("test-database").build())
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(clientProxy, request,
+                    new CallbackContext(), AbstractTestBase.MOCK_PROXY(clientProxy, glueClient), logger);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getTableName()).isEqualTo("test-table");
+        }
+        assertThat(readCache.hits()).isEqualTo(2);
+        assertThat(readCache.misses()).isEqualTo(1);
+        verify(glueClient, times(1)).getTable(any(GetTableRequest.class));
+
+        handler.invalidateCachedTable(request, request.getDesiredResourceState(), "test-table");
+        handler.handleRequest(clientProxy, request, new CallbackContext(), AbstractTestBase.MOCK_PROXY(clientProxy, glueClient), logger);
+        verify(glueClient, times(2)).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReadCache_InvalidatedAcrossDefaultCatalogId() {
+        final GlueClient glueClient = mock(GlueClient.class);
+        final TableReadCache readCache = new TableReadCache(5_000L, 8, () -> 0L);
+        final ReadHandler handler = new ReadHandler(glueClient, readCache);
+        final AmazonWebServicesClientProxy clientProxy = new AmazonWebServicesClientProxy(
+                AbstractTestBase.logger, AbstractTestBase.MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder().databaseName("test-database").tableName("test-table").build())
+                .build();
+
+        when(glueClient.getTable(any(GetTableRequest.class))).thenReturn(GetTableResponse.builder()
+                .table(Table.builder().name("test-table").databaseName("test-database").build())
+                .build());
+
+        handler.handleRequest(clientProxy, request, new CallbackContext(), AbstractTestBase.MOCK_PROXY(clientProxy, glueClient), logger);
+
+        // the write names the account's catalog explicitly, as read output does
+        handler.invalidateCachedTable(request, ResourceModel.builder()
+                .catalogId("123456789012").databaseName("test-database").tableName("test-table").build(), "test-table");
+        handler.handleRequest(clientProxy, request, new CallbackContext(), AbstractTestBase.MOCK_PROXY(clientProxy, glueClient), logger);
+
+        assertThat(readCache.hits()).isEqualTo(0);
+        verify(glueClient, times(2)).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void translateFromReadResponse_SharesEqualColumnValues() {
+        final software.amazon.awssdk.services.glue.model.Column first =
+                software.amazon.awssdk.services.glue.model.Column.builder().name("a").type(new String("string")).build();
+        final software.amazon.awssdk.services.glue.model.Column second =
+                software.amazon.awssdk.services.glue.model.Column.builder().name("b").type(new String("string")).build();
+        final GetTableResponse response = GetTableResponse.builder()
+                .table(Table.builder()
+                        .name("test-table")
+                        .databaseName("test-database")
+                        .storageDescriptor(software.amazon.awssdk.services.glue.model.StorageDescriptor.builder()
+                                .columns(first, second)
+                                .build())
+                        .partitionKeys(software.amazon.awssdk.services.glue.model.Column.builder().name("dt").type(new String("string")).build())
+                        .build())
+                .build();
+
+        final ResourceModel model = Translator.translateFromReadResponse(response, new ModelInterner(), false, null);
+
+        final List<Column> columns = model.getTableInput().getStorageDescriptor().getColumns();
+        assertThat(columns.get(0).getType()).isSameAs(columns.get(1).getType());
+        assertThat(model.getTableInput().getPartitionKeys().get(0).getType()).isSameAs(columns.get(0).getType());
+    }
+
+    @Test
+    public void translateFromReadResponse_SameInterner_SharesValuesAcrossTables() {
+        final ModelInterner interner = new ModelInterner();
+        final ResourceModel first = Translator.translateFromReadResponse(tableWithColumn("first-table"), interner, false, null);
+        final ResourceModel second = Translator.translateFromReadResponse(tableWithColumn("second-table"), interner, false, null);
+
+        assertThat(second.getTableInput().getStorageDescriptor().getColumns().get(0))
+                .isSameAs(first.getTableInput().getStorageDescriptor().getColumns().get(0));
+        assertThat(second.getTableInput().getStorageDescriptor().getSerdeInfo())
+                .isSameAs(first.getTableInput().getStorageDescriptor().getSerdeInfo());
+    }
+
+    @Test
+    public void translateFromReadResponse_IcebergTable_ReadsBackOpenTableFormatInput() {
+        final GetTableResponse response = GetTableResponse.builder()
+                .table(Table.builder()
+                        .name("test-table")
+                        .databaseName("test-database")
+                        .parameters(ImmutableMap.of(
+                                "table_type", "ICEBERG",
+                                "metadata_location", "s3://bucket/metadata/00002.metadata.json",
+                                "previous_metadata_location", "s3://bucket/metadata/00001.metadata.json",
+                                "classification", "parquet"))
+                        .build())
+                .build();
+
+        final ResourceModel model = Translator.translateFromReadResponse(response, new ModelInterner(), true, null);
+
+        assertThat(model.getOpenTableFormatInput().getIcebergInput().getMetadataLocation())
+                .isEqualTo("s3://bucket/metadata/00002.metadata.json");
+        assertThat(model.getOpenTableFormatInput().getIcebergInput().getPreviousMetadataLocation())
+                .isEqualTo("s3://bucket/metadata/00001.metadata.json");
+        assertThat(model.getTableInput().getParameters()).containsOnlyKeys("classification");
+    }
+
+    @Test
+    public void translateFromReadResponse_HiveTable_NoOpenTableFormatInput() {
+        final GetTableResponse response = GetTableResponse.builder()
+                .table(Table.builder()
+                        .name("test-table")
+                        .databaseName("test-database")
+                        .parameters(ImmutableMap.of("classification", "parquet", "metadata_location", "s3://bucket/other"))
+                        .build())
+                .build();
+
+        final ResourceModel model = Translator.translateFromReadResponse(response, new ModelInterner(), false, null);
+
+        assertThat(model.getOpenTableFormatInput()).isNull();
+        assertThat(model.getTableInput().getParameters()).containsOnlyKeys("classification", "metadata_location");
+    }
+
+    @Test
+    public void translateFromReadResponse_IcebergParametersDeclared_KeepsThem() {
+        final GetTableResponse response = GetTableResponse.builder()
+                .table(Table.builder()
+                        .name("test-table")
+                        .databaseName("test-database")
+                        .parameters(ImmutableMap.of(
+                                "table_type", "ICEBERG",
+                                "metadata_location", "s3://bucket/metadata/00002.metadata.json",
+                                "previous_metadata_location", "s3://bucket/metadata/00001.metadata.json",
+                                "classification", "parquet"))
+                        .build())
+                .build();
+
+        final ResourceModel model = Translator.translateFromReadResponse(response, new ModelInterner(), true,
+                ImmutableMap.<String, Object>of("table_type", "ICEBERG", "metadata_location", "s3://bucket/metadata/00001.metadata.json"));
+
+        assertThat(model.getTableInput().getParameters())
+                .containsOnlyKeys("table_type", "metadata_location", "classification");
+    }
+
+    @Test
+    public void handleRequest_IdentifiersOnlyIcebergTable_ReadsBackOpenTableFormatInput() {
+        final GlueClient glueClient = mock(GlueClient.class);
+        final ReadHandler handler = new ReadHandler(glueClient);
+        final AmazonWebServicesClientProxy clientProxy = new AmazonWebServicesClientProxy(
+                AbstractTestBase.logger, AbstractTestBase.MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .desiredResourceState(ResourceModel.builder().databaseName("test-database").tableName("test-table").build())
+                .build();
+
+        when(glueClient.getTable(any(GetTableRequest.class))).thenReturn(GetTableResponse.builder()
+                .table(Table.builder()
+                        .name("test-table")
+                        .databaseName("test-database")
+                        .parameters(ImmutableMap.of(
+                                "table_type", "iceberg",
+                                "metadata_location", "s3://bucket/metadata/00002.metadata.json",
+                                "previous_metadata_location", "s3://bucket/metadata/00001.metadata.json",
+                                "classification", "parquet"))
+                        .build())
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(clientProxy, request,
+                new CallbackContext(), AbstractTestBase.MOCK_PROXY(clientProxy, glueClient), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getOpenTableFormatInput().getIcebergInput().getMetadataLocation())
+                .isEqualTo("s3://bucket/metadata/00002.metadata.json");
+        assertThat(response.getResourceModel().getTableInput().getParameters()).containsOnlyKeys("classification");
+    }
+
+    private static GetTableResponse tableWithColumn(final String tableName) {
+        return GetTableResponse.builder()
+                .table(Table.builder()
+                        .name(tableName)
+                        .databaseName("test-database")
+                        .storageDescriptor(software.amazon.awssdk.services.glue.model.StorageDescriptor.builder()
+                                .columns(software.amazon.awssdk.services.glue.model.Column.builder()
+                                        .name("id").type(new String("bigint")).build())
+                                .serdeInfo(software.amazon.awssdk.services.glue.model.SerDeInfo.builder()
+                                        .serializationLibrary(new String("org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe"))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
 }
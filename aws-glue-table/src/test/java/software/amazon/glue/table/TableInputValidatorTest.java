@@ -0,0 +1,120 @@
+package software.amazon.glue.table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class TableInputValidatorTest {
+
+    private static TableInput tableInput(final String... columnTypes) {
+        final Column[] columns = new Column[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columns[i] = Column.builder().name("c" + i).type(columnTypes[i]).build();
+        }
+        return TableInput.builder()
+                .name("test-table")
+                .storageDescriptor(StorageDescriptor.builder()
+                        .columns(Arrays.asList(columns))
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void validate_HiveTypes_Accepted() {
+        final TableInput tableInput = tableInput(
+                "string",
+                "BIGINT",
+                "decimal(38, 10)",
+                "varchar(255)",
+                "double precision",
+                "array<struct<id:int,`display name`:string,tags:map<string,array<timestamp>>>>",
+                "uniontype<int,string>");
+
+        assertThat(TableInputValidator.validate("test-database", tableInput)).isEmpty();
+    }
+
+    @Test
+    public void validate_TypesBeyondHive_Accepted() {
+        final TableInput tableInput = tableInput(
+                "timestamp_ntz",
+                "timestamp with local time zone",
+                "array<struct<ts:timestamp_ntz,at:timestamp with local time zone>>",
+                "map<timestamp_ntz,string>",
+                "timestamp(3)",
+                "geometry");
+
+        assertThat(TableInputValidator.validate("test-database", tableInput)).isEmpty();
+    }
+
+    @Test
+    public void validate_MissingType_ReportsPathAndPosition() {
+        final Optional<String> violation = TableInputValidator.validate("test-database", tableInput("string", "array<>"));
+
+        assertThat(violation).contains("TableInput.StorageDescriptor.Columns[1].Type [ array<> ] is not a valid Hive type: "
+                + "expected a type at position 6");
+    }
+
+    @Test
+    public void validate_InvalidTypes_Rejected() {
+        for (String type : Arrays.asList("map<array<int>,int>", "struct<>", "decimal(10,11)", "char(256)", "int>", "array<int",
+                "timestamp(3", "timestamp(x)")) {
+            assertThat(TableInputValidator.validate("test-database", tableInput(type))).as(type).isPresent();
+        }
+    }
+
+    @Test
+    public void validate_DuplicateColumnAcrossPartitionKeys_Rejected() {
+        final TableInput tableInput = tableInput("string");
+        tableInput.setPartitionKeys(Collections.singletonList(Column.builder().name("C0").type("string").build()));
+
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.StorageDescriptor.Columns[0].Name duplicates column [ c0 ]");
+    }
+
+    @Test
+    public void validate_BucketAndSortColumns_MustReferenceColumns() {
+        final TableInput tableInput = tableInput("string");
+        tableInput.getStorageDescriptor().setBucketColumns(Collections.singletonList("c0"));
+
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.StorageDescriptor.NumberOfBuckets must be positive when BucketColumns are set");
+
+        tableInput.getStorageDescriptor().setNumberOfBuckets(8);
+        tableInput.getStorageDescriptor().setSortColumns(Collections.singletonList(
+                Order.builder().column("missing").sortOrder(1).build()));
+
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.StorageDescriptor.SortColumns[0] references unknown column [ missing ]");
+    }
+
+    @Test
+    public void validate_Parameters_MustBeStringsWithinLimits() {
+        final TableInput tableInput = tableInput("string");
+        tableInput.setParameters(Collections.singletonMap("classification", 1));
+
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.Parameters.classification must be a string");
+
+        final char[] value = new char[TableInputValidator.MAX_PARAMETER_VALUE_BYTES / 2 + 1];
+        Arrays.fill(value, '\u00e9');
+        tableInput.setParameters(Collections.singletonMap("classification", new String(value)));
+
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.Parameters.classification must not exceed 512000 bytes");
+    }
+
+    @Test
+    public void validate_Names_MustBeSingleLineWithinLimits() {
+        final TableInput tableInput = tableInput("string");
+        tableInput.getStorageDescriptor().setSerdeInfo(SerdeInfo.builder().serializationLibrary("").build());
+
+        assertThat(TableInputValidator.validate("test\ndatabase", tableInput))
+                .contains("DatabaseName contains an invalid character at position 4");
+        assertThat(TableInputValidator.validate("test-database", tableInput))
+                .contains("TableInput.StorageDescriptor.SerdeInfo.SerializationLibrary must be between 1 and 255 characters");
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.glue.table;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.Table;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TableReadCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(0L);
+
+    @Test
+    public void get_ExpiresEntriesAfterTtl() {
+        final TableReadCache cache = new TableReadCache(1_000L, 8, clock::get);
+        cache.put(key("a"), response("a"));
+
+        clock.set(999L);
+        assertThat(cache.get(key("a"))).isNotNull();
+        clock.set(1_000L);
+        assertThat(cache.get(key("a"))).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyReadEntry() {
+        final TableReadCache cache = new TableReadCache(60_000L, 2, clock::get);
+        cache.put(key("a"), response("a"));
+        cache.put(key("b"), response("b"));
+        cache.get(key("a"));
+        cache.put(key("c"), response("c"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(key("a"))).isNotNull();
+        assertThat(cache.get(key("b"))).isNull();
+        assertThat(cache.get(key("c"))).isNotNull();
+    }
+
+    @Test
+    public void key_DistinguishesAccountsRegionsAndCatalogs() {
+        final TableReadCache cache = new TableReadCache(60_000L, 8, clock::get);
+        cache.put(key("a"), response("a"));
+
+        assertThat(cache.get(new TableReadCache.Key("210987654321", "us-east-1", null, "db", "a"))).isNull();
+        assertThat(cache.get(new TableReadCache.Key("123456789012", "eu-west-1", null, "db", "a"))).isNull();
+        assertThat(cache.get(new TableReadCache.Key("123456789012", "us-east-1", "210987654321", "db", "a"))).isNull();
+        assertThat(cache.get(key("a"))).isNotNull();
+
+        cache.invalidate(key("a"));
+        assertThat(cache.get(key("a"))).isNull();
+    }
+
+    @Test
+    public void disabledCache_NeverStoresOrCounts() {
+        final TableReadCache cache = new TableReadCache(0L, 8, clock::get);
+        cache.put(key("a"), response("a"));
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(key("a"))).isNull();
+        assertThat(cache.misses()).isZero();
+        assertThat(TableReadCache.parsePositive("-5", 7)).isEqualTo(7);
+        assertThat(TableReadCache.parsePositive(" 30 ", 7)).isEqualTo(30);
+    }
+
+    private static TableReadCache.Key key(final String tableName) {
+        return new TableReadCache.Key("123456789012", "us-east-1", null, "db", tableName);
+    }
+
+    private static GetTableResponse response(final String tableName) {
+        return GetTableResponse.builder().table(Table.builder().name(tableName).build()).build();
+    }
+}
@@ -3,19 +3,50 @@ package software.amazon.glue.table;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.BatchDeleteTableVersionRequest;
+import software.amazon.awssdk.services.glue.model.BatchDeleteTableVersionResponse;
+import software.amazon.awssdk.services.glue.model.CreatePartitionIndexRequest;
+import software.amazon.awssdk.services.glue.model.DeleteColumnStatisticsForTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteColumnStatisticsForTableResponse;
+import software.amazon.awssdk.services.glue.model.CreatePartitionIndexResponse;
+import software.amazon.awssdk.services.glue.model.DeletePartitionIndexRequest;
+import software.amazon.awssdk.services.glue.model.DeletePartitionIndexResponse;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesRequest;
+import software.amazon.awssdk.services.glue.model.GetPartitionIndexesResponse;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.GetTableVersionsRequest;
+import software.amazon.awssdk.services.glue.model.GetTableVersionsResponse;
+import software.amazon.awssdk.services.glue.model.PartitionIndexDescriptor;
+import software.amazon.awssdk.services.glue.model.PartitionIndexStatus;
+import software.amazon.awssdk.services.glue.model.Table;
+import software.amazon.awssdk.services.glue.model.TableVersion;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableRequest;
+import software.amazon.awssdk.services.glue.model.UpdateColumnStatisticsForTableResponse;
 import software.amazon.awssdk.services.glue.model.UpdateTableRequest;
 import software.amazon.awssdk.services.glue.model.UpdateTableResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -52,6 +83,56 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxyClient = MOCK_PROXY(proxy, glueClient);
     }
 
+    @Test
+    public void handleRequest_Stabilization_WaitsForUpdateTime() {
+        final AtomicLong clock = new AtomicLong(1_000_000_000L);
+        final UpdateHandler stabilizingHandler = new UpdateHandler(glueClient,
+                new TableStabilizer(true, clock::get, clock::addAndGet));
+        final ResourceModel previous = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableInput(TableInput.builder().name("test-table").description("before").build())
+                .build();
+        final ResourceModel desired = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableInput(TableInput.builder().name("test-table").description("after").build())
+                .build();
+
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+        when(proxyClient.client().getTable(any(GetTableRequest.class)))
+                .thenReturn(tableUpdatedAt(clock.get() - 60_000L), tableUpdatedAt(clock.get()));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = stabilizingHandler.handleRequest(
+                proxy, generateResourceHandlerRequest(desired, previous), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isTableStabilized()).isTrue();
+        verify(glueClient, times(2)).getTable(any(GetTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Stabilization_SkippedWhenTableUnchanged() {
+        final UpdateHandler stabilizingHandler = new UpdateHandler(glueClient,
+                new TableStabilizer(true, System::currentTimeMillis, millis -> { }));
+        final ResourceModel model = ResourceModel.builder()
+                .databaseName("test-database")
+                .tableInput(TableInput.builder().name("test-table").build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = stabilizingHandler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, model), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, never()).getTable(any(GetTableRequest.class));
+    }
+
+    private static GetTableResponse tableUpdatedAt(final long epochMillis) {
+        return GetTableResponse.builder()
+                .table(Table.builder().name("test-table").updateTime(Instant.ofEpochMilli(epochMillis)).build())
+                .build();
+    }
+
     @Test
     public void handleRequest_Success() {
         // Arrange
@@ -92,6 +173,277 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_UnchangedTableInput_SkipsUpdateTable() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(Collections.emptyMap(), "string");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(desired);
+        verify(glueClient, never()).updateTable(any(UpdateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ColumnTypeChanged_CallsUpdateTable() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(null, "bigint");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(TableDiff.diff(previous, desired)).containsExactly(TableDiff.COLUMNS);
+        verify(glueClient, times(1)).updateTable(any(UpdateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SkipArchive_PassedToUpdateTable() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(null, "bigint");
+        desired.setSkipArchive(true);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<UpdateTableRequest> captor = ArgumentCaptor.forClass(UpdateTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).updateTable(captor.capture());
+        assertThat(captor.getValue().skipArchive()).isTrue();
+    }
+
+    @Test
+    public void handleRequest_TableVersionsToRetain_DeletesOlderVersions() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(null, "string");
+        desired.setTableVersionsToRetain(2);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        final List<TableVersion> versions = new ArrayList<>();
+        for (int i = 5; i >= 1; i--) {
+            versions.add(TableVersion.builder().versionId(String.valueOf(i)).build());
+        }
+        when(proxyClient.client().getTableVersions(any(GetTableVersionsRequest.class)))
+                .thenReturn(GetTableVersionsResponse.builder().tableVersions(versions).build());
+        when(proxyClient.client().batchDeleteTableVersion(any(BatchDeleteTableVersionRequest.class)))
+                .thenReturn(BatchDeleteTableVersionResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        final ArgumentCaptor<BatchDeleteTableVersionRequest> captor = ArgumentCaptor.forClass(BatchDeleteTableVersionRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getTableVersionCutoff()).isEqualTo(4L);
+        assertThat(callbackContext.getPrunedTableVersions()).isEqualTo(3);
+        verify(glueClient, never()).updateTable(any(UpdateTableRequest.class));
+        verify(glueClient, times(1)).batchDeleteTableVersion(captor.capture());
+        assertThat(captor.getValue().versionIds()).containsExactly("3", "2", "1");
+    }
+
+    @Test
+    public void handleRequest_PartitionIndexAdded_CreatesAndWaitsUntilActive() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(null, "string");
+        desired.setPartitionIndexes(Collections.singletonList(
+                PartitionIndex.builder().indexName("idx_dt").keys(Collections.singletonList("dt")).build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().createPartitionIndex(any(CreatePartitionIndexRequest.class)))
+                .thenReturn(CreatePartitionIndexResponse.builder().build());
+        when(proxyClient.client().getPartitionIndexes(any(GetPartitionIndexesRequest.class)))
+                .thenReturn(partitionIndexes("idx_dt", PartitionIndexStatus.CREATING),
+                        partitionIndexes("idx_dt", PartitionIndexStatus.ACTIVE));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> pending =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(pending.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.PARTITION_INDEX_CALLBACK_DELAY);
+        assertThat(callbackContext.isPartitionIndexesCreated()).isTrue();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).createPartitionIndex(any(CreatePartitionIndexRequest.class));
+        verify(glueClient, never()).deletePartitionIndex(any(DeletePartitionIndexRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PartitionIndexNeverActive_FailsNotStabilized() {
+        final ResourceHandlerRequest<ResourceModel> request = partitionIndexAddedRequest();
+
+        when(proxyClient.client().getPartitionIndexes(any(GetPartitionIndexesRequest.class)))
+                .thenReturn(partitionIndexes("idx_dt", PartitionIndexStatus.CREATING));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPartitionIndexesDeleted(true);
+        callbackContext.setPartitionIndexesCreated(true);
+        callbackContext.setPartitionIndexPolls(BaseHandlerStd.MAX_PARTITION_INDEX_POLLS);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).contains("idx_dt");
+    }
+
+    @Test
+    public void handleRequest_CreatedPartitionIndexMissing_FailsNotStabilized() {
+        final ResourceHandlerRequest<ResourceModel> request = partitionIndexAddedRequest();
+
+        when(proxyClient.client().getPartitionIndexes(any(GetPartitionIndexesRequest.class)))
+                .thenReturn(GetPartitionIndexesResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPartitionIndexesDeleted(true);
+        callbackContext.setPartitionIndexesCreated(true);
+        callbackContext.setPartitionIndexPolls(BaseHandlerStd.MAX_MISSING_PARTITION_INDEX_POLLS - 1);
+        final ProgressEvent<ResourceModel, CallbackContext> pending =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).contains("[ idx_dt ] was not found");
+    }
+
+    private ResourceHandlerRequest<ResourceModel> partitionIndexAddedRequest() {
+        final ResourceModel desired = buildModel(null, "string");
+        desired.setPartitionIndexes(Collections.singletonList(
+                PartitionIndex.builder().indexName("idx_dt").keys(Collections.singletonList("dt")).build()));
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(buildModel(null, "string"))
+                .build();
+    }
+
+    @Test
+    public void handleRequest_PartitionIndexKeysChanged_WaitsForDeletionBeforeCreate() {
+        final ResourceModel previous = buildModel(null, "string");
+        previous.setPartitionIndexes(Collections.singletonList(
+                PartitionIndex.builder().indexName("idx").keys(Collections.singletonList("dt")).build()));
+        final ResourceModel desired = buildModel(null, "string");
+        desired.setPartitionIndexes(Collections.singletonList(
+                PartitionIndex.builder().indexName("idx").keys(Arrays.asList("dt", "region")).build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().deletePartitionIndex(any(DeletePartitionIndexRequest.class)))
+                .thenReturn(DeletePartitionIndexResponse.builder().build());
+        when(proxyClient.client().getPartitionIndexes(any(GetPartitionIndexesRequest.class)))
+                .thenReturn(partitionIndexes("idx", PartitionIndexStatus.DELETING));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.isPartitionIndexesDeleted()).isTrue();
+        assertThat(callbackContext.isPartitionIndexesCreated()).isFalse();
+        verify(glueClient, times(1)).deletePartitionIndex(any(DeletePartitionIndexRequest.class));
+        verify(glueClient, never()).createPartitionIndex(any(CreatePartitionIndexRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ColumnStatistics_WrittenInBatches() {
+        final ResourceModel previous = buildModel(null, "string");
+        final ResourceModel desired = buildModel(null, "string");
+        final List<ColumnStatistics> columnStatistics = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            columnStatistics.add(longStatistics("c" + i));
+        }
+        desired.setColumnStatistics(columnStatistics);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().updateColumnStatisticsForTable(any(UpdateColumnStatisticsForTableRequest.class)))
+                .thenReturn(UpdateColumnStatisticsForTableResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        final ArgumentCaptor<UpdateColumnStatisticsForTableRequest> captor =
+                ArgumentCaptor.forClass(UpdateColumnStatisticsForTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isColumnStatisticsWritten()).isTrue();
+        verify(glueClient, times(2)).updateColumnStatisticsForTable(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.columnStatisticsList().size())
+                .containsExactlyInAnyOrder(ColumnStatisticsWriter.MAX_BATCH_COLUMN_STATISTICS, 5);
+        verify(glueClient, never()).deleteColumnStatisticsForTable(any(DeleteColumnStatisticsForTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ColumnTypeChanged_DeletesStaleColumnStatistics() {
+        final ResourceModel previous = buildModel(null, "string");
+        previous.setColumnStatistics(Collections.singletonList(longStatistics("id")));
+        final ResourceModel desired = buildModel(null, "bigint");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+
+        when(proxyClient.client().deleteColumnStatisticsForTable(any(DeleteColumnStatisticsForTableRequest.class)))
+                .thenThrow(exceptionCreator("EntityNotFoundException"));
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<DeleteColumnStatisticsForTableRequest> captor =
+                ArgumentCaptor.forClass(DeleteColumnStatisticsForTableRequest.class);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(1)).deleteColumnStatisticsForTable(captor.capture());
+        assertThat(captor.getValue().columnName()).isEqualTo("id");
+        verify(glueClient, never()).updateColumnStatisticsForTable(any(UpdateColumnStatisticsForTableRequest.class));
+    }
+
     @Test
     public void handleRequestMissingTableName_ShouldFail() {
         // Arrange
@@ -168,4 +520,44 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
     }
+
+    private GetPartitionIndexesResponse partitionIndexes(final String indexName, final PartitionIndexStatus status) {
+        return GetPartitionIndexesResponse.builder()
+                .partitionIndexDescriptorList(PartitionIndexDescriptor.builder()
+                        .indexName(indexName)
+                        .indexStatus(status)
+                        .build())
+                .build();
+    }
+
+    private ColumnStatistics longStatistics(final String columnName) {
+        return ColumnStatistics.builder()
+                .columnName(columnName)
+                .columnType("bigint")
+                .statisticsData(ColumnStatisticsData.builder()
+                        .type("LONG")
+                        .longColumnStatisticsData(LongColumnStatisticsData.builder()
+                                .minimumValue(0)
+                                .maximumValue(100)
+                                .numberOfNulls(0)
+                                .numberOfDistinctValues(100)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private ResourceModel buildModel(final Map<String, Object> parameters, final String columnType) {
+        return ResourceModel.builder()
+                .databaseName("test-database")
+                .tableName("test-table")
+                .tableInput(TableInput.builder()
+                        .name("test-table")
+                        .parameters(parameters)
+                        .storageDescriptor(StorageDescriptor.builder()
+                                .location("s3://bucket/prefix")
+                                .columns(Collections.singletonList(Column.builder().name("id").type(columnType).build()))
+                                .build())
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,352 @@
+package software.amazon.glue.tableset;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GlueRequest;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.GlueClientConfiguration;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.HandlerLogger;
+import software.amazon.glue.table.TableInputValidator;
+import software.amazon.glue.table.TableUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private final GlueClient glueClient;
+
+    static final int CALLBACK_DELAY = 1;
+    static final int LIMITED_RETRY_COUNT = 5;
+    static final int MAX_RETRY_ATTEMPTS = 5;
+    static final int MAX_RETRY_DELAY = 30;
+    static final int MAX_TABLES_PER_INVOCATION = 100;
+
+    static final String ENTITY_NOT_FOUND_EXCEPTION = "EntityNotFoundException";
+    static final String ALREADY_EXISTS_EXCEPTION = "AlreadyExistsException";
+    static final String ACCESS_DENIED_EXCEPTION = "AccessDeniedException";
+    static final String INVALID_INPUT_EXCEPTION = "InvalidInputException";
+    static final String OPERATION_TIMEOUT_EXCEPTION = "OperationTimeoutException";
+    static final String INTERNAL_SERVICE_EXCEPTION = "InternalServiceException";
+    static final String RESOURCE_NOT_READY_EXCEPTION = "ResourceNotReadyException";
+    static final String RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION = "ResourceNumberLimitExceededException";
+    static final String CONCURRENT_MODIFICATION_EXCEPTION = "ConcurrentModificationException";
+    static final String REQUEST_LIMIT_EXCEEDED = "RequestLimitExceeded";
+    static final String THROTTLING_EXCEPTION = "ThrottlingException";
+    static final String THROTTLING_ERROR_CODE = "Throttling";
+    static final String TOO_MANY_REQUESTS_EXCEPTION = "TooManyRequestsException";
+
+    /**
+     * Per-table errors worth retrying; any other table error fails the operation.
+     */
+    static final Set<String> RETRYABLE_ERRORS = ImmutableSet.of(
+            THROTTLING_EXCEPTION,
+            THROTTLING_ERROR_CODE,
+            REQUEST_LIMIT_EXCEEDED,
+            TOO_MANY_REQUESTS_EXCEPTION,
+            OPERATION_TIMEOUT_EXCEPTION,
+            INTERNAL_SERVICE_EXCEPTION,
+            RESOURCE_NOT_READY_EXCEPTION,
+            CONCURRENT_MODIFICATION_EXCEPTION);
+
+    static {
+        GlueClients.preload(GlueClientConfiguration.THROTTLING_BACKOFF);
+        Priming.register();
+    }
+
+    protected BaseHandlerStd() {
+        this(GlueClients.get(GlueClientConfiguration.THROTTLING_BACKOFF));
+    }
+
+    protected BaseHandlerStd(GlueClient glueClient) {
+        this.glueClient = requireNonNull(glueClient);
+    }
+
+    private GlueClient getGlueClient() {
+        return glueClient;
+    }
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        return handleRequest(
+                proxy,
+                request,
+                Optional.ofNullable(callbackContext).orElse(new CallbackContext()),
+                proxy.newProxy(this::getGlueClient),
+                logger
+        );
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger);
+
+    /**
+     * Validates the set and the TableInput every table resolves to, with the same rules as
+     * AWS::Glue::Table, so that no table is written when any of them is invalid.
+     *
+     * @param model The resource model of the set.
+     * @return The first violation, empty when the set is valid.
+     */
+    protected static Optional<String> validate(final ResourceModel model) {
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getName())) {
+            return Optional.of("Database name and Name are required.");
+        }
+        if (!TableUtils.validateLowercase(model.getDatabaseName())) {
+            return Optional.of(String.format("Database name [ %s ] cannot contain uppercase characters", model.getDatabaseName()));
+        }
+        if (model.getTables() == null || model.getTables().isEmpty()) {
+            return Optional.of("Tables must list at least one table.");
+        }
+
+        final Set<String> tableNames = new HashSet<>();
+        for (TableSetMember member : model.getTables()) {
+            if (StringUtils.isNullOrEmpty(member.getName()) || !TableUtils.validateLowercase(member.getName())) {
+                return Optional.of(String.format("Table name [ %s ] must not be empty and cannot contain uppercase characters",
+                        member.getName()));
+            }
+            if (!tableNames.add(member.getName())) {
+                return Optional.of(String.format("Table name [ %s ] is listed more than once.", member.getName()));
+            }
+        }
+
+        for (Map.Entry<String, software.amazon.glue.table.TableInput> table : Translator.resolveTables(model).entrySet()) {
+            final Optional<String> violation = TableInputValidator.validate(model.getDatabaseName(), table.getValue());
+            if (violation.isPresent()) {
+                return Optional.of(String.format("Table [ %s ]: %s", table.getKey(), violation.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Runs one write phase over the tables of the set and tracks per-table progress in the
+     * CallbackContext. At most MAX_TABLES_PER_INVOCATION tables are written per invocation, the rest
+     * stay pending for the next one. Tables that failed with a retryable error are retried on a later
+     * invocation with an increasing delay; any other error fails the operation. Errors listed in
+     * retriedIgnoredErrors only count as success for a table whose previous attempt failed, since
+     * that attempt may have been applied. The tables written so far are kept per phase, so that a
+     * failed phase can be undone.
+     *
+     * @param phase The write phase, one pending list is kept per phase.
+     * @param tableNames The names of every table of the phase.
+     * @param call Sends the request of one table.
+     * @param ignoredErrors Error codes that count as success for this phase.
+     * @param retriedIgnoredErrors Error codes that count as success for a retried table.
+     * @return A progress event to continue with, or an in-progress or failed event.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> writeTables(
+            final String phase,
+            final List<String> tableNames,
+            final Consumer<String> call,
+            final Set<String> ignoredErrors,
+            final Set<String> retriedIgnoredErrors,
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final HandlerLogger log) {
+        final List<String> pending = callbackContext.getPendingTableNames().getOrDefault(phase, tableNames);
+        if (pending.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+
+        final List<String> current = pending.subList(0, Math.min(pending.size(), MAX_TABLES_PER_INVOCATION));
+        final Map<String, RuntimeException> failures = TableSetWriter.run(current, call);
+
+        final List<String> retried = callbackContext.getRetriedTableNames().getOrDefault(phase, Collections.emptyList());
+        final List<String> retry = new ArrayList<>();
+        final Set<String> unwritten = new HashSet<>();
+        Map.Entry<String, RuntimeException> failed = null;
+        for (Map.Entry<String, RuntimeException> failure : failures.entrySet()) {
+            final String errorCode = getErrorCode(failure.getValue());
+            if (ignoredErrors.contains(errorCode)
+                    || (retried.contains(failure.getKey()) && retriedIgnoredErrors.contains(errorCode))) {
+                continue;
+            }
+            unwritten.add(failure.getKey());
+            if (isRetryable(failure.getValue())) {
+                retry.add(failure.getKey());
+            } else if (failed == null) {
+                failed = failure;
+            }
+        }
+
+        final List<String> written = callbackContext.getWrittenTableNames().computeIfAbsent(phase, key -> new ArrayList<>());
+        for (String tableName : current) {
+            if (!unwritten.contains(tableName)) {
+                written.add(tableName);
+            }
+        }
+
+        if (failed != null) {
+            final String errorCode = getErrorCode(failed.getValue());
+            callbackContext.getPendingTableNames().put(phase, Collections.emptyList());
+            log.error("TableWriteFailed", "Phase", phase, "TableName", failed.getKey(), "ErrorCode", errorCode);
+            return ProgressEvent.failed(model, callbackContext, entryErrorCode(errorCode),
+                    String.format("Table [ %s ] failed: %s", failed.getKey(), failed.getValue().getMessage()));
+        }
+
+        final List<String> remaining = new ArrayList<>(retry);
+        remaining.addAll(pending.subList(current.size(), pending.size()));
+        callbackContext.getPendingTableNames().put(phase, remaining);
+        callbackContext.getRetriedTableNames().put(phase, retry);
+        log.info("TablesWritten", "Phase", phase, "Tables", current.size() - retry.size(), "Remaining", remaining.size());
+        if (remaining.isEmpty()) {
+            callbackContext.setRetryAttempts(0);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        if (retry.isEmpty()) {
+            callbackContext.setRetryAttempts(0);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
+        }
+
+        final int attempts = callbackContext.getRetryAttempts() + 1;
+        if (attempts > MAX_RETRY_ATTEMPTS) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.Throttling,
+                    String.format("%d tables could not be written after %d attempts, for example [ %s ]",
+                            retry.size(), MAX_RETRY_ATTEMPTS, retry.get(0)));
+        }
+        callbackContext.setRetryAttempts(attempts);
+        log.warn("TablesRetrying", "Phase", phase, "Tables", retry.size(), "Attempt", attempts);
+        return ProgressEvent.defaultInProgressHandler(callbackContext,
+                Math.min(CALLBACK_DELAY << attempts, MAX_RETRY_DELAY), model);
+    }
+
+    private static boolean isRetryable(final Exception e) {
+        if (RETRYABLE_ERRORS.contains(getErrorCode(e))) {
+            return true;
+        }
+        return e instanceof AwsServiceException && ((AwsServiceException) e).statusCode() >= 500;
+    }
+
+    private static HandlerErrorCode entryErrorCode(final String errorCode) {
+        if (ALREADY_EXISTS_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.AlreadyExists;
+        } else if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.NotFound;
+        } else if (INVALID_INPUT_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.InvalidRequest;
+        } else if (ACCESS_DENIED_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.AccessDenied;
+        } else if (RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION.equals(errorCode)) {
+            return HandlerErrorCode.ServiceLimitExceeded;
+        }
+        return HandlerErrorCode.GeneralServiceException;
+    }
+
+    /**
+     * Base Function for handling errors from all the other handlers.
+     * @param request
+     * @param log
+     * @param e
+     * @param resourceModel
+     * @param callbackContext
+     * @return
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleError(
+            final GlueRequest request,
+            final HandlerLogger log,
+            final Exception e,
+            final ResourceModel resourceModel,
+            final CallbackContext callbackContext) {
+
+        String errorMessage = getErrorCode(e);
+
+        log.error("RequestFailed", "Request", request == null ? null : request.getClass().getSimpleName(),
+                "ErrorCode", errorMessage);
+
+        BaseHandlerException ex;
+
+        if (e instanceof ConcurrentModificationException && callbackContext.getLimitedRetryCount() < LIMITED_RETRY_COUNT) {
+            callbackContext.setLimitedRetryCount(callbackContext.getLimitedRetryCount() + 1);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, resourceModel);
+        }
+        if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnNotFoundException(e);
+        } else if (ACCESS_DENIED_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnAccessDeniedException(e);
+        } else if (OPERATION_TIMEOUT_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnThrottlingException(e);
+        } else if (INVALID_INPUT_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnInvalidRequestException(e);
+        } else if (ALREADY_EXISTS_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnAlreadyExistsException(e);
+        } else if (RESOURCE_NUMBER_LIMIT_EXCEEDED_EXCEPTION.equals(errorMessage)) {
+            ex = new CfnServiceLimitExceededException(e);
+        } else {
+            ex = new CfnGeneralServiceException(e);
+        }
+
+        if (e instanceof AwsServiceException) {
+            final AwsErrorDetails error = ((AwsServiceException) e).awsErrorDetails();
+            final int errorStatus = ((AwsServiceException) e).statusCode();
+            final String errorCode = error != null ? error.errorCode() : "";
+
+            if (errorStatus >= 400 && errorStatus < 500) {
+                if (THROTTLING_EXCEPTION.equals(errorCode) ||
+                        THROTTLING_ERROR_CODE.equals(errorCode) ||
+                        REQUEST_LIMIT_EXCEEDED.equals(errorCode) ||
+                        TOO_MANY_REQUESTS_EXCEPTION.equals(errorCode)) {
+                    log.warn("RequestThrottled", "ErrorCode", errorCode);
+                    return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
+                }
+            } else if (errorStatus >= 500) {
+                return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
+            }
+        }
+
+        return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
+    }
+
+    protected static String getErrorCode(Exception e) {
+        if (e instanceof AwsServiceException && ((AwsServiceException) e).awsErrorDetails() != null) {
+            return ((AwsServiceException) e).awsErrorDetails().errorCode();
+        }
+        return e.getMessage();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> buildRetryProgressEvent(final ResourceModel resourceModel,
+                                                                                  final CallbackContext callbackContext,
+                                                                                  final HandlerErrorCode errorCode,
+                                                                                  int callbackDelay) {
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .callbackContext(callbackContext)
+                .resourceModel(resourceModel)
+                .errorCode(errorCode)
+                .status(OperationStatus.IN_PROGRESS)
+                .callbackDelaySeconds(callbackDelay)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package software.amazon.glue.tableset;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class CallbackContext extends StdCallbackContext {
+    private int limitedRetryCount = 0;
+    // table names still to write per phase; a phase is absent until it starts and empty once done
+    private Map<String, List<String>> pendingTableNames = new HashMap<>();
+    // tables per phase whose last call failed with a retryable error and may have been applied anyway
+    private Map<String, List<String>> retriedTableNames = new HashMap<>();
+    // tables written so far per phase, so that a failed create can delete the tables it created
+    private Map<String, List<String>> writtenTableNames = new HashMap<>();
+    private int retryAttempts = 0;
+}
@@ -0,0 +1,8 @@
+package software.amazon.glue.tableset;
+
+class Configuration extends BaseConfiguration {
+
+    public Configuration() {
+        super("aws-glue-tableset.json");
+    }
+}
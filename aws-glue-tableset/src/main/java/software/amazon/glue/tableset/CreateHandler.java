@@ -0,0 +1,107 @@
+package software.amazon.glue.tableset;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CreateHandler extends BaseHandlerStd {
+
+    static final String CREATE_PHASE = "Create";
+
+    protected CreateHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected CreateHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        final Optional<String> violation = validate(model);
+        if (violation.isPresent()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, violation.get());
+        }
+
+        final Map<String, software.amazon.glue.table.TableInput> tables = Translator.resolveTables(model);
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredCreateHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName(),
+                "Name", model.getName(), "Tables", tables.size());
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> {
+                    final ProgressEvent<ResourceModel, CallbackContext> written = writeTables(
+                            CREATE_PHASE,
+                            new ArrayList<>(tables.keySet()),
+                            tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                                    Translator.translateToCreateRequest(model, tables.get(tableName)),
+                                    proxyClient.client()::createTable),
+                            Collections.emptySet(),
+                            ImmutableSet.of(ALREADY_EXISTS_EXCEPTION),
+                            model,
+                            callbackContext,
+                            log);
+                    if (written.isFailed()) {
+                        deleteCreatedTables(model, callbackContext, proxyClient, log);
+                    }
+                    return written;
+                })
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
+    }
+
+    /**
+     * Deletes the tables this create wrote before it failed. CloudFormation does not call Delete
+     * for a set that failed to create, so they would be orphaned and make the next create fail with
+     * AlreadyExists. Tables that cannot be deleted are logged and left in the CallbackContext.
+     */
+    private void deleteCreatedTables(
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final HandlerLogger log) {
+        final List<String> created = callbackContext.getWrittenTableNames().getOrDefault(CREATE_PHASE, Collections.emptyList());
+        if (created.isEmpty()) {
+            return;
+        }
+
+        final Map<String, RuntimeException> failures = TableSetWriter.run(created,
+                tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToDeleteRequest(model, tableName),
+                        proxyClient.client()::deleteTable));
+
+        final List<String> remaining = new ArrayList<>();
+        for (Map.Entry<String, RuntimeException> failure : failures.entrySet()) {
+            final String errorCode = getErrorCode(failure.getValue());
+            if (!ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
+                remaining.add(failure.getKey());
+                log.warn("CreatedTableNotDeleted", "TableName", failure.getKey(), "ErrorCode", errorCode);
+            }
+        }
+        log.info("CreatedTablesDeleted", "Tables", created.size() - remaining.size(), "Remaining", remaining.size());
+        callbackContext.getWrittenTableNames().put(CREATE_PHASE, remaining);
+    }
+}
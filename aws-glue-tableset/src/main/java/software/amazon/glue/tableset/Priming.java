@@ -0,0 +1,94 @@
+package software.amazon.glue.tableset;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.common.HandlerPriming;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Primes the table set handlers before a SnapStart snapshot, see {@link HandlerPriming}. The steps
+ * resolve, validate and write a synthetic set of two tables, and round trip the resource model
+ * through the wrapper's serializer.
+ */
+final class Priming {
+
+    static final String DATABASE_NAME = "priming_database";
+
+    static final Map<String, String> RESPONSES = ImmutableMap.of(
+            "GetTable", "{\"Table\":{\"Name\":\"priming_events\",\"DatabaseName\":\"" + DATABASE_NAME + "\","
+                    + "\"TableType\":\"EXTERNAL_TABLE\",\"CreateTime\":1.7E9,"
+                    + "\"StorageDescriptor\":{\"Columns\":[{\"Name\":\"id\",\"Type\":\"bigint\"}],"
+                    + "\"Location\":\"s3://priming-bucket/events/\"}}}");
+
+    private Priming() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static HandlerPriming register() {
+        return HandlerPriming.register(ResourceModel.TYPE_NAME, RESPONSES,
+                (proxy, proxyClient, logger) -> {
+                    final ResourceModel model = new ReadHandler(proxyClient.client())
+                            .handleRequest(proxy, request(model("priming_events_a", "priming_events_b"), null),
+                                    new CallbackContext(), proxyClient, logger)
+                            .getResourceModel();
+                    final Serializer serializer = new Serializer();
+                    serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+                    serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+                },
+                (proxy, proxyClient, logger) -> new CreateHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model("priming_events_a", "priming_events_b"), null),
+                                new CallbackContext(), proxyClient, logger),
+                (proxy, proxyClient, logger) -> new UpdateHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model("priming_events_b", "priming_events_c"),
+                                model("priming_events_a", "priming_events_b")), new CallbackContext(), proxyClient, logger),
+                (proxy, proxyClient, logger) -> new DeleteHandler(proxyClient.client())
+                        .handleRequest(proxy, request(model("priming_events_a", "priming_events_b"), null),
+                                new CallbackContext(), proxyClient, logger));
+    }
+
+    private static ResourceModel model(final String... tableNames) {
+        final TableSetMember[] tables = new TableSetMember[tableNames.length];
+        for (int i = 0; i < tableNames.length; i++) {
+            tables[i] = TableSetMember.builder()
+                    .name(tableNames[i])
+                    .tableInput(TableInput.builder()
+                            .parameters(Collections.singletonMap("tenant", tableNames[i]))
+                            .storageDescriptor(StorageDescriptor.builder()
+                                    .location("s3://priming-bucket/events/" + tableNames[i] + "/")
+                                    .build())
+                            .build())
+                    .build();
+        }
+        return ResourceModel.builder()
+                .databaseName(DATABASE_NAME)
+                .name("priming_events")
+                .tableInput(TableInput.builder()
+                        .tableType("EXTERNAL_TABLE")
+                        .parameters(ImmutableMap.<String, Object>of("classification", "parquet"))
+                        .storageDescriptor(StorageDescriptor.builder()
+                                .columns(Arrays.asList(
+                                        Column.builder().name("id").type("bigint").build(),
+                                        Column.builder().name("payload").type("struct<name:string>").build()))
+                                .build())
+                        .build())
+                .tables(Arrays.asList(tables))
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(HandlerPriming.PRIMING_ACCOUNT_ID)
+                .region(HandlerPriming.PRIMING_REGION)
+                .clientRequestToken("priming")
+                .logicalResourceIdentifier("PrimingTableSet")
+                .stackId("priming")
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+}
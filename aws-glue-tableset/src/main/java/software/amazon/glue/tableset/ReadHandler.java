@@ -0,0 +1,91 @@
+package software.amazon.glue.tableset;
+
+import com.amazonaws.util.StringUtils;
+import com.google.common.annotations.VisibleForTesting;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+import software.amazon.glue.table.ModelInterner;
+import software.amazon.glue.table.TranslatorUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReadHandler extends BaseHandlerStd {
+
+    protected ReadHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected ReadHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    /**
+     * Reads the tables of the set. A set is not recorded in the Data Catalog, so the base TableInput
+     * is reported as declared and each existing table as the overrides it needs on top of it, see
+     * {@link Translator#translateFromReadResponses}; the set is not found once none of its tables
+     * exists.
+     */
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        if (model == null || StringUtils.isNullOrEmpty(model.getDatabaseName()) || StringUtils.isNullOrEmpty(model.getName())) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Database name and Name are required.");
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredReadHandler", "StackId", request.getStackId(), "ClientRequestToken", request.getClientRequestToken(),
+                "DatabaseName", model.getDatabaseName(), "Name", model.getName());
+
+        final Map<String, software.amazon.glue.table.TableInput> declared = Translator.resolveTables(model);
+        final List<String> tableNames = new ArrayList<>(declared.keySet());
+        final Map<String, GetTableResponse> responses = new LinkedHashMap<>();
+        final Map<String, RuntimeException> failures = TableSetWriter.run(tableNames,
+                tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToReadRequest(model, tableName), proxyClient.client()::getTable),
+                responses);
+        for (Map.Entry<String, RuntimeException> failure : failures.entrySet()) {
+            if (!ENTITY_NOT_FOUND_EXCEPTION.equals(getErrorCode(failure.getValue()))) {
+                return handleError(Translator.translateToReadRequest(model, failure.getKey()), log,
+                        failure.getValue(), model, callbackContext);
+            }
+        }
+
+        if (failures.size() == tableNames.size()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound,
+                    String.format("No table of set [ %s ] found in database [ %s ]", model.getName(), model.getDatabaseName()));
+        }
+
+        final ModelInterner interner = new ModelInterner();
+        final Map<String, software.amazon.glue.table.TableInput> tables = new LinkedHashMap<>();
+        for (Map.Entry<String, GetTableResponse> response : responses.entrySet()) {
+            tables.put(response.getKey(), software.amazon.glue.table.Translator
+                    .translateFromReadResponse(response.getValue(), interner,
+                            TranslatorUtils.isIcebergTable(response.getValue().table().parameters()),
+                            declared.get(response.getKey()).getParameters())
+                    .getTableInput());
+        }
+        log.info("TablesRead", "DatabaseName", model.getDatabaseName(), "Name", model.getName(),
+                "Tables", tables.size(), "Missing", failures.size());
+        return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponses(model, tables));
+    }
+}
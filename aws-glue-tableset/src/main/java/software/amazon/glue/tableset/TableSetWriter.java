@@ -0,0 +1,87 @@
+package software.amazon.glue.tableset;
+
+import software.amazon.glue.common.AsyncCalls;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs one Glue call per table of a set, at most MAX_CONCURRENT_REQUESTS at a time. Failures are
+ * collected per table rather than thrown, so one rejected table does not hide the outcome of the
+ * others, and every call has completed when {@link #run} returns.
+ */
+public class TableSetWriter {
+
+    static final int MAX_CONCURRENT_REQUESTS = 8;
+
+    private static final ExecutorService TABLE_SET_EXECUTOR = AsyncCalls.newDaemonPool(MAX_CONCURRENT_REQUESTS, "glue-table-set");
+
+    private TableSetWriter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Calls the given function once for every table name.
+     *
+     * @param tableNames The names of the tables to call for.
+     * @param call The call for one table, may throw.
+     * @return The exception of every failed call by table name, in the order of the table names.
+     */
+    static Map<String, RuntimeException> run(final List<String> tableNames, final Consumer<String> call) {
+        return run(tableNames, tableName -> {
+            call.accept(tableName);
+            return null;
+        }, new HashMap<>());
+    }
+
+    /**
+     * Calls the given function once for every table name and collects what the calls return.
+     *
+     * @param tableNames The names of the tables to call for.
+     * @param call The call for one table, may throw.
+     * @param results Receives the result of every successful call by table name, in the order of the
+     *                table names.
+     * @return The exception of every failed call by table name, in the order of the table names.
+     */
+    static <T> Map<String, RuntimeException> run(final List<String> tableNames, final Function<String, T> call,
+                                                 final Map<String, T> results) {
+        final List<CompletableFuture<Outcome<T>>> calls = new ArrayList<>(tableNames.size());
+        for (String tableName : tableNames) {
+            calls.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return new Outcome<T>(call.apply(tableName), null);
+                } catch (final RuntimeException e) {
+                    return new Outcome<T>(null, e);
+                }
+            }, TABLE_SET_EXECUTOR));
+        }
+
+        final Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            final Outcome<T> outcome = AsyncCalls.join(calls.get(i));
+            if (outcome.failure != null) {
+                failures.put(tableNames.get(i), outcome.failure);
+            } else {
+                results.put(tableNames.get(i), outcome.result);
+            }
+        }
+        return failures;
+    }
+
+    private static final class Outcome<T> {
+        private final T result;
+        private final RuntimeException failure;
+
+        private Outcome(final T result, final RuntimeException failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package software.amazon.glue.tableset;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.UpdateTableRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the tables of a set and builds their Glue requests. Each table is the base TableInput
+ * with the table's overrides merged onto it, expressed as an AWS::Glue::Table TableInput, so that
+ * request building, and the validation done by the handlers, is shared with the table resource.
+ */
+public class Translator {
+
+    private static final String NAME = "Name";
+
+    // the generated models of both resources carry the schema property names as Jackson annotations
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private Translator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Merges the overrides of every table onto the base TableInput. Objects, including parameter
+     * maps, are merged property by property; arrays and scalar values replace the base value. The
+     * table name always comes from the member.
+     *
+     * @param model The resource model of the set.
+     * @return The TableInput of every table by table name, in declaration order. Later members
+     *         replace earlier ones with the same name.
+     */
+    static Map<String, software.amazon.glue.table.TableInput> resolveTables(final ResourceModel model) {
+        final Map<String, software.amazon.glue.table.TableInput> tables = new LinkedHashMap<>();
+        if (model == null) {
+            return tables;
+        }
+        final JsonNode base = toTree(model.getTableInput());
+        for (TableSetMember member : list(model.getTables())) {
+            final ObjectNode tableInput = base.deepCopy();
+            merge(tableInput, toTree(member.getTableInput()));
+            tableInput.put(NAME, member.getName());
+            tables.put(member.getName(), MAPPER.convertValue(tableInput, software.amazon.glue.table.TableInput.class));
+        }
+        return tables;
+    }
+
+    /**
+     * Builds the model of a set from the TableInput its tables have in Glue. The base TableInput is
+     * not stored in Glue and is kept as declared; the overrides of each table are the properties in
+     * which the table differs from the base, so that merging them onto the base, as
+     * {@link #resolveTables} does, gives the table back. A property of the base that a table lacks
+     * cannot be expressed as an override and is not reported.
+     *
+     * @param model The resource model of the set, for its identifiers and base TableInput.
+     * @param tables The TableInput read from Glue of every existing table by table name.
+     * @return The resource model of the set with one member per existing table.
+     */
+    static ResourceModel translateFromReadResponses(
+            final ResourceModel model,
+            final Map<String, software.amazon.glue.table.TableInput> tables) {
+        final JsonNode base = toTree(model.getTableInput());
+        final List<TableSetMember> members = new ArrayList<>(tables.size());
+        for (Map.Entry<String, software.amazon.glue.table.TableInput> table : tables.entrySet()) {
+            final ObjectNode actual = toTree(table.getValue());
+            actual.remove(NAME);
+            final ObjectNode overrides = diff(base, actual);
+            members.add(TableSetMember.builder()
+                    .name(table.getKey())
+                    .tableInput(overrides.size() == 0 ? null : MAPPER.convertValue(overrides, TableInput.class))
+                    .build());
+        }
+        return ResourceModel.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .name(model.getName())
+                .tableInput(model.getTableInput())
+                .tables(members)
+                .build();
+    }
+
+    static ObjectNode diff(final JsonNode base, final ObjectNode actual) {
+        final ObjectNode overrides = MAPPER.createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = actual.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode existing = base.get(field.getKey());
+            if (existing == null && field.getValue().isContainerNode() && field.getValue().size() == 0) {
+                // Glue reads back absent lists and maps as empty ones
+                continue;
+            }
+            if (existing != null && existing.isObject() && field.getValue().isObject()) {
+                final ObjectNode nested = diff(existing, (ObjectNode) field.getValue());
+                if (nested.size() > 0) {
+                    overrides.set(field.getKey(), nested);
+                }
+            } else if (!field.getValue().equals(existing)) {
+                overrides.set(field.getKey(), field.getValue().deepCopy());
+            }
+        }
+        return overrides;
+    }
+
+    static void merge(final ObjectNode target, final JsonNode overrides) {
+        final Iterator<Map.Entry<String, JsonNode>> fields = overrides.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode existing = target.get(field.getKey());
+            if (existing != null && existing.isObject() && field.getValue().isObject()) {
+                merge((ObjectNode) existing, field.getValue());
+            } else {
+                target.set(field.getKey(), field.getValue().deepCopy());
+            }
+        }
+    }
+
+    private static ObjectNode toTree(final Object value) {
+        final JsonNode tree = value == null ? null : MAPPER.valueToTree(value);
+        return tree != null && tree.isObject() ? (ObjectNode) tree : MAPPER.createObjectNode();
+    }
+
+    static software.amazon.glue.table.ResourceModel toTableModel(
+            final ResourceModel model,
+            final software.amazon.glue.table.TableInput tableInput) {
+        return software.amazon.glue.table.ResourceModel.builder()
+                .catalogId(model.getCatalogId())
+                .databaseName(model.getDatabaseName())
+                .tableName(tableInput.getName())
+                .tableInput(tableInput)
+                .build();
+    }
+
+    static CreateTableRequest translateToCreateRequest(
+            final ResourceModel model,
+            final software.amazon.glue.table.TableInput tableInput) {
+        return software.amazon.glue.table.Translator.translateToCreateRequest(toTableModel(model, tableInput));
+    }
+
+    static UpdateTableRequest translateToUpdateRequest(
+            final ResourceModel model,
+            final software.amazon.glue.table.TableInput tableInput) {
+        return software.amazon.glue.table.Translator.translateToUpdateRequest(toTableModel(model, tableInput));
+    }
+
+    static DeleteTableRequest translateToDeleteRequest(final ResourceModel model, final String tableName) {
+        return software.amazon.glue.table.Translator.translateToDeleteRequest(toTableModel(model, name(tableName)))
+                .toBuilder()
+                .catalogId(model.getCatalogId())
+                .build();
+    }
+
+    static GetTableRequest translateToReadRequest(final ResourceModel model, final String tableName) {
+        return software.amazon.glue.table.Translator.translateToReadRequest(toTableModel(model, name(tableName)))
+                .toBuilder()
+                .catalogId(model.getCatalogId())
+                .build();
+    }
+
+    private static software.amazon.glue.table.TableInput name(final String tableName) {
+        return software.amazon.glue.table.TableInput.builder().name(tableName).build();
+    }
+
+    private static <T> List<T> list(final List<T> values) {
+        return values == null ? Collections.emptyList() : values;
+    }
+}
@@ -0,0 +1,115 @@
+package software.amazon.glue.tableset;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class UpdateHandler extends BaseHandlerStd {
+
+    static final String DELETE_PHASE = "Delete";
+    static final String UPDATE_PHASE = "Update";
+    static final String CREATE_PHASE = "Create";
+
+    protected UpdateHandler() {
+        super();
+    }
+
+    @VisibleForTesting
+    protected UpdateHandler(final GlueClient glueClient) {
+        super(glueClient);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<GlueClient> proxyClient,
+            final Logger logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        final Optional<String> violation = validate(model);
+        if (violation.isPresent()) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, violation.get());
+        }
+
+        final Map<String, software.amazon.glue.table.TableInput> desired = Translator.resolveTables(model);
+        final Map<String, software.amazon.glue.table.TableInput> previous =
+                Translator.resolveTables(request.getPreviousResourceState());
+
+        // a table is updated in place only if it keeps its name, renamed tables are replaced
+        final List<String> toDelete = new ArrayList<>();
+        for (String tableName : previous.keySet()) {
+            if (!desired.containsKey(tableName)) {
+                toDelete.add(tableName);
+            }
+        }
+        final List<String> toUpdate = new ArrayList<>();
+        final List<String> toCreate = new ArrayList<>();
+        for (Map.Entry<String, software.amazon.glue.table.TableInput> table : desired.entrySet()) {
+            if (!previous.containsKey(table.getKey())) {
+                toCreate.add(table.getKey());
+            } else if (!Objects.equals(previous.get(table.getKey()), table.getValue())) {
+                toUpdate.add(table.getKey());
+            }
+        }
+
+        final HandlerLogger log = new HandlerLogger(logger);
+        log.info("EnteredUpdateHandler", "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(), "DatabaseName", model.getDatabaseName(),
+                "Name", model.getName(), "TablesToDelete", toDelete.size(), "TablesToUpdate", toUpdate.size(),
+                "TablesToCreate", toCreate.size());
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> writeTables(
+                        DELETE_PHASE,
+                        toDelete,
+                        tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.translateToDeleteRequest(model, tableName),
+                                proxyClient.client()::deleteTable),
+                        ImmutableSet.of(ENTITY_NOT_FOUND_EXCEPTION),
+                        Collections.emptySet(),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> writeTables(
+                        UPDATE_PHASE,
+                        toUpdate,
+                        tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.translateToUpdateRequest(model, desired.get(tableName)),
+                                proxyClient.client()::updateTable),
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> writeTables(
+                        CREATE_PHASE,
+                        toCreate,
+                        tableName -> proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.translateToCreateRequest(model, desired.get(tableName)),
+                                proxyClient.client()::createTable),
+                        Collections.emptySet(),
+                        ImmutableSet.of(ALREADY_EXISTS_EXCEPTION),
+                        model,
+                        callbackContext,
+                        log))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
+    }
+}
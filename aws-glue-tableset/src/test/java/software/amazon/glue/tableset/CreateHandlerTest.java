@@ -0,0 +1,263 @@
+package software.amazon.glue.tableset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.CreateTableResponse;
+import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteTableResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private CreateHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new CreateHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    static ResourceModel model(final int tableCount) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("classification", "parquet");
+        parameters.put("owner", "platform");
+
+        final List<TableSetMember> tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(TableSetMember.builder()
+                    .name("events_" + i)
+                    .tableInput(TableInput.builder()
+                            .parameters(Collections.singletonMap("tenant", "tenant-" + i))
+                            .storageDescriptor(StorageDescriptor.builder()
+                                    .location("s3://bucket/events/tenant=" + i)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return ResourceModel.builder()
+                .databaseName("test-database")
+                .name("events")
+                .tableInput(TableInput.builder()
+                        .tableType("EXTERNAL_TABLE")
+                        .parameters(parameters)
+                        .storageDescriptor(StorageDescriptor.builder()
+                                .columns(Collections.singletonList(Column.builder().name("id").type("bigint").build()))
+                                .location("s3://bucket/events/default")
+                                .build())
+                        .build())
+                .tables(tables)
+                .build();
+    }
+
+    @Test
+    public void handleRequest_MergesOverridesOntoBase() {
+        final ResourceModel model = model(2);
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<CreateTableRequest> captor = ArgumentCaptor.forClass(CreateTableRequest.class);
+        verify(glueClient, times(2)).createTable(captor.capture());
+        final CreateTableRequest first = captor.getAllValues().stream()
+                .filter(createRequest -> createRequest.tableInput().name().equals("events_0"))
+                .findFirst()
+                .get();
+        assertThat(first.databaseName()).isEqualTo("test-database");
+        assertThat(first.tableInput().tableType()).isEqualTo("EXTERNAL_TABLE");
+        assertThat(first.tableInput().parameters())
+                .containsEntry("classification", "parquet")
+                .containsEntry("owner", "platform")
+                .containsEntry("tenant", "tenant-0");
+        assertThat(first.tableInput().storageDescriptor().location()).isEqualTo("s3://bucket/events/tenant=0");
+        assertThat(first.tableInput().storageDescriptor().columns()).hasSize(1);
+    }
+
+    @Test
+    public void handleRequest_ResumesAcrossInvocations() {
+        final ResourceModel model = model(BaseHandlerStd.MAX_TABLES_PER_INVOCATION + 20);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> pending =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getPendingTableNames().get(CreateHandler.CREATE_PHASE)).hasSize(20);
+        verify(glueClient, times(BaseHandlerStd.MAX_TABLES_PER_INVOCATION)).createTable(any(CreateTableRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(BaseHandlerStd.MAX_TABLES_PER_INVOCATION + 20)).createTable(any(CreateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RetriesThrottledTable() {
+        final ResourceModel model = model(3);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(model, null);
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class))).thenAnswer(invocation -> {
+            final CreateTableRequest createRequest = invocation.getArgument(0);
+            if (createRequest.tableInput().name().equals("events_1")) {
+                throw exceptionCreator(BaseHandlerStd.THROTTLING_EXCEPTION);
+            }
+            return CreateTableResponse.builder().build();
+        });
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> pending =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(pending.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getPendingTableNames().get(CreateHandler.CREATE_PHASE)).containsExactly("events_1");
+        assertThat(callbackContext.getRetriedTableNames().get(CreateHandler.CREATE_PHASE)).containsExactly("events_1");
+        assertThat(callbackContext.getRetryAttempts()).isEqualTo(1);
+
+        // the throttled call was applied after all
+        doThrow(exceptionCreator(BaseHandlerStd.ALREADY_EXISTS_EXCEPTION))
+                .when(glueClient).createTable(any(CreateTableRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(4)).createTable(any(CreateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ExistingTable_ShouldFail() {
+        final ResourceModel model = model(1);
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ALREADY_EXISTS_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getMessage()).contains("events_0");
+        verify(glueClient, never()).deleteTable(any(DeleteTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FailsPartway_DeletesCreatedTables() {
+        final ResourceModel model = model(3);
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class))).thenAnswer(invocation -> {
+            final CreateTableRequest createRequest = invocation.getArgument(0);
+            if (createRequest.tableInput().name().equals("events_2")) {
+                throw exceptionCreator(BaseHandlerStd.INVALID_INPUT_EXCEPTION);
+            }
+            return CreateTableResponse.builder().build();
+        });
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenReturn(DeleteTableResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("events_2");
+        final ArgumentCaptor<DeleteTableRequest> captor = ArgumentCaptor.forClass(DeleteTableRequest.class);
+        verify(glueClient, times(2)).deleteTable(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DeleteTableRequest::name)
+                .containsExactlyInAnyOrder("events_0", "events_1");
+        assertThat(callbackContext.getWrittenTableNames().get(CreateHandler.CREATE_PHASE)).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_RetriedTablesAreKeptPerPhase() {
+        final ResourceModel model = model(1);
+        final CallbackContext callbackContext = new CallbackContext();
+        // a table retried by another phase must not turn AlreadyExists into success here
+        callbackContext.getRetriedTableNames().put(UpdateHandler.UPDATE_PHASE, Collections.singletonList("events_0"));
+
+        when(proxyClient.client().createTable(any(CreateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ALREADY_EXISTS_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+    }
+
+    @Test
+    public void handleRequest_InvalidTable_FailsBeforeAnyCall() {
+        final ResourceModel model = model(3);
+        model.getTables().get(2).getTableInput().getStorageDescriptor()
+                .setColumns(Collections.singletonList(Column.builder().name("id").type("bignt").build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).startsWith("Table [ events_2 ]: TableInput.StorageDescriptor.Columns[0].Type");
+        verify(glueClient, never()).createTable(any(CreateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DuplicateTableName_ShouldFail() {
+        final ResourceModel model = model(2);
+        model.getTables().get(1).setName("events_0");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        verify(glueClient, never()).createTable(any(CreateTableRequest.class));
+    }
+}
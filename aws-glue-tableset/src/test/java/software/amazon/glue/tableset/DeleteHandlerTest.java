@@ -0,0 +1,91 @@
+package software.amazon.glue.tableset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteTableResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private DeleteHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new DeleteHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        final ResourceModel model = CreateHandlerTest.model(3);
+
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenReturn(DeleteTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        verify(glueClient, times(3)).deleteTable(any(DeleteTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TableAlreadyGone_ShouldSucceed() {
+        final ResourceModel model = CreateHandlerTest.model(2);
+
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenReturn(DeleteTableResponse.builder().build())
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_AccessDenied_ShouldFail() {
+        final ResourceModel model = CreateHandlerTest.model(1);
+
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+    }
+}
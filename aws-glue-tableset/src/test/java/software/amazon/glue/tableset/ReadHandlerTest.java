@@ -0,0 +1,151 @@
+package software.amazon.glue.tableset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTableRequest;
+import software.amazon.awssdk.services.glue.model.GetTableResponse;
+import software.amazon.awssdk.services.glue.model.Table;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private ReadHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new ReadHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        final ResourceModel model = CreateHandlerTest.model(3);
+
+        when(proxyClient.client().getTable(any(GetTableRequest.class)))
+                .thenAnswer(invocation -> getTableResponse(model, invocation.getArgument(0)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTableInput()).isEqualTo(model.getTableInput());
+        assertThat(response.getResourceModel().getTables()).isEqualTo(model.getTables());
+    }
+
+    @Test
+    public void handleRequest_TableChangedOutsideStack_ReportsActualValues() {
+        final ResourceModel model = CreateHandlerTest.model(2);
+        final ResourceModel drifted = CreateHandlerTest.model(2);
+        drifted.getTables().get(1).getTableInput().getStorageDescriptor().setLocation("s3://other-bucket/events");
+        drifted.getTables().get(1).getTableInput().setDescription("changed by hand");
+
+        when(proxyClient.client().getTable(any(GetTableRequest.class)))
+                .thenAnswer(invocation -> getTableResponse(drifted, invocation.getArgument(0)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTables()).isEqualTo(drifted.getTables());
+        assertThat(response.getResourceModel().getTables()).isNotEqualTo(model.getTables());
+    }
+
+    @Test
+    public void handleRequest_TableMatchesBase_HasNoOverrides() {
+        final ResourceModel model = CreateHandlerTest.model(1);
+        final ResourceModel plain = CreateHandlerTest.model(1);
+        plain.setTables(Collections.singletonList(TableSetMember.builder().name("events_0").build()));
+
+        when(proxyClient.client().getTable(any(GetTableRequest.class)))
+                .thenAnswer(invocation -> getTableResponse(plain, invocation.getArgument(0)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTables()).containsExactly(TableSetMember.builder().name("events_0").build());
+    }
+
+    @Test
+    public void handleRequest_MissingTable_IsOmitted() {
+        final ResourceModel model = CreateHandlerTest.model(3);
+
+        when(proxyClient.client().getTable(any(GetTableRequest.class))).thenAnswer(invocation -> {
+            final GetTableRequest getRequest = invocation.getArgument(0);
+            if (getRequest.name().equals("events_1")) {
+                throw exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION);
+            }
+            return getTableResponse(model, getRequest);
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTables())
+                .extracting(TableSetMember::getName)
+                .containsExactly("events_0", "events_2");
+    }
+
+    @Test
+    public void handleRequest_NoTableExists_ShouldReturnNotFound() {
+        final ResourceModel model = CreateHandlerTest.model(2);
+
+        when(proxyClient.client().getTable(any(GetTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(model, null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    /**
+     * Answers GetTable with the table as the given model would have created it.
+     */
+    private static GetTableResponse getTableResponse(final ResourceModel model, final GetTableRequest getRequest) {
+        final software.amazon.awssdk.services.glue.model.TableInput tableInput = Translator.translateToCreateRequest(
+                model, Translator.resolveTables(model).get(getRequest.name())).tableInput();
+        return GetTableResponse.builder()
+                .table(Table.builder()
+                        .databaseName(getRequest.databaseName())
+                        .name(tableInput.name())
+                        .description(tableInput.description())
+                        .tableType(tableInput.tableType())
+                        .parameters(tableInput.parameters())
+                        .storageDescriptor(tableInput.storageDescriptor())
+                        .partitionKeys(tableInput.partitionKeys())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package software.amazon.glue.tableset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.CreateTableRequest;
+import software.amazon.awssdk.services.glue.model.CreateTableResponse;
+import software.amazon.awssdk.services.glue.model.DeleteTableRequest;
+import software.amazon.awssdk.services.glue.model.DeleteTableResponse;
+import software.amazon.awssdk.services.glue.model.UpdateTableRequest;
+import software.amazon.awssdk.services.glue.model.UpdateTableResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateHandlerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<GlueClient> proxyClient;
+
+    @Mock
+    GlueClient glueClient;
+
+    private UpdateHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        glueClient = mock(glueClient.getClass());
+        handler = new UpdateHandler(glueClient);
+        proxyClient = MOCK_PROXY(proxy, glueClient);
+    }
+
+    @Test
+    public void handleRequest_DeletesUpdatesAndCreatesChangedTables() {
+        final ResourceModel previous = CreateHandlerTest.model(3);
+        final ResourceModel desired = CreateHandlerTest.model(3);
+        // events_0 is unchanged, events_1 changes, events_2 is replaced by events_3
+        desired.getTables().get(1).getTableInput().getStorageDescriptor().setLocation("s3://bucket/events/moved");
+        desired.getTables().get(2).setName("events_3");
+
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenReturn(DeleteTableResponse.builder().build());
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+        when(proxyClient.client().createTable(any(CreateTableRequest.class)))
+                .thenReturn(CreateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(desired, previous), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final InOrder order = inOrder(glueClient);
+        final ArgumentCaptor<DeleteTableRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteTableRequest.class);
+        order.verify(glueClient).deleteTable(deleteCaptor.capture());
+        final ArgumentCaptor<UpdateTableRequest> updateCaptor = ArgumentCaptor.forClass(UpdateTableRequest.class);
+        order.verify(glueClient).updateTable(updateCaptor.capture());
+        final ArgumentCaptor<CreateTableRequest> createCaptor = ArgumentCaptor.forClass(CreateTableRequest.class);
+        order.verify(glueClient).createTable(createCaptor.capture());
+
+        assertThat(deleteCaptor.getValue().name()).isEqualTo("events_2");
+        assertThat(updateCaptor.getValue().tableInput().name()).isEqualTo("events_1");
+        assertThat(updateCaptor.getValue().tableInput().storageDescriptor().location()).isEqualTo("s3://bucket/events/moved");
+        assertThat(createCaptor.getValue().tableInput().name()).isEqualTo("events_3");
+    }
+
+    @Test
+    public void handleRequest_BaseChange_UpdatesEveryTable() {
+        final ResourceModel previous = CreateHandlerTest.model(3);
+        final ResourceModel desired = CreateHandlerTest.model(3);
+        desired.getTableInput().getStorageDescriptor()
+                .setColumns(Collections.singletonList(Column.builder().name("id").type("string").build()));
+
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenReturn(UpdateTableResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(desired, previous), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(3)).updateTable(any(UpdateTableRequest.class));
+        verify(glueClient, never()).deleteTable(any(DeleteTableRequest.class));
+        verify(glueClient, never()).createTable(any(CreateTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DeletedTableAlreadyGone_ShouldSucceed() {
+        final ResourceModel previous = CreateHandlerTest.model(2);
+        final ResourceModel desired = CreateHandlerTest.model(1);
+
+        when(proxyClient.client().deleteTable(any(DeleteTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(desired, previous), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient).deleteTable(any(DeleteTableRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdatedTableMissing_ShouldFail() {
+        final ResourceModel previous = CreateHandlerTest.model(1);
+        final ResourceModel desired = CreateHandlerTest.model(1);
+        desired.getTableInput().setOwner("analytics");
+
+        when(proxyClient.client().updateTable(any(UpdateTableRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, generateResourceHandlerRequest(desired, previous), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+}